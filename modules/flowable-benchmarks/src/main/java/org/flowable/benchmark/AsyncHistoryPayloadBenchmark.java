@@ -0,0 +1,150 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.SmileAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Encodes and decodes the payload of an async history job, for the JSON and Smile formats, with and without gzip compression.
+ *
+ * The history data is taken from real history jobs: those of process instances of the one task process, from start to completion,
+ * grouped into one job. The size of the encoded payload is logged during setup, so the output has both the size and the CPU cost per format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncHistoryPayloadBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryPayloadBenchmark.class);
+
+    @Param({ "json", "json-gzip", "smile", "smile-gzip" })
+    protected String format;
+
+    @Param({ "1", "10" })
+    protected int processInstances;
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected boolean gzip;
+    protected JsonNode historyData;
+    protected byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jobServiceConfiguration = new JobServiceConfiguration();
+        jobServiceConfiguration.setObjectMapper(objectMapper);
+        if (format.startsWith("smile")) {
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec());
+        }
+        gzip = format.endsWith("gzip");
+
+        historyData = createHistoryData(objectMapper);
+        payload = encode();
+        LOGGER.info("Payload size for {} process instance(s) as {}: {} bytes", processInstances, format, payload.length);
+    }
+
+    protected JsonNode createHistoryData(ObjectMapper objectMapper) throws IOException {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setEngineName("async-history-payload-benchmark");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-async-history-payload-benchmark;DB_CLOSE_DELAY=1000");
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            processEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/benchmark/oneTaskProcess.bpmn20.xml")
+                    .deploy();
+            for (int i = 0; i < processInstances; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            }
+            for (Task task : processEngine.getTaskService().createTaskQuery().list()) {
+                processEngine.getTaskService().complete(task.getId());
+            }
+
+            ArrayNode historyData = objectMapper.createArrayNode();
+            for (HistoryJob historyJob : processEngine.getManagementService().createHistoryJobQuery().list()) {
+                byte[] jobBytes = processEngine.getManagementService().executeCommand((Command<byte[]>) commandContext
+                        -> ((HistoryJobEntity) historyJob).getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+                historyData.addAll((ArrayNode) objectMapper.readTree(jobBytes));
+            }
+            return historyData;
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        byte[] bytes = AsyncHistoryJsonUtil.encodeHistoryData(jobServiceConfiguration, historyData);
+        if (gzip) {
+            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+                try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+                    gos.write(bytes);
+                }
+                bytes = baos.toByteArray();
+            }
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        byte[] bytes = payload;
+        if (gzip) {
+            try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = IoUtil.readInputStream(gis, "async-history-payload");
+            }
+        }
+        return AsyncHistoryJsonUtil.decodeHistoryData(jobServiceConfiguration, bytes);
+    }
+
+}
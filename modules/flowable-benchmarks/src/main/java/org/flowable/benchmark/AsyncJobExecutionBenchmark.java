@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts process instances with an asynchronous service task and waits until the {@link DefaultAsyncJobExecutor} has executed all the jobs.
+ * The result is the number of process instances per second for which the job was created and executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncJobExecutionBenchmark {
+
+    protected static final int JOBS_PER_INVOCATION = 100;
+    protected static final long MAX_WAIT_TIME_MILLIS = 60000L;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected ManagementService managementService;
+
+    @Setup
+    public void setup() {
+        processEngine = new StandaloneInMemProcessEngineConfiguration()
+                .setAsyncExecutor(new DefaultAsyncJobExecutor())
+                .setAsyncExecutorActivate(true)
+                .setEngineName("async-job-execution-benchmark")
+                .setJdbcUrl("jdbc:h2:mem:flowable-async-job-execution-benchmark;DB_CLOSE_DELAY=1000")
+                .buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/asyncServiceTaskProcess.bpmn20.xml")
+                .deploy();
+        runtimeService = processEngine.getRuntimeService();
+        managementService = processEngine.getManagementService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JOBS_PER_INVOCATION)
+    public void executeAsyncJobs() throws InterruptedException {
+        for (int i = 0; i < JOBS_PER_INVOCATION; i++) {
+            runtimeService.startProcessInstanceByKey("asyncServiceTaskProcess");
+        }
+
+        long maxWaitTime = System.currentTimeMillis() + MAX_WAIT_TIME_MILLIS;
+        while (managementService.createJobQuery().count() > 0) {
+            if (System.currentTimeMillis() > maxWaitTime) {
+                throw new FlowableException("Jobs were not executed within " + MAX_WAIT_TIME_MILLIS + " ms");
+            }
+            Thread.sleep(1L);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converts BPMN XML to a {@link BpmnModel} with the {@link BpmnXMLConverter}, as done when deploying a process definition,
+ * for a small process and for a process with diagram interchange information.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BpmnXmlParseBenchmark {
+
+    @Param({ "oneTaskProcess.bpmn20.xml", "invoiceProcess.bpmn20.xml" })
+    protected String resource;
+
+    @Param({ "true", "false" })
+    protected boolean validateSchema;
+
+    protected byte[] bpmnXml;
+
+    @Setup
+    public void setup() {
+        bpmnXml = IoUtil.readInputStream(BpmnXmlParseBenchmark.class.getResourceAsStream(resource), resource);
+    }
+
+    @Benchmark
+    public BpmnModel convertToBpmnModel() {
+        return new BpmnXMLConverter().convertToBpmnModel(() -> new ByteArrayInputStream(bpmnXml), validateSchema, false);
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts a case instance with a human task and a milestone with an entry sentry, and evaluates the if part sentries
+ * of a case instance with ten plan items waiting to be activated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CmmnCaseBenchmark {
+
+    protected CmmnEngine cmmnEngine;
+    protected CmmnRuntimeService cmmnRuntimeService;
+    protected String sentryCaseInstanceId;
+    protected AtomicInteger counter = new AtomicInteger();
+
+    @Setup
+    public void setup() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setCmmnEngineName("cmmn-case-benchmark");
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-cmmn-case-benchmark;DB_CLOSE_DELAY=1000");
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/oneHumanTaskCase.cmmn")
+                .addClasspathResource("org/flowable/benchmark/sentryCase.cmmn")
+                .deploy();
+        cmmnRuntimeService = cmmnEngine.getCmmnRuntimeService();
+
+        sentryCaseInstanceId = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryCase")
+                .variables(Collections.singletonMap("counter", 0))
+                .start()
+                .getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        cmmnEngine.close();
+    }
+
+    @Benchmark
+    public CaseInstance startCaseInstance() {
+        return cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneHumanTaskCase")
+                .start();
+    }
+
+    @Benchmark
+    public void evaluateSentries() {
+        // Changing a variable evaluates the sentries of all plan items that are waiting to be activated
+        cmmnRuntimeService.setVariable(sentryCaseInstanceId, "counter", counter.incrementAndGet());
+    }
+
+}
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.api.CmmnTaskService;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates the sentries of a case instance with hundreds of plan items. Every plan item waits for the completion of the previous one,
+ * so every lifecycle transition and every variable change evaluates the sentries of all the plan items of the case instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CmmnLargeCaseBenchmark {
+
+    @Param({ "100", "300" })
+    protected int planItemCount;
+
+    protected CmmnEngine cmmnEngine;
+    protected CmmnRuntimeService cmmnRuntimeService;
+    protected CmmnTaskService cmmnTaskService;
+    protected String largeCaseInstanceId;
+    protected AtomicInteger counter = new AtomicInteger();
+
+    @Setup
+    public void setup() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setCmmnEngineName("cmmn-large-case-benchmark");
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-cmmn-large-case-benchmark;DB_CLOSE_DELAY=1000");
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addString("largeCase.cmmn", createLargeCaseModel(planItemCount))
+                .deploy();
+        cmmnRuntimeService = cmmnEngine.getCmmnRuntimeService();
+        cmmnTaskService = cmmnEngine.getCmmnTaskService();
+
+        largeCaseInstanceId = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("largeCase")
+                .start()
+                .getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        cmmnEngine.close();
+    }
+
+    @Benchmark
+    public CaseInstance startCaseInstanceAndCompleteTask() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("largeCase")
+                .start();
+
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+        return caseInstance;
+    }
+
+    @Benchmark
+    public void evaluateSentries() {
+        // Changing a variable evaluates the sentries of all plan items that are waiting to be activated
+        cmmnRuntimeService.setVariable(largeCaseInstanceId, "counter", counter.incrementAndGet());
+    }
+
+    protected String createLargeCaseModel(int planItemCount) {
+        StringBuilder planItems = new StringBuilder();
+        StringBuilder sentries = new StringBuilder();
+        for (int i = 1; i <= planItemCount; i++) {
+            planItems.append("<planItem id=\"planItem").append(i).append("\" definitionRef=\"humanTask\"");
+            if (i == 1) {
+                planItems.append("/>\n");
+            } else {
+                planItems.append("><entryCriterion id=\"criterion").append(i).append("\" sentryRef=\"sentry").append(i).append("\"/></planItem>\n");
+                sentries.append("<sentry id=\"sentry").append(i).append("\"><planItemOnPart id=\"onPart").append(i)
+                        .append("\" sourceRef=\"planItem").append(i - 1).append("\"><standardEvent>complete</standardEvent></planItemOnPart></sentry>\n");
+            }
+        }
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<definitions xmlns=\"http://www.omg.org/spec/CMMN/20151109/MODEL\" targetNamespace=\"http://flowable.org/cmmn\">\n"
+                + "<case id=\"largeCase\"><casePlanModel id=\"largeCasePlanModel\">\n"
+                + planItems
+                + sentries
+                + "<humanTask id=\"humanTask\" name=\"Task\"/>\n"
+                + "</casePlanModel></case>\n"
+                + "</definitions>\n";
+    }
+
+}
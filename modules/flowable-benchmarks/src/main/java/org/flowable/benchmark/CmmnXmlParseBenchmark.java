@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.converter.CmmnXmlConverter;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converts CMMN XML to a {@link CmmnModel} with the {@link CmmnXmlConverter}, as done when deploying a case definition,
+ * for a case with one human task and for a case with sentries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CmmnXmlParseBenchmark {
+
+    @Param({ "oneHumanTaskCase.cmmn", "sentryCase.cmmn" })
+    protected String resource;
+
+    @Param({ "true", "false" })
+    protected boolean validateSchema;
+
+    protected byte[] cmmnXml;
+
+    @Setup
+    public void setup() {
+        cmmnXml = IoUtil.readInputStream(CmmnXmlParseBenchmark.class.getResourceAsStream(resource), resource);
+    }
+
+    @Benchmark
+    public CmmnModel convertToCmmnModel() {
+        return new CmmnXmlConverter().convertToCmmnModel(() -> new ByteArrayInputStream(cmmnXml), validateSchema, false);
+    }
+
+}
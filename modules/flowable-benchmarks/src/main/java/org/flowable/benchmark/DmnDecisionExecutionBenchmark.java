@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a decision table with several inputs and outputs, of which multiple rules match, through the {@link DmnRuleService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DmnDecisionExecutionBenchmark {
+
+    protected DmnEngine dmnEngine;
+    protected DmnRuleService ruleService;
+    protected Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setEngineName("dmn-decision-execution-benchmark");
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-dmn-decision-execution-benchmark;DB_CLOSE_DELAY=1000");
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/riskRating.dmn")
+                .deploy();
+        ruleService = dmnEngine.getDmnRuleService();
+
+        variables = new HashMap<>();
+        variables.put("age", 17);
+        variables.put("riskcategory", "HIGH");
+        variables.put("debtreview", true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executeDecision() {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(variables)
+                .execute();
+    }
+
+}
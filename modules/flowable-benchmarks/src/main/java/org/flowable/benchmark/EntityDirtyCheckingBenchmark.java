@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of determining the updated entities at flush time for a loaded execution tree,
+ * using the persistent state snapshot stored by {@link CachedEntity} versus the dirty flag of the entities
+ * (see {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity}).
+ *
+ * Every invocation simulates a command: all executions are loaded, a few of them are changed and the changed ones are determined.
+ * Run with the -prof gc option to see the allocation rate of both approaches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDirtyCheckingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    protected int executionCount;
+
+    @Param({ "10" })
+    protected int changedPercentage;
+
+    protected List<ExecutionEntityImpl> executions;
+    protected int invocation;
+
+    @Setup
+    public void setup() {
+        executions = new ArrayList<>(executionCount);
+        for (int i = 0; i < executionCount; i++) {
+            ExecutionEntityImpl execution = new ExecutionEntityImpl();
+            execution.setId(String.valueOf(i));
+            execution.setProcessInstanceId("0");
+            execution.setParentId(i > 0 ? "0" : null);
+            execution.setProcessDefinitionId("oneTaskProcess:1:1");
+            execution.setActivityId("task" + i);
+            execution.setActive(true);
+            execution.setScope(i == 0);
+            execution.setCountEnabled(true);
+            execution.setTaskCount(1);
+            execution.setVariableCount(2);
+            executions.add(execution);
+        }
+    }
+
+    @Benchmark
+    public void persistentStateSnapshot(Blackhole blackhole) {
+        List<CachedEntity> cachedEntities = new ArrayList<>(executionCount);
+        for (ExecutionEntityImpl execution : executions) {
+            cachedEntities.add(new CachedEntity(execution, true));
+        }
+
+        changeExecutions();
+
+        for (CachedEntity cachedEntity : cachedEntities) {
+            if (cachedEntity.hasChanged()) {
+                blackhole.consume(cachedEntity.getEntity());
+            }
+        }
+    }
+
+    @Benchmark
+    public void dirtyTracking(Blackhole blackhole) {
+        List<CachedEntity> cachedEntities = new ArrayList<>(executionCount);
+        for (ExecutionEntityImpl execution : executions) {
+            execution.setDirty(false);
+            cachedEntities.add(new CachedEntity(execution, false));
+        }
+
+        changeExecutions();
+
+        for (CachedEntity cachedEntity : cachedEntities) {
+            if (((ExecutionEntityImpl) cachedEntity.getEntity()).isDirty()) {
+                blackhole.consume(cachedEntity.getEntity());
+            }
+        }
+    }
+
+    protected void changeExecutions() {
+        String activityId = "changedTask" + (invocation++ % 2);
+        int step = Math.max(1, 100 / changedPercentage);
+        for (int i = 0; i < executionCount; i += step) {
+            executions.get(i).setActivityId(activityId);
+        }
+    }
+
+}
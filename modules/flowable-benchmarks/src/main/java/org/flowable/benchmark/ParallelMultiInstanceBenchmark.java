@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts a process instance with a parallel multi instance async service task over a collection of 1000 elements
+ * and waits until the {@link DefaultAsyncJobExecutor} has executed all instances and the process instance has ended.
+ * Compares the default completion of the instances, which updates the loop variables of the multi instance root execution
+ * and retries on optimistic locking exceptions, with the async aggregation of the completed instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ParallelMultiInstanceBenchmark {
+
+    protected static final int NUMBER_OF_ELEMENTS = 1000;
+    protected static final long MAX_WAIT_TIME_MILLIS = 300000L;
+
+    @Param({ "false", "true" })
+    public boolean asyncAggregation;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected List<Integer> elements;
+
+    @Setup
+    public void setup() {
+        processEngine = new StandaloneInMemProcessEngineConfiguration()
+                // All jobs of the multi instance activity fit in the queue and are acquired quickly, so the result doesn't depend on the job acquisition
+                .setAsyncExecutorThreadPoolQueueSize(NUMBER_OF_ELEMENTS)
+                .setAsyncExecutorMaxAsyncJobsDuePerAcquisition(NUMBER_OF_ELEMENTS)
+                .setAsyncExecutorDefaultAsyncJobAcquireWaitTime(100)
+                .setAsyncExecutorDefaultTimerJobAcquireWaitTime(100)
+                // Instances that fail with an optimistic locking exception are retried until they succeed
+                .setAsyncExecutorNumberOfRetries(Integer.MAX_VALUE)
+                .setMultiInstanceAsyncAggregationInterval(100)
+                .setAsyncExecutor(new DefaultAsyncJobExecutor())
+                .setAsyncExecutorActivate(true)
+                .setEngineName("parallel-multi-instance-benchmark")
+                .setJdbcUrl("jdbc:h2:mem:flowable-parallel-multi-instance-benchmark;DB_CLOSE_DELAY=1000")
+                .buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/parallelMultiInstanceProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/benchmark/parallelMultiInstanceAsyncAggregationProcess.bpmn20.xml")
+                .deploy();
+        runtimeService = processEngine.getRuntimeService();
+
+        elements = new ArrayList<>(NUMBER_OF_ELEMENTS);
+        for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+            elements.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public void executeParallelMultiInstance() throws InterruptedException {
+        String processDefinitionKey = asyncAggregation ? "parallelMultiInstanceAsyncAggregationProcess" : "parallelMultiInstanceProcess";
+        String processInstanceId = runtimeService.startProcessInstanceByKey(processDefinitionKey,
+                Collections.<String, Object>singletonMap("elements", elements)).getId();
+
+        long maxWaitTime = System.currentTimeMillis() + MAX_WAIT_TIME_MILLIS;
+        while (runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count() > 0) {
+            if (System.currentTimeMillis() > maxWaitTime) {
+                throw new FlowableException("Process instance did not end within " + MAX_WAIT_TIME_MILLIS + " ms");
+            }
+            Thread.sleep(10L);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Test;
+
+public class MultiInstanceAsyncAggregationConverterTest extends AbstractConverterTest {
+
+    @Test
+    public void convertXMLToModel() throws Exception {
+        BpmnModel bpmnModel = readXMLFile();
+        validateModel(bpmnModel);
+    }
+
+    @Test
+    public void convertModelToXML() throws Exception {
+        BpmnModel bpmnModel = readXMLFile();
+        BpmnModel parsedModel = exportAndReadXMLFile(bpmnModel);
+        validateModel(parsedModel);
+    }
+
+    @Override
+    protected String getResource() {
+        return "multiinstanceasyncaggregationmodel.bpmn";
+    }
+
+    private void validateModel(BpmnModel model) {
+        UserTask task = (UserTask) model.getMainProcess().getFlowElement("userTask1");
+        MultiInstanceLoopCharacteristics loopCharacteristics = task.getLoopCharacteristics();
+        assertFalse(loopCharacteristics.isSequential());
+        assertEquals("assignee", loopCharacteristics.getElementVariable());
+        assertTrue(loopCharacteristics.isAsyncAggregation());
+
+        task = (UserTask) model.getMainProcess().getFlowElement("userTask2");
+        loopCharacteristics = task.getLoopCharacteristics();
+        assertFalse(loopCharacteristics.isSequential());
+        assertFalse(loopCharacteristics.isAsyncAggregation());
+    }
+}
@@ -25,6 +25,7 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
     protected String elementVariable;
     protected String elementIndexVariable;
     protected boolean sequential;
+    protected boolean asyncAggregation;
 
     public String getInputDataItem() {
         return inputDataItem;
@@ -90,6 +91,14 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
         this.sequential = sequential;
     }
 
+    public boolean isAsyncAggregation() {
+        return asyncAggregation;
+    }
+
+    public void setAsyncAggregation(boolean asyncAggregation) {
+        this.asyncAggregation = asyncAggregation;
+    }
+
     @Override
     public MultiInstanceLoopCharacteristics clone() {
         MultiInstanceLoopCharacteristics clone = new MultiInstanceLoopCharacteristics();
@@ -108,5 +117,6 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
         setElementVariable(otherLoopCharacteristics.getElementVariable());
         setElementIndexVariable(otherLoopCharacteristics.getElementIndexVariable());
         setSequential(otherLoopCharacteristics.isSequential());
+        setAsyncAggregation(otherLoopCharacteristics.isAsyncAggregation());
     }
 }
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,7 +25,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -33,7 +33,6 @@ import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.stax.StAXSource;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 
 import org.apache.commons.lang3.StringUtils;
@@ -51,6 +50,7 @@ import org.flowable.cmmn.model.CmmnDiEdge;
 import org.flowable.cmmn.model.CmmnDiShape;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.CriterionIndex;
 import org.flowable.cmmn.model.DecisionTask;
 import org.flowable.cmmn.model.HasEntryCriteria;
 import org.flowable.cmmn.model.HasExitCriteria;
@@ -65,6 +65,7 @@ import org.flowable.cmmn.model.Task;
 import org.flowable.cmmn.model.TimerEventListener;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.io.InputStreamProvider;
+import org.flowable.common.engine.api.io.XMLConverterUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -143,17 +144,7 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     public CmmnModel convertToCmmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        }
+        XMLInputFactory xif = getXMLInputFactory();
 
         if (encoding == null) {
             encoding = DEFAULT_ENCODING;
@@ -250,20 +241,24 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(XSD_LOCATION));
+            xsdUrl = classloader.getResource(XSD_LOCATION);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(XSD_LOCATION));
+        if (xsdUrl == null) {
+            xsdUrl = this.getClass().getClassLoader().getResource(XSD_LOCATION);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new CmmnXMLException("CMND XSD could not be found");
         }
-        return schema;
+
+        return XMLConverterUtil.getSchema(xsdUrl);
+    }
+
+    protected XMLInputFactory getXMLInputFactory() {
+        return XMLConverterUtil.getXMLInputFactory();
     }
 
     public byte[] convertToXML(CmmnModel model) {
@@ -365,6 +360,15 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
             // Dependents
             planItem.getEntryDependencies().forEach(entryDependency -> entryDependency.addEntryDependentPlanItem(planItem));
             planItem.getExitDependencies().forEach(exitDependency -> exitDependency.addExitDependentPlanItem(planItem));
+
+            // Criteria indexed by the plan item transitions they listen to, used when evaluating the sentries at runtime
+            planItem.setEntryCriteriaIndex(new CriterionIndex(planItem.getEntryCriteria()));
+            planItem.setExitCriteriaIndex(new CriterionIndex(planItem.getExitCriteria()));
+        }
+
+        for (Case caze : cmmnModel.getCases()) {
+            Stage planModel = caze.getPlanModel();
+            planModel.setExitCriteriaIndex(new CriterionIndex(planModel.getExitCriteria()));
         }
 
 
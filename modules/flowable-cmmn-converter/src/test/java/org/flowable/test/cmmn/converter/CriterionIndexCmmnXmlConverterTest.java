@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.cmmn.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.CriterionIndex;
+import org.flowable.cmmn.model.PlanItem;
+import org.junit.Test;
+
+public class CriterionIndexCmmnXmlConverterTest extends AbstractConverterTest {
+
+    private static final String CMMN_RESOURCE = "org/flowable/test/cmmn/converter/criterion-index.cmmn";
+
+    @Test
+    public void convertXMLToModel() throws Exception {
+        CmmnModel cmmnModel = readXMLFile(CMMN_RESOURCE);
+        validateModel(cmmnModel);
+    }
+
+    @Test
+    public void convertModelToXML() throws Exception {
+        CmmnModel cmmnModel = readXMLFile(CMMN_RESOURCE);
+        CmmnModel parsedModel = exportAndReadXMLFile(cmmnModel);
+        validateModel(parsedModel);
+    }
+
+    public void validateModel(CmmnModel cmmnModel) {
+        PlanItem planItem = cmmnModel.findPlanItem("planItemC");
+        CriterionIndex entryCriteriaIndex = planItem.getEntryCriteriaIndex();
+        assertNotNull(entryCriteriaIndex);
+        assertTrue(entryCriteriaIndex.isIndexFor(planItem.getEntryCriteria()));
+
+        // criteria with an if part or multiple on parts are always evaluated, the others only for their on part
+        assertEquals("[criterion2, criterion3]", criterionIds(entryCriteriaIndex.getAlwaysEvaluatedCriteria()));
+        assertEquals("[criterion1, criterion2, criterion3]", criterionIds(entryCriteriaIndex.getCriteria("planItemA", "complete")));
+        assertEquals("[criterion2, criterion3, criterion4]", criterionIds(entryCriteriaIndex.getCriteria("planItemB", "complete")));
+        assertEquals("[criterion2, criterion3]", criterionIds(entryCriteriaIndex.getCriteria("planItemB", "start")));
+
+        CriterionIndex exitCriteriaIndex = planItem.getExitCriteriaIndex();
+        assertEquals("[criterion5]", criterionIds(exitCriteriaIndex.getCriteria("planItemB", "complete")));
+        assertEquals("[]", criterionIds(exitCriteriaIndex.getCriteria("planItemA", "complete")));
+
+        assertNotNull(cmmnModel.getPrimaryCase().getPlanModel().getExitCriteriaIndex());
+
+        // an index is not used anymore when the criteria are changed
+        planItem.getEntryCriteria().add(new Criterion());
+        assertFalse(entryCriteriaIndex.isIndexFor(planItem.getEntryCriteria()));
+    }
+
+    protected String criterionIds(List<Criterion> criteria) {
+        List<String> ids = new ArrayList<>();
+        for (Criterion criterion : criteria) {
+            ids.add(criterion.getId());
+        }
+        return ids.toString();
+    }
+
+}
@@ -238,10 +238,12 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
@@ -525,6 +527,57 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected long asyncExecutorSecondsToWaitOnShutdown = 60L;
 
+    /**
+     * If true, every job is executed on a new virtual thread (when supported by the JVM) instead of on the threadpool.
+     * The number of jobs executed at the same time is then limited by {@link #asyncExecutorVirtualThreadMaxConcurrentJobs}
+     * instead of by the threadpool and queue settings. Default value = false.
+     * <p>
+     * This property is only applicable when using the threadpool-based async executor.
+     */
+    protected boolean isAsyncExecutorVirtualThreadMode;
+
+    /**
+     * The maximum number of jobs that are executed at the same time in virtual thread mode.
+     * By default 0, meaning the maximum number of active connections of the connection pool created by the engine from the jdbc properties
+     * (see {@link #getDataSourceMaxActiveConnections()}) is used. When an external data source is used, its pool size isn't known
+     * and the max pool size of the async executor is used instead, so set this property to (at most) the size of that connection pool.
+     * <p>
+     * This property is only applicable when using the threadpool-based async executor.
+     */
+    protected int asyncExecutorVirtualThreadMaxConcurrentJobs;
+
+    /**
+     * If true, the number of async jobs acquired during one query and the time the acquisition thread waits between queries
+     * are adapted to the observed load, instead of using the fixed {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition}
+     * and {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. The batch size grows while full batches are acquired
+     * and shrinks on optimistic locking exceptions, the wait time follows the observed job arrival rate. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorAdaptiveJobAcquisition;
+
+    /**
+     * The maximum number of async jobs acquired during one query when adaptive job acquisition is enabled. Default value = 64.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorAdaptiveJobAcquisitionMaxBatchSize = 64;
+
+    /**
+     * The minimum time the acquisition thread waits between two queries when adaptive job acquisition is enabled
+     * and not a full batch of jobs was acquired. The maximum is {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. Default value = 100.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorAdaptiveJobAcquisitionMinWaitTime = 100;
+
+    /**
+     * When larger than 0, job acquisition is partitioned over the nodes of a cluster: every new async and timer job gets one of this number of shards,
+     * and each node only acquires the jobs of the shards it owns. The shards are redistributed when nodes join or leave (see {@link JobShardManager}).
+     * Should be the same on all nodes and preferably (a multiple of) the maximum number of nodes. Default value = 0 (no sharding).
+     */
+    protected int asyncExecutorJobShardCount;
+
     /**
      * The number of timer jobs that are acquired during one query
      * Before a job is executed, an acquirement thread fetches jobs from the database and puts them on the queue.
@@ -657,6 +710,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * Converts the async history data to the bytes stored with the history jobs. When null (the default), JSON is used.
+     * The SmileAsyncHistoryPayloadCodec can be used for a more compact binary format.
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     // More info: see similar async executor properties.
     protected int asyncHistoryExecutorNumberOfRetries = 10;
     protected int asyncHistoryExecutorCorePoolSize = 2;
@@ -674,6 +733,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorTimerJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
+
+    /**
+     * The number of history jobs the async history executor executes in one transaction,
+     * so that their historic entities are flushed with multi-row bulk inserts. 1 (the default) executes every history job in its own transaction.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
@@ -1576,8 +1641,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
+            if (this.asyncExecutorJobShardCount > 0) {
+                this.jobServiceConfiguration.setJobShardManager(new JobShardManager(this.asyncExecutorJobShardCount));
+            }
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
     
             this.jobServiceConfiguration.init();
@@ -1663,6 +1732,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Shutdown
             defaultAsyncExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
 
+            // Virtual threads
+            defaultAsyncExecutor.setVirtualThreadMode(isAsyncExecutorVirtualThreadMode);
+            defaultAsyncExecutor.setVirtualThreadMaxConcurrentJobs(asyncExecutorVirtualThreadMaxConcurrentJobs > 0 ? asyncExecutorVirtualThreadMaxConcurrentJobs : getDataSourceMaxActiveConnections());
+
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisition(isAsyncExecutorAdaptiveJobAcquisition);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionMaxBatchSize(asyncExecutorAdaptiveJobAcquisitionMaxBatchSize);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionMinWaitTimeInMillis(asyncExecutorAdaptiveJobAcquisitionMinWaitTime);
+
             asyncExecutor = defaultAsyncExecutor;
         }
 
@@ -1714,6 +1792,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
                 // Shutdown
                 defaultAsyncHistoryExecutor.setSecondsToWaitOnShutdown(asyncHistoryExecutorSecondsToWaitOnShutdown);
+
+                // Batch execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
     
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
                 
@@ -2788,6 +2869,60 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadMode() {
+        return isAsyncExecutorVirtualThreadMode;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreadMode(boolean isAsyncExecutorVirtualThreadMode) {
+        this.isAsyncExecutorVirtualThreadMode = isAsyncExecutorVirtualThreadMode;
+        return this;
+    }
+
+    public int getAsyncExecutorVirtualThreadMaxConcurrentJobs() {
+        return asyncExecutorVirtualThreadMaxConcurrentJobs;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreadMaxConcurrentJobs(int asyncExecutorVirtualThreadMaxConcurrentJobs) {
+        this.asyncExecutorVirtualThreadMaxConcurrentJobs = asyncExecutorVirtualThreadMaxConcurrentJobs;
+        return this;
+    }
+
+    public boolean isAsyncExecutorAdaptiveJobAcquisition() {
+        return isAsyncExecutorAdaptiveJobAcquisition;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveJobAcquisition(boolean isAsyncExecutorAdaptiveJobAcquisition) {
+        this.isAsyncExecutorAdaptiveJobAcquisition = isAsyncExecutorAdaptiveJobAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorAdaptiveJobAcquisitionMaxBatchSize() {
+        return asyncExecutorAdaptiveJobAcquisitionMaxBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveJobAcquisitionMaxBatchSize(int asyncExecutorAdaptiveJobAcquisitionMaxBatchSize) {
+        this.asyncExecutorAdaptiveJobAcquisitionMaxBatchSize = asyncExecutorAdaptiveJobAcquisitionMaxBatchSize;
+        return this;
+    }
+
+    public int getAsyncExecutorAdaptiveJobAcquisitionMinWaitTime() {
+        return asyncExecutorAdaptiveJobAcquisitionMinWaitTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveJobAcquisitionMinWaitTime(int asyncExecutorAdaptiveJobAcquisitionMinWaitTime) {
+        this.asyncExecutorAdaptiveJobAcquisitionMinWaitTime = asyncExecutorAdaptiveJobAcquisitionMinWaitTime;
+        return this;
+    }
+
+    public int getAsyncExecutorJobShardCount() {
+        return asyncExecutorJobShardCount;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobShardCount(int asyncExecutorJobShardCount) {
+        this.asyncExecutorJobShardCount = asyncExecutorJobShardCount;
+        return this;
+    }
+
     public int getAsyncExecutorMaxTimerJobsPerAcquisition() {
         return asyncExecutorMaxTimerJobsPerAcquisition;
     }
@@ -2969,6 +3104,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -3121,6 +3265,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.asyncHistoryExecutorResetExpiredJobsPageSize = asyncHistoryExecutorResetExpiredJobsPageSize;
         return this;
     }
+
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
     
     public boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled() {
         return isAsyncHistoryExecutorAsyncJobAcquisitionEnabled;
@@ -83,10 +83,13 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
         // - other operations are always planned before, as these can trigger new evaluation operations
         
         if (!operations.isEmpty() && !(operation instanceof EvaluateCriteriaOperation)) {
-            for (int i=0; i<operations.size(); i++) {
-                if (operations.get(i) instanceof EvaluateCriteriaOperation) {
+            // iterating instead of get(i), as the operations are a linked list
+            int i = 0;
+            for (Runnable plannedOperation : operations) {
+                if (plannedOperation instanceof EvaluateCriteriaOperation) {
                     return i;
                 }
+                i++;
             }
         }
         return -1;
@@ -38,6 +38,7 @@ import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CaseInstanceUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.CriterionIndex;
 import org.flowable.cmmn.model.EventListener;
 import org.flowable.cmmn.model.HasExitCriteria;
 import org.flowable.cmmn.model.PlanItem;
@@ -203,7 +204,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     }
 
     protected String evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
-        List<Criterion> criteria = planItem.getEntryCriteria();
+        List<Criterion> criteria = getCriteriaToEvaluate(planItem.getEntryCriteria(), planItem.getEntryCriteriaIndex());
         if (criteria != null && !criteria.isEmpty()) {
             return evaluateCriteria(planItemInstanceEntity, criteria);
         }
@@ -211,13 +212,29 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     }
 
     protected String evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) { // EntityWithSentryPartInstances -> can be used for both case instance and plan item instance
-        List<Criterion> criteria = hasExitCriteria.getExitCriteria();
+        List<Criterion> criteria = getCriteriaToEvaluate(hasExitCriteria.getExitCriteria(), hasExitCriteria.getExitCriteriaIndex());
         if (criteria != null && !criteria.isEmpty()) {
             return evaluateCriteria(entityWithSentryPartInstances, criteria);
         }
         return null;
     }
 
+    /**
+     * Uses the index created when the case model was parsed to leave out the criteria that can't be satisfied in this evaluation:
+     * criteria with only one onPart (and no ifPart) are only satisfied when that onPart matches the current lifecycle event.
+     * Without a (valid) index all criteria are evaluated.
+     */
+    protected List<Criterion> getCriteriaToEvaluate(List<Criterion> criteria, CriterionIndex criterionIndex) {
+        if (criteria == null || criterionIndex == null || !criterionIndex.isIndexFor(criteria)) {
+            return criteria;
+        }
+
+        if (planItemLifeCycleEvent != null) {
+            return criterionIndex.getCriteria(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition());
+        }
+        return criterionIndex.getAlwaysEvaluatedCriteria();
+    }
+
     /**
      * @return Returns the id of the criterion that is satisfied.
      *         If none is satisfied, null is returned.
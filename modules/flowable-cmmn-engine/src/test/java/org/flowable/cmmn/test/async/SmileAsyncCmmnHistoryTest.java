@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.SmileAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+/**
+ * Tests CMMN async history with the history data stored in the Smile format.
+ */
+public class SmileAsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return "SmileAsyncCmmnHistoryTest";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setAsyncHistoryEnabled(true);
+        cmmnEngineConfiguration.setAsyncExecutorActivate(false);
+        cmmnEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        cmmnEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        cmmnEngineConfiguration.setAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec());
+        cmmnEngineConfiguration.setAsyncFailedJobWaitTime(1);
+        cmmnEngineConfiguration.setDefaultFailedJobWaitTime(1);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        cmmnEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(1000);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/async/AsyncCmmnHistoryTest.testCaseInstanceStartAndEnd.cmmn")
+    public void testCaseInstanceStartAndEnd() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneHumanTaskCase")
+                .name("someName")
+                .start();
+
+        List<HistoryJob> historyJobs = cmmnManagementService.createHistoryJobQuery().list();
+        assertFalse(historyJobs.isEmpty());
+        AsyncHistoryPayloadCodec payloadCodec = cmmnEngineConfiguration.getAsyncHistoryPayloadCodec();
+        for (HistoryJob historyJob : historyJobs) {
+            byte[] payload = cmmnEngineConfiguration.getCommandExecutor().execute(
+                    commandContext -> ((HistoryJobEntity) historyJob).getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+            assertTrue(payloadCodec.canDecode(payload));
+        }
+
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+
+        HistoricCaseInstance historicCaseInstance = cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertEquals("someName", historicCaseInstance.getName());
+        assertNotNull(historicCaseInstance.getEndTime());
+        assertEquals(1, cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(caseInstance.getId()).finished().count());
+    }
+
+}
@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the entry or exit criteria of an element, created when the model is parsed,
+ * that gives the criteria that need to be evaluated for a lifecycle transition of a plan item.
+ *
+ * A criterion of which the sentry has exactly one onPart and no ifPart can only be satisfied by the transition of that onPart,
+ * so it is only returned for that source plan item and standard event.
+ * All other criteria depend on variables or on previously satisfied onParts and are always returned.
+ * The criteria are always returned in the order in which they are defined.
+ */
+public class CriterionIndex {
+
+    protected List<Criterion> criteria;
+    protected int criteriaCount;
+    protected List<Criterion> alwaysEvaluatedCriteria = new ArrayList<>();
+    protected Map<String, Map<String, List<Criterion>>> onPartCriteria = new HashMap<>(); // source ref -> standard event -> criteria
+
+    public CriterionIndex(List<Criterion> criteria) {
+        this.criteria = criteria;
+        this.criteriaCount = criteria.size();
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry != null && sentry.getOnParts().size() == 1 && sentry.getSentryIfPart() == null) {
+                SentryOnPart sentryOnPart = sentry.getOnParts().get(0);
+                onPartCriteria.computeIfAbsent(sentryOnPart.getSourceRef(), sourceRef -> new HashMap<>())
+                        .computeIfAbsent(sentryOnPart.getStandardEvent(), standardEvent -> new ArrayList<>(1))
+                        .add(criterion);
+            } else {
+                alwaysEvaluatedCriteria.add(criterion);
+            }
+        }
+    }
+
+    /**
+     * @return whether this index was created for the given criteria and these weren't changed afterwards.
+     */
+    public boolean isIndexFor(List<Criterion> criteria) {
+        return this.criteria == criteria && criteriaCount == criteria.size();
+    }
+
+    /**
+     * @return the criteria that can be satisfied when no lifecycle transition happened (e.g. after a variable change).
+     */
+    public List<Criterion> getAlwaysEvaluatedCriteria() {
+        return alwaysEvaluatedCriteria;
+    }
+
+    /**
+     * @return the criteria that can be satisfied by the given standard event of the plan item with the given id.
+     */
+    public List<Criterion> getCriteria(String sourceRef, String standardEvent) {
+        Map<String, List<Criterion>> sourceCriteria = onPartCriteria.get(sourceRef);
+        List<Criterion> matchingCriteria = sourceCriteria != null ? sourceCriteria.get(standardEvent) : null;
+        if (matchingCriteria == null) {
+            return alwaysEvaluatedCriteria;
+        } else if (alwaysEvaluatedCriteria.isEmpty()) {
+            return matchingCriteria;
+        }
+
+        List<Criterion> result = new ArrayList<>(matchingCriteria.size() + alwaysEvaluatedCriteria.size());
+        for (Criterion criterion : criteria) {
+            if (containsCriterion(matchingCriteria, criterion) || containsCriterion(alwaysEvaluatedCriteria, criterion)) {
+                result.add(criterion);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    protected boolean containsCriterion(List<Criterion> criteria, Criterion criterion) {
+        for (Criterion c : criteria) {
+            if (c == criterion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
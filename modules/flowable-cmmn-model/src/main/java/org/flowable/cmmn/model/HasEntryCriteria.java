@@ -27,4 +27,11 @@ public interface HasEntryCriteria {
     
     void setEntryCriteria(List<Criterion> entryCriteria);
 
+    /**
+     * @return the index of the entry criteria, or null if the criteria aren't indexed.
+     */
+    CriterionIndex getEntryCriteriaIndex();
+
+    void setEntryCriteriaIndex(CriterionIndex entryCriteriaIndex);
+
 }
@@ -27,4 +27,11 @@ public interface HasExitCriteria {
     
     void setExitCriteria(List<Criterion> exitCriteria);
 
+    /**
+     * @return the index of the exit criteria, or null if the criteria aren't indexed.
+     */
+    CriterionIndex getExitCriteriaIndex();
+
+    void setExitCriteriaIndex(CriterionIndex exitCriteriaIndex);
+
 }
@@ -27,6 +27,8 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
     protected List<String> criteriaRefs = new ArrayList<>();
     protected List<Criterion> entryCriteria = new ArrayList<>();
     protected List<Criterion> exitCriteria = new ArrayList<>();
+    protected CriterionIndex entryCriteriaIndex;
+    protected CriterionIndex exitCriteriaIndex;
     protected List<Association> incomingAssociations = new ArrayList<>();
     protected List<Association> outgoingAssociations = new ArrayList<>();
 
@@ -107,6 +109,16 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
         this.entryCriteria = entryCriteria;
     }
     
+    @Override
+    public CriterionIndex getEntryCriteriaIndex() {
+        return entryCriteriaIndex;
+    }
+
+    @Override
+    public void setEntryCriteriaIndex(CriterionIndex entryCriteriaIndex) {
+        this.entryCriteriaIndex = entryCriteriaIndex;
+    }
+
     @Override
     public void addExitCriterion(Criterion exitCriterion) {
         this.exitCriteria.add(exitCriterion);
@@ -121,6 +133,16 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
     public void setExitCriteria(List<Criterion> exitCriteria) {
         this.exitCriteria = exitCriteria;
     }
+
+    @Override
+    public CriterionIndex getExitCriteriaIndex() {
+        return exitCriteriaIndex;
+    }
+
+    @Override
+    public void setExitCriteriaIndex(CriterionIndex exitCriteriaIndex) {
+        this.exitCriteriaIndex = exitCriteriaIndex;
+    }
     
     @Override
     public void addIncomingAssociation(Association association) {
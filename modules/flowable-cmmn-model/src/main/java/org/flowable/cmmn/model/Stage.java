@@ -24,6 +24,7 @@ public class Stage extends PlanFragment implements HasExitCriteria {
 
     protected boolean isPlanModel;
     protected List<Criterion> exitCriteria = new ArrayList<>();
+    protected CriterionIndex exitCriteriaIndex;
     protected boolean autoComplete; 
     protected String autoCompleteCondition;
     protected String formKey; // For the start form of the plan model. Null otherwise
@@ -167,4 +168,14 @@ public class Stage extends PlanFragment implements HasExitCriteria {
         this.exitCriteria = exitCriteria;
     }
 
+    @Override
+    public CriterionIndex getExitCriteriaIndex() {
+        return exitCriteriaIndex;
+    }
+
+    @Override
+    public void setExitCriteriaIndex(CriterionIndex exitCriteriaIndex) {
+        this.exitCriteriaIndex = exitCriteriaIndex;
+    }
+
 }
@@ -15,6 +15,8 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +28,7 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    String continuationToken;
 
     public List<T> getData() {
         return data;
@@ -75,4 +78,13 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
 }
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPaginationQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 
@@ -77,12 +78,20 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getContinuationToken() == null) {
+            paginateRequest.setContinuationToken(requestParams.get("continuationToken"));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
     /**
      * Uses the pagination attributes perform the querying and render the response.
      *
+     * When the request has a continuation token (an empty one for the first page), keyset pagination is used instead of the start:
+     * the page contains the results after the last result of the previous page and the response contains the continuation token for the next page,
+     * as long as the page is full. The total isn't counted in that case and is returned as -1.
+     *
      * @param paginateRequest The paginated request that is used to get the pagination parameters from
      * @param query The query to get the paged list from
      * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
@@ -131,10 +140,15 @@ public interface PaginateListUtil {
         }
 
         DataResponse<RES> response = new DataResponse<>();
-        response.setStart(start);
         response.setSort(sort);
         response.setOrder(order);
 
+        if (paginateRequest.getContinuationToken() != null) {
+            return paginateListAfter(paginateRequest.getContinuationToken(), query, size, listProcessor, response);
+        }
+
+        response.setStart(start);
+
         // Get result and set pagination parameters
         List<RES> list = listProcessor.processList(query.listPage(start, size));
         if (start == 0 && list.size() < size) {
@@ -149,4 +163,30 @@ public interface PaginateListUtil {
         return response;
     }
 
+    /**
+     * Gets the page after the given continuation token with keyset pagination, see {@link KeysetPaginationQuery}.
+     */
+    @SuppressWarnings("unchecked")
+    static <RES, REQ> DataResponse<RES> paginateListAfter(String continuationToken, Query<?, REQ> query, int size,
+        ListProcessor<REQ, RES> listProcessor, DataResponse<RES> response) {
+        if (!(query instanceof KeysetPaginationQuery)) {
+            throw new FlowableIllegalArgumentException("Param 'continuationToken' is not supported for this query");
+        }
+
+        KeysetPaginationQuery<?, REQ> keysetPaginationQuery = (KeysetPaginationQuery<?, REQ>) query;
+        keysetPaginationQuery.continueAfter(continuationToken.isEmpty() ? null : continuationToken);
+
+        List<REQ> results = query.listPage(0, size);
+        if (size > 0 && results.size() == size) {
+            response.setContinuationToken(keysetPaginationQuery.createContinuationToken(results.get(results.size() - 1)));
+        }
+
+        List<RES> list = listProcessor.processList(results);
+        response.setTotal(-1);
+        response.setSize(list.size());
+        response.setData(list);
+
+        return response;
+    }
+
 }
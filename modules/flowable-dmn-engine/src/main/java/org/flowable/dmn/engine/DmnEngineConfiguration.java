@@ -181,6 +181,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to false to create the EL expressions of the decision table entries on every execution, instead of compiling
+     * the decision tables once when they are deployed (or put in the cache).
+     */
+    protected boolean decisionTableCompilationEnabled = true;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -949,6 +955,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isDecisionTableCompilationEnabled() {
+        return decisionTableCompilationEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableCompilationEnabled(boolean decisionTableCompilationEnabled) {
+        this.decisionTableCompilationEnabled = decisionTableCompilationEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
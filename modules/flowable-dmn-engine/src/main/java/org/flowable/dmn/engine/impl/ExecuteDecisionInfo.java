@@ -14,6 +14,8 @@ package org.flowable.dmn.engine.impl;
 
 import java.util.Map;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+
 public class ExecuteDecisionInfo {
 
     protected String decisionKey;
@@ -27,6 +29,7 @@ public class ExecuteDecisionInfo {
     protected Map<String, Object> variables;
     protected String tenantId;
     protected boolean fallbackToDefaultTenant;
+    protected CompiledDecisionTable compiledDecisionTable;
     
     public String getDecisionKey() {
         return decisionKey;
@@ -94,4 +97,10 @@ public class ExecuteDecisionInfo {
     public void setFallbackToDefaultTenant(boolean fallbackToDefaultTenant) {
         this.fallbackToDefaultTenant = fallbackToDefaultTenant;
     }
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
 }
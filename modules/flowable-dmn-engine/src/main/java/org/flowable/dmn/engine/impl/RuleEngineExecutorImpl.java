@@ -23,6 +23,9 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.el.CompiledOutputEntry;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -87,6 +90,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         // create execution context and audit trail
         ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables());
 
+        // only use the compiled entries when they were compiled for this decision table and expression manager
+        CompiledDecisionTable compiledDecisionTable = executeDecisionInfo.getCompiledDecisionTable();
+        if (compiledDecisionTable != null && compiledDecisionTable.isCompiledFor(currentDecisionTable, expressionManager)) {
+            executionContext.setCompiledDecisionTable(compiledDecisionTable);
+        }
+
         try {
             sanityCheckDecisionTable(currentDecisionTable);
 
@@ -256,9 +265,29 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            CompiledInputEntry compiledInputEntry = compiledDecisionTable.getInputEntry(ruleContainer.getInputEntry());
+            if (compiledInputEntry != null) {
+                return compiledInputEntry.evaluate(executionContext);
+            }
+        }
+
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
+    protected Object executeOutputExpressionEvaluation(RuleOutputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            CompiledOutputEntry compiledOutputEntry = compiledDecisionTable.getOutputEntry(ruleContainer.getOutputEntry());
+            if (compiledOutputEntry != null) {
+                return compiledOutputEntry.evaluate(executionContext);
+            }
+        }
+
+        return ELExpressionExecutor.executeOutputExpression(ruleContainer.getOutputClause(), ruleContainer.getOutputEntry(), expressionManager, executionContext);
+    }
+
     protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
@@ -280,7 +309,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = executeOutputExpressionEvaluation(ruleClauseContainer, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // update execution context
@@ -21,13 +21,17 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DmnDeploymentQueryImpl;
 import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.DecisionTableCompiler;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
 
 /**
  * @author Yvo Swillens
@@ -147,9 +151,30 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
             throw new FlowableIllegalArgumentException("decisionTable is null");
         }
 
-        DecisionTableCacheEntry decisionTableCacheEntry = CommandContextUtil.getDmnEngineConfiguration().getDeploymentManager().resolveDecisionTable(decisionTable);
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DecisionTableCacheEntry decisionTableCacheEntry = dmnEngineConfiguration.getDeploymentManager().resolveDecisionTable(decisionTable);
         Decision decision = decisionTableCacheEntry.getDecision();
 
+        if (dmnEngineConfiguration.isDecisionTableCompilationEnabled()) {
+            executeDecisionInfo.setCompiledDecisionTable(resolveCompiledDecisionTable(decisionTableCacheEntry, dmnEngineConfiguration));
+        }
+
         return decision;
     }
+
+    protected CompiledDecisionTable resolveCompiledDecisionTable(DecisionTableCacheEntry decisionTableCacheEntry, DmnEngineConfiguration dmnEngineConfiguration) {
+        Decision decision = decisionTableCacheEntry.getDecision();
+        if (decision == null || !(decision.getExpression() instanceof DecisionTable)) {
+            return null;
+        }
+
+        // cache entries that were deserialized (e.g. from a distributed cache) or created by a custom deployer aren't compiled yet
+        CompiledDecisionTable compiledDecisionTable = decisionTableCacheEntry.getCompiledDecisionTable();
+        if (compiledDecisionTable == null) {
+            compiledDecisionTable = DecisionTableCompiler.compile((DecisionTable) decision.getExpression(),
+                    dmnEngineConfiguration.getRuleEngineExecutor().getExpressionManager());
+            decisionTableCacheEntry.setCompiledDecisionTable(compiledDecisionTable);
+        }
+        return compiledDecisionTable;
+    }
 }
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Map;
+
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.UnaryTests;
+
+/**
+ * The input and output entries of a {@link DecisionTable}, compiled by the {@link DecisionTableCompiler}.
+ *
+ * The entries are looked up by identity of the model elements, so a compiled table only applies to the decision table instance
+ * (and expression manager) it was compiled for. Entries that couldn't be compiled are absent and are evaluated as before.
+ * Instances are immutable after compilation and can be shared between threads.
+ */
+public class CompiledDecisionTable {
+
+    protected final DecisionTable decisionTable;
+    protected final ExpressionManager expressionManager;
+    protected final Map<UnaryTests, CompiledInputEntry> inputEntries;
+    protected final Map<LiteralExpression, CompiledOutputEntry> outputEntries;
+
+    public CompiledDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager,
+            Map<UnaryTests, CompiledInputEntry> inputEntries, Map<LiteralExpression, CompiledOutputEntry> outputEntries) {
+
+        this.decisionTable = decisionTable;
+        this.expressionManager = expressionManager;
+        this.inputEntries = inputEntries;
+        this.outputEntries = outputEntries;
+    }
+
+    public boolean isCompiledFor(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        return this.decisionTable == decisionTable && this.expressionManager == expressionManager;
+    }
+
+    public CompiledInputEntry getInputEntry(UnaryTests inputEntry) {
+        return inputEntries.get(inputEntry);
+    }
+
+    public CompiledOutputEntry getOutputEntry(LiteralExpression outputEntry) {
+        return outputEntries.get(outputEntry);
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    public ExpressionManager getExpressionManager() {
+        return expressionManager;
+    }
+
+    public Map<UnaryTests, CompiledInputEntry> getInputEntries() {
+        return inputEntries;
+    }
+
+    public Map<LiteralExpression, CompiledOutputEntry> getOutputEntries() {
+        return outputEntries;
+    }
+
+}
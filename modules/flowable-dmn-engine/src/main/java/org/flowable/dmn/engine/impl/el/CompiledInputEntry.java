@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * An input entry of a decision table of which the EL expression is created once, at deployment time.
+ *
+ * When the parsed expression is a simple test of a variable against a literal (e.g. <code>#{age &gt;= 18}</code> or
+ * <code>#{name.startsWith("A")}</code>), the test is evaluated directly on the variable value, using the same operator
+ * semantics as the EL implementation. All other expressions, or a variable that isn't available, fall back to the EL expression.
+ */
+public class CompiledInputEntry {
+
+    public enum Operator {
+
+        EQ, NE, LT, GT, LE, GE, CONTAINS, STARTS_WITH, ENDS_WITH;
+
+        /**
+         * @return the outcome of the test, or null if it can't be determined without the EL expression
+         */
+        public Boolean test(Object value, Object operand) {
+            try {
+                switch (this) {
+                    case EQ:
+                        return BooleanOperations.eq(TypeConverter.DEFAULT, value, operand);
+                    case NE:
+                        return BooleanOperations.ne(TypeConverter.DEFAULT, value, operand);
+                    case LT:
+                        return BooleanOperations.lt(TypeConverter.DEFAULT, value, operand);
+                    case GT:
+                        return BooleanOperations.gt(TypeConverter.DEFAULT, value, operand);
+                    case LE:
+                        return BooleanOperations.le(TypeConverter.DEFAULT, value, operand);
+                    case GE:
+                        return BooleanOperations.ge(TypeConverter.DEFAULT, value, operand);
+                    case CONTAINS:
+                        return value instanceof String ? ((String) value).contains((String) operand) : null;
+                    case STARTS_WITH:
+                        return value instanceof String ? ((String) value).startsWith((String) operand) : null;
+                    case ENDS_WITH:
+                        return value instanceof String ? ((String) value).endsWith((String) operand) : null;
+                    default:
+                        return null;
+                }
+
+            } catch (RuntimeException e) {
+                // let the EL expression produce the error
+                return null;
+            }
+        }
+    }
+
+    protected final String parsedExpression;
+    protected final Expression expression;
+    protected final String variableName;
+    protected final Operator operator;
+    protected final Object operand;
+
+    public CompiledInputEntry(String parsedExpression, Expression expression) {
+        this(parsedExpression, expression, null, null, null);
+    }
+
+    public CompiledInputEntry(String parsedExpression, Expression expression, String variableName, Operator operator, Object operand) {
+        this.parsedExpression = parsedExpression;
+        this.expression = expression;
+        this.variableName = variableName;
+        this.operator = operator;
+        this.operand = operand;
+    }
+
+    public Boolean evaluate(ELExecutionContext executionContext) {
+        if (operator != null) {
+            Map<String, Object> variables = executionContext.getStackVariables();
+            if (variables != null && variables.containsKey(variableName)) {
+                Boolean result = operator.test(variables.get(variableName), operand);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
+        return ELExpressionExecutor.executeInputExpression(parsedExpression, expression, executionContext);
+    }
+
+    public String getParsedExpression() {
+        return parsedExpression;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public Object getOperand() {
+        return operand;
+    }
+
+    public boolean isPredicate() {
+        return operator != null;
+    }
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import org.flowable.common.engine.api.delegate.Expression;
+
+/**
+ * An output entry of a decision table of which the EL expression is created once, at deployment time.
+ * Output entries that are a single literal (e.g. <code>"approved"</code> or <code>100</code>) don't need the EL expression at all.
+ */
+public class CompiledOutputEntry {
+
+    protected final String outputEntryText;
+    protected final Expression expression;
+    protected final boolean constant;
+    protected final Object constantValue;
+
+    public CompiledOutputEntry(String outputEntryText, Expression expression) {
+        this(outputEntryText, expression, false, null);
+    }
+
+    public CompiledOutputEntry(String outputEntryText, Expression expression, boolean constant, Object constantValue) {
+        this.outputEntryText = outputEntryText;
+        this.expression = expression;
+        this.constant = constant;
+        this.constantValue = constantValue;
+    }
+
+    public Object evaluate(ELExecutionContext executionContext) {
+        if (constant) {
+            return constantValue;
+        }
+        return ELExpressionExecutor.executeOutputExpression(outputEntryText, expression, executionContext);
+    }
+
+    public String getOutputEntryText() {
+        return outputEntryText;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public boolean isConstant() {
+        return constant;
+    }
+
+    public Object getConstantValue() {
+        return constantValue;
+    }
+
+}
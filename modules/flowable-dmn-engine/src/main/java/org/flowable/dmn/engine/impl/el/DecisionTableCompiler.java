@@ -0,0 +1,222 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles the entries of a {@link DecisionTable} into a {@link CompiledDecisionTable}.
+ *
+ * The entries are pre parsed the same way as during execution and the resulting EL expressions are created once,
+ * instead of for every rule of every execution. Input entries that compare the input variable with a literal and
+ * output entries that are a single literal are additionally turned into a direct check or a constant.
+ * Entries that can't be compiled are left out, so their errors surface during execution, as before.
+ */
+public class DecisionTableCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableCompiler.class);
+
+    protected static final String IDENTIFIER = "([A-Za-z_$][A-Za-z0-9_$]*)";
+
+    protected static final Pattern COMPARISON_PATTERN = Pattern.compile("^[#$]\\{\\s*" + IDENTIFIER + "\\s*(==|!=|<=|>=|<|>)\\s*(.+?)\\s*\\}$");
+    protected static final Pattern METHOD_PATTERN = Pattern.compile("^[#$]\\{\\s*" + IDENTIFIER + "\\s*\\.\\s*(contains|startsWith|endsWith)\\s*\\(\\s*(.+?)\\s*\\)\\s*\\}$");
+    protected static final Pattern LITERAL_EXPRESSION_PATTERN = Pattern.compile("^[#$]\\{\\s*(.+?)\\s*\\}$");
+
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("^(\"[^\"\\\\]*\"|'[^'\\\\]*')$");
+    protected static final Pattern INTEGER_LITERAL_PATTERN = Pattern.compile("^\\d+$");
+    protected static final Pattern FLOAT_LITERAL_PATTERN = Pattern.compile("^(\\d+\\.\\d*([eE][+-]?\\d+)?|\\.\\d+([eE][+-]?\\d+)?|\\d+[eE][+-]?\\d+)$");
+
+    protected static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "true", "false", "null", "instanceof", "empty", "div", "mod"));
+
+    protected static final Object NO_LITERAL = new Object();
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        Map<UnaryTests, CompiledInputEntry> inputEntries = new IdentityHashMap<>();
+        Map<LiteralExpression, CompiledOutputEntry> outputEntries = new IdentityHashMap<>();
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                CompiledInputEntry compiledInputEntry = compileInputEntry(inputContainer.getInputClause(), inputContainer.getInputEntry(), expressionManager);
+                if (compiledInputEntry != null) {
+                    inputEntries.put(inputContainer.getInputEntry(), compiledInputEntry);
+                }
+            }
+
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                CompiledOutputEntry compiledOutputEntry = compileOutputEntry(outputContainer.getOutputEntry(), expressionManager);
+                if (compiledOutputEntry != null) {
+                    outputEntries.put(outputContainer.getOutputEntry(), compiledOutputEntry);
+                }
+            }
+        }
+
+        LOGGER.debug("Compiled decision table {}: {} input entries, {} output entries", decisionTable.getId(), inputEntries.size(), outputEntries.size());
+
+        return new CompiledDecisionTable(decisionTable, expressionManager, inputEntries, outputEntries);
+    }
+
+    protected static CompiledInputEntry compileInputEntry(InputClause inputClause, UnaryTests inputEntry, ExpressionManager expressionManager) {
+        if (inputClause == null || inputClause.getInputExpression() == null || inputEntry == null) {
+            return null;
+        }
+
+        String inputExpression = inputClause.getInputExpression().getText();
+        String inputEntryText = inputEntry.getText();
+        if (StringUtils.isEmpty(inputExpression) || StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            return null;
+        }
+
+        try {
+            String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText, inputExpression, inputClause.getInputExpression().getTypeRef());
+            Expression expression = expressionManager.createExpression(parsedExpression);
+
+            Matcher comparisonMatcher = COMPARISON_PATTERN.matcher(parsedExpression);
+            if (comparisonMatcher.matches() && isVariableName(comparisonMatcher.group(1))) {
+                Object operand = parseLiteral(comparisonMatcher.group(3));
+                if (operand != NO_LITERAL) {
+                    return new CompiledInputEntry(parsedExpression, expression, comparisonMatcher.group(1), getComparisonOperator(comparisonMatcher.group(2)), operand);
+                }
+            }
+
+            Matcher methodMatcher = METHOD_PATTERN.matcher(parsedExpression);
+            if (methodMatcher.matches() && isVariableName(methodMatcher.group(1))) {
+                Object operand = parseLiteral(methodMatcher.group(3));
+                if (operand instanceof String) {
+                    return new CompiledInputEntry(parsedExpression, expression, methodMatcher.group(1), getMethodOperator(methodMatcher.group(2)), operand);
+                }
+            }
+
+            return new CompiledInputEntry(parsedExpression, expression);
+
+        } catch (Exception e) {
+            LOGGER.debug("Could not compile input entry {} of input clause {}", inputEntry.getId(), inputClause.getId(), e);
+            return null;
+        }
+    }
+
+    protected static CompiledOutputEntry compileOutputEntry(LiteralExpression outputEntry, ExpressionManager expressionManager) {
+        if (outputEntry == null || StringUtils.isEmpty(outputEntry.getText())) {
+            return null;
+        }
+
+        try {
+            String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
+            Expression expression = expressionManager.createExpression(parsedExpression);
+
+            Matcher literalMatcher = LITERAL_EXPRESSION_PATTERN.matcher(parsedExpression);
+            if (literalMatcher.matches()) {
+                Object value = parseLiteral(literalMatcher.group(1));
+                if (value != NO_LITERAL) {
+                    return new CompiledOutputEntry(outputEntry.getText(), expression, true, value);
+                }
+            }
+
+            return new CompiledOutputEntry(outputEntry.getText(), expression);
+
+        } catch (Exception e) {
+            LOGGER.debug("Could not compile output entry {}", outputEntry.getId(), e);
+            return null;
+        }
+    }
+
+    protected static boolean isVariableName(String identifier) {
+        return !RESERVED_WORDS.contains(identifier);
+    }
+
+    /**
+     * Parses the text as an EL literal, resulting in the same value as the EL implementation would.
+     *
+     * @return the value of the literal or {@link #NO_LITERAL} if the text isn't a (supported) literal
+     */
+    protected static Object parseLiteral(String text) {
+        if (STRING_LITERAL_PATTERN.matcher(text).matches()) {
+            return text.substring(1, text.length() - 1);
+        } else if ("true".equals(text)) {
+            return Boolean.TRUE;
+        } else if ("false".equals(text)) {
+            return Boolean.FALSE;
+        } else if ("null".equals(text)) {
+            return null;
+        }
+
+        boolean negative = text.startsWith("-");
+        String number = negative ? text.substring(1) : text;
+
+        Number value;
+        try {
+            if (INTEGER_LITERAL_PATTERN.matcher(number).matches()) {
+                value = Long.valueOf(number);
+            } else if (FLOAT_LITERAL_PATTERN.matcher(number).matches()) {
+                value = Double.valueOf(number);
+            } else {
+                return NO_LITERAL;
+            }
+
+        } catch (NumberFormatException e) {
+            return NO_LITERAL;
+        }
+
+        return negative ? NumberOperations.neg(TypeConverter.DEFAULT, value) : value;
+    }
+
+    protected static CompiledInputEntry.Operator getComparisonOperator(String operator) {
+        switch (operator) {
+            case "==":
+                return CompiledInputEntry.Operator.EQ;
+            case "!=":
+                return CompiledInputEntry.Operator.NE;
+            case "<":
+                return CompiledInputEntry.Operator.LT;
+            case ">":
+                return CompiledInputEntry.Operator.GT;
+            case "<=":
+                return CompiledInputEntry.Operator.LE;
+            default:
+                return CompiledInputEntry.Operator.GE;
+        }
+    }
+
+    protected static CompiledInputEntry.Operator getMethodOperator(String method) {
+        switch (method) {
+            case "contains":
+                return CompiledInputEntry.Operator.CONTAINS;
+            case "startsWith":
+                return CompiledInputEntry.Operator.STARTS_WITH;
+            default:
+                return CompiledInputEntry.Operator.ENDS_WITH;
+        }
+    }
+
+}
@@ -50,8 +50,12 @@ public class ELExpressionExecutor {
         String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry.getText(), inputExpression, inputClause.getInputExpression().getTypeRef());
 
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return executeInputExpression(parsedExpression, expression, executionContext);
+    }
+
+    public static Boolean executeInputExpression(String parsedExpression, Expression expression, ELExecutionContext executionContext) {
         RuleExpressionCondition condition = new RuleExpressionCondition(expression);
-        
+
         try {
             return condition.evaluate(executionContext.getStackVariables());
         } catch (Exception ex) {
@@ -74,13 +78,17 @@ public class ELExpressionExecutor {
         String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
         
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return executeOutputExpression(outputEntry.getText(), expression, executionContext);
+    }
+
+    public static Object executeOutputExpression(String outputEntryText, Expression expression, ELExecutionContext executionContext) {
         RuleExpressionOutput outputExpression = new RuleExpressionOutput(expression);
 
         try {
             return outputExpression.getValue(executionContext.getStackVariables());
         } catch (Exception ex) {
-            LOGGER.warn("Error while executing output entry: {}", outputEntry.getText(), ex);
-            throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
+            LOGGER.warn("Error while executing output entry: {}", outputEntryText, ex);
+            throw new FlowableDmnExpressionException("error while executing output entry", outputEntryText, ex);
         }
     }
 }
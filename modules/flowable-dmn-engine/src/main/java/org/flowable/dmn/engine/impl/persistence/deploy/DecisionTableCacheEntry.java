@@ -14,6 +14,7 @@ package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DmnDefinition;
@@ -29,6 +30,9 @@ public class DecisionTableCacheEntry implements Serializable {
     protected DmnDefinition dmnDefinition;
     protected Decision decision;
 
+    // compiled expressions aren't serializable, they are recreated when needed
+    protected transient CompiledDecisionTable compiledDecisionTable;
+
     public DecisionTableCacheEntry(DecisionTableEntity decisionTableEntity, DmnDefinition dmnDefinition, Decision decision) {
         this.decisionTableEntity = decisionTableEntity;
         this.dmnDefinition = dmnDefinition;
@@ -58,4 +62,12 @@ public class DecisionTableCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
 }
@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.persistence.deploy;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.DmnDefinition;
+
+/**
+ * Estimates the weight of a {@link DecisionTableCacheEntry} as the number of cells (input and output entries) of the decision tables
+ * in its {@link DmnDefinition}.
+ */
+public class DecisionTableCacheEntryWeigher implements DeploymentCacheWeigher<DecisionTableCacheEntry> {
+
+    @Override
+    public long weigh(String id, DecisionTableCacheEntry cacheEntry) {
+        long weight = 1;
+        DmnDefinition dmnDefinition = cacheEntry.getDmnDefinition();
+        if (dmnDefinition != null) {
+            for (Decision decision : dmnDefinition.getDecisions()) {
+                if (decision.getExpression() instanceof DecisionTable) {
+                    DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+                    int columns = decisionTable.getInputs().size() + decisionTable.getOutputs().size();
+                    weight += (long) (decisionTable.getRules().size() + 1) * columns;
+                }
+            }
+        }
+        return weight;
+    }
+
+}
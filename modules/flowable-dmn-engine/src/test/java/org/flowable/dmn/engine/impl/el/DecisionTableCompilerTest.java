@@ -0,0 +1,208 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.OutputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.junit.Test;
+
+public class DecisionTableCompilerTest {
+
+    protected ExpressionManager expressionManager = new DefaultExpressionManager();
+
+    @Test
+    public void compileInputEntries() {
+        assertPredicate("number", "< 10", CompiledInputEntry.Operator.LT, 10L);
+        assertPredicate("number", ">= -2.5", CompiledInputEntry.Operator.GE, -2.5);
+        assertPredicate("number", "10", CompiledInputEntry.Operator.EQ, 10L);
+        assertPredicate("string", "== 'test'", CompiledInputEntry.Operator.EQ, "test");
+        assertPredicate("string", "!= \"test\"", CompiledInputEntry.Operator.NE, "test");
+        assertPredicate("boolean", "== true", CompiledInputEntry.Operator.EQ, Boolean.TRUE);
+        assertPredicate("string", ".startsWith('te')", CompiledInputEntry.Operator.STARTS_WITH, "te");
+        assertPredicate("string", "#{input1.contains(\"es\")}", CompiledInputEntry.Operator.CONTAINS, "es");
+
+        assertFalse(compileInputEntry("number", "#{input1 > 5 && input1 < 10}").isPredicate());
+        assertFalse(compileInputEntry("string", "== 'a\\'b'").isPredicate());
+        assertFalse(compileInputEntry("string", ".contains(1)").isPredicate());
+
+        // invalid expressions are left to fail during execution
+        assertTrue(compile("number", "== 99999999999999999999", "'result'").getInputEntries().isEmpty());
+    }
+
+    @Test
+    public void evaluateLikeExpression() {
+        List<Object> values = Arrays.<Object>asList(null, 5, 10, 10L, 10.0, 12.5, -3, "10", "test", "other", true, false);
+        List<String> numberEntries = Arrays.asList("< 10", "> 10", "<= 10", ">= 10", "10", "!= 10", "== 10.0", "< -2.5");
+        List<String> stringEntries = Arrays.asList("== 'test'", "!= 'test'", "'10'", ".startsWith('te')", ".endsWith('st')", ".contains('es')");
+
+        for (Object value : values) {
+            for (String entry : numberEntries) {
+                assertSameOutcome("number", entry, value);
+            }
+            for (String entry : stringEntries) {
+                assertSameOutcome("string", entry, value);
+            }
+            assertSameOutcome("boolean", "== true", value);
+        }
+    }
+
+    @Test
+    public void evaluateWithoutVariable() {
+        CompiledInputEntry compiledInputEntry = compileInputEntry("number", "< 10");
+        ELExecutionContext executionContext = createExecutionContext(new HashMap<>());
+        try {
+            compiledInputEntry.evaluate(executionContext);
+
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("error while executing input entry"));
+            return;
+        }
+        throw new AssertionError("exception expected for unknown variable");
+    }
+
+    @Test
+    public void compileOutputEntries() {
+        assertConstant("'approved'", "approved");
+        assertConstant("\"approved\"", "approved");
+        assertConstant("100", 100L);
+        assertConstant("-1.5", -1.5);
+        assertConstant("false", Boolean.FALSE);
+
+        CompiledOutputEntry calculated = compileOutputEntry("input1 * 2");
+        assertFalse(calculated.isConstant());
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("input1", 21);
+        assertEquals(42L, calculated.evaluate(createExecutionContext(variables)));
+    }
+
+    @Test
+    public void skipEmptyEntries() {
+        CompiledDecisionTable compiledDecisionTable = compile("number", "-", "");
+        assertTrue(compiledDecisionTable.getInputEntries().isEmpty());
+        assertTrue(compiledDecisionTable.getOutputEntries().isEmpty());
+
+        compiledDecisionTable = compile("number", "", "#{");
+        assertTrue(compiledDecisionTable.getInputEntries().isEmpty());
+        assertTrue(compiledDecisionTable.getOutputEntries().isEmpty());
+    }
+
+    protected void assertPredicate(String typeRef, String inputEntryText, CompiledInputEntry.Operator operator, Object operand) {
+        CompiledInputEntry compiledInputEntry = compileInputEntry(typeRef, inputEntryText);
+        assertTrue(inputEntryText, compiledInputEntry.isPredicate());
+        assertEquals("input1", compiledInputEntry.getVariableName());
+        assertEquals(operator, compiledInputEntry.getOperator());
+        assertEquals(operand, compiledInputEntry.getOperand());
+    }
+
+    protected void assertConstant(String outputEntryText, Object value) {
+        CompiledOutputEntry compiledOutputEntry = compileOutputEntry(outputEntryText);
+        assertTrue(outputEntryText, compiledOutputEntry.isConstant());
+        assertEquals(value, compiledOutputEntry.getConstantValue());
+        assertEquals(value, ELExpressionExecutor.executeOutputExpression(outputEntryText, compiledOutputEntry.getExpression(),
+                createExecutionContext(new HashMap<>())));
+    }
+
+    protected void assertSameOutcome(String typeRef, String inputEntryText, Object value) {
+        CompiledInputEntry compiledInputEntry = compileInputEntry(typeRef, inputEntryText);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("input1", value);
+        ELExecutionContext executionContext = createExecutionContext(variables);
+
+        Object expected = evaluate(compiledInputEntry.getParsedExpression(), executionContext);
+        Object actual;
+        try {
+            actual = compiledInputEntry.evaluate(executionContext);
+        } catch (Exception e) {
+            actual = e.getClass();
+        }
+        assertEquals(inputEntryText + " with " + value, expected, actual);
+    }
+
+    protected Object evaluate(String parsedExpression, ELExecutionContext executionContext) {
+        try {
+            return ELExpressionExecutor.executeInputExpression(parsedExpression, expressionManager.createExpression(parsedExpression), executionContext);
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+
+    protected CompiledInputEntry compileInputEntry(String typeRef, String inputEntryText) {
+        CompiledDecisionTable compiledDecisionTable = compile(typeRef, inputEntryText, "'result'");
+        assertEquals(1, compiledDecisionTable.getInputEntries().size());
+        return compiledDecisionTable.getInputEntries().values().iterator().next();
+    }
+
+    protected CompiledOutputEntry compileOutputEntry(String outputEntryText) {
+        CompiledDecisionTable compiledDecisionTable = compile("number", "-", outputEntryText);
+        assertEquals(1, compiledDecisionTable.getOutputEntries().size());
+        CompiledOutputEntry compiledOutputEntry = compiledDecisionTable.getOutputEntries().values().iterator().next();
+        assertNull(compiledDecisionTable.getInputEntry(new UnaryTests()));
+        return compiledOutputEntry;
+    }
+
+    protected CompiledDecisionTable compile(String typeRef, String inputEntryText, String outputEntryText) {
+        LiteralExpression inputExpression = new LiteralExpression();
+        inputExpression.setText("input1");
+        inputExpression.setTypeRef(typeRef);
+        InputClause inputClause = new InputClause();
+        inputClause.setInputExpression(inputExpression);
+
+        OutputClause outputClause = new OutputClause();
+        outputClause.setName("output1");
+
+        UnaryTests inputEntry = new UnaryTests();
+        inputEntry.setText(inputEntryText);
+        LiteralExpression outputEntry = new LiteralExpression();
+        outputEntry.setText(outputEntryText);
+
+        DecisionRule rule = new DecisionRule();
+        rule.addInputEntry(new RuleInputClauseContainer(inputClause, inputEntry));
+        rule.addOutputEntry(new RuleOutputClauseContainer(outputClause, outputEntry));
+
+        DecisionTable decisionTable = new DecisionTable();
+        decisionTable.addInput(inputClause);
+        decisionTable.addOutput(outputClause);
+        decisionTable.addRule(rule);
+
+        CompiledDecisionTable compiledDecisionTable = DecisionTableCompiler.compile(decisionTable, expressionManager);
+        assertTrue(compiledDecisionTable.isCompiledFor(decisionTable, expressionManager));
+        assertFalse(compiledDecisionTable.isCompiledFor(new DecisionTable(), expressionManager));
+        return compiledDecisionTable;
+    }
+
+    protected ELExecutionContext createExecutionContext(Map<String, Object> variables) {
+        ELExecutionContext executionContext = new ELExecutionContext();
+        executionContext.setStackVariables(variables);
+        return executionContext;
+    }
+
+}
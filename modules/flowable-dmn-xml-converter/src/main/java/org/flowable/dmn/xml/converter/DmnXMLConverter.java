@@ -18,10 +18,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -30,11 +30,11 @@ import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.stax.StAXSource;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.io.InputStreamProvider;
+import org.flowable.common.engine.api.io.XMLConverterUtil;
 import org.flowable.dmn.converter.util.DmnXMLUtil;
 import org.flowable.dmn.model.BuiltinAggregator;
 import org.flowable.dmn.model.Decision;
@@ -118,8 +118,7 @@ public class DmnXMLConverter implements DmnXMLConstants {
 
     protected boolean isDMN12(InputStream is) {
         try {
-            XMLInputFactory xif = XMLInputFactory.newInstance();
-            XMLStreamReader xtr = xif.createXMLStreamReader(is);
+            XMLStreamReader xtr = getXMLInputFactory().createXMLStreamReader(is);
 
             return isDMN12(xtr);
         } catch (XMLStreamException e) {
@@ -149,20 +148,24 @@ public class DmnXMLConverter implements DmnXMLConstants {
     }
 
     protected Schema createSchema(String xsd) throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(xsd));
+            xsdUrl = classloader.getResource(xsd);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(xsd));
+        if (xsdUrl == null) {
+            xsdUrl = this.getClass().getClassLoader().getResource(xsd);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new DmnXMLException("DMN XSD could not be found");
         }
-        return schema;
+
+        return XMLConverterUtil.getSchema(xsdUrl);
+    }
+
+    protected XMLInputFactory getXMLInputFactory() {
+        return XMLConverterUtil.getXMLInputFactory();
     }
 
     public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
@@ -170,19 +173,7 @@ public class DmnXMLConverter implements DmnXMLConstants {
     }
 
     public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
-
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        }
+        XMLInputFactory xif = getXMLInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
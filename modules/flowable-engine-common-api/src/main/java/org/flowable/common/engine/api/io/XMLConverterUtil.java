@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.io;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.xml.sax.SAXException;
+
+/**
+ * Shares the {@link XMLInputFactory} and the compiled XSD schemas between the XML converters of the engines.
+ * Looking up the StAX implementation and compiling an XSD are expensive, while the configured factory and the compiled schemas
+ * can be used by multiple threads.
+ */
+public class XMLConverterUtil {
+
+    protected static final Map<String, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+    protected static volatile XMLInputFactory xmlInputFactory;
+
+    /**
+     * Returns the {@link XMLInputFactory} to read models with. It doesn't replace entity references and doesn't support
+     * external entities or DTDs.
+     */
+    public static XMLInputFactory getXMLInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            xif = XMLInputFactory.newInstance();
+
+            if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+                xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+            }
+
+            if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+                xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            }
+
+            if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+                xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            }
+
+            xmlInputFactory = xif;
+        }
+        return xif;
+    }
+
+    /**
+     * Returns the schema compiled from the XSD at the given location, compiling it on first use.
+     */
+    public static Schema getSchema(URL xsdUrl) {
+        return SCHEMAS.computeIfAbsent(xsdUrl.toExternalForm(), xsdLocation -> {
+            try {
+                return SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(xsdUrl);
+            } catch (SAXException e) {
+                throw new FlowableException("Could not compile XSD " + xsdLocation, e);
+            }
+        });
+    }
+
+}
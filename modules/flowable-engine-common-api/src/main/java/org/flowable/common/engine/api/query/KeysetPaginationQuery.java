@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+/**
+ * Describes the methods of a query that supports keyset (or seek) pagination.
+ *
+ * With keyset pagination a page is not selected by skipping the results of the previous pages (as {@link Query#listPage(int, int)} does),
+ * but by selecting the results that come after the last result of the previous page in the order of the query.
+ * The database can then use an index on the order columns to find the start of the page, so every page costs the same, no matter how deep.
+ *
+ * Typical usage is:
+ * <pre>
+ * TaskQuery query = taskService.createTaskQuery().orderByTaskCreateTime().asc().continueAfter(continuationToken);
+ * List&lt;Task&gt; page = query.listPage(0, 20);
+ * continuationToken = query.createContinuationToken(page.get(page.size() - 1));
+ * </pre>
+ */
+public interface KeysetPaginationQuery<T, U> {
+
+    /**
+     * Only select the results that come after the result the given continuation token was created for (see {@link #createContinuationToken(Object)}),
+     * in the order of this query. Use a <code>null</code> token to get the first page: this applies the same order, which always ends with the id,
+     * as the next pages. The pages should be retrieved with {@link Query#list()} or {@link Query#listPage(int, int)} with first result 0.
+     *
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException
+     *             when the query is executed and the order of the query isn't supported for keyset pagination, or the continuation token was created for a different order.
+     */
+    T continueAfter(String continuationToken);
+
+    /**
+     * Creates the continuation token for the given result, which should be the last result of the current page, to get the next page with {@link #continueAfter(String)}.
+     * The token contains the values of the result for the order columns of this query.
+     */
+    String createContinuationToken(U lastResult);
+
+}
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.api.query;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Describes basic methods for querying.
@@ -61,4 +62,14 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * Executes the query and get a list of entities as the result.
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * Executes the query and passes the resulting entities one by one to the given consumer, instead of returning them as a list.
+     * Queries that support it stream the results from the database without keeping them in memory, which makes this suitable for
+     * iterating over very large result sets. Note that the consumer is called while the query is executed, within the same transaction,
+     * and that the entities it gets are read-only snapshots.
+     */
+    default void forEach(Consumer<? super U> consumer) {
+        list().forEach(consumer);
+    }
 }
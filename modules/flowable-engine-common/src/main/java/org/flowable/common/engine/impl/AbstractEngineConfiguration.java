@@ -170,6 +170,32 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, the updates and deletes of a flush are executed as JDBC batches (grouped per statement) instead of one statement per entity.
+     * The optimistic locking check is still done per row, which requires a JDBC driver that returns the update count of every batched statement.
+     * Default false.
+     */
+    protected boolean isBatchedFlushEnabled;
+
+    /**
+     * If set to true, entities implementing {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity} flag their own changes,
+     * and the flush only looks at this flag instead of building and comparing the persistent state of every cached entity.
+     * Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * The JDBC fetch size of the statements that stream their results with a cursor, like {@link org.flowable.common.engine.api.query.Query#forEach}.
+     * Without a fetch size, the MySQL and PostgreSQL drivers load the complete result in memory before the first row is returned.
+     * <p>
+     * MySQL only streams with a positive fetch size when useCursorFetch=true is set on the JDBC url. Otherwise use Integer.MIN_VALUE, which streams
+     * row by row but doesn't allow other statements on the same connection (so in the consumer) while the results are read.
+     * PostgreSQL only streams when auto commit is off, which is the case as the results are read in the transaction of the query.
+     * <p>
+     * Set to 0 to use the default fetch size of the JDBC driver. Default 100.
+     */
+    protected int streamingFetchSize = 100;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
     protected Set<Class<?>> customMybatisMappers;
@@ -600,6 +626,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(isEntityDirtyTrackingEnabled);
+        dbSqlSessionFactory.setStreamingFetchSize(streamingFetchSize);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -890,6 +919,18 @@ public abstract class AbstractEngineConfiguration {
         return dataSource;
     }
 
+    /**
+     * Returns the maximum number of active connections of the data source when it is a MyBatis {@link PooledDataSource},
+     * as is the case when the data source is created from the jdbc properties. Returns 0 for any other (external) data source,
+     * as its maximum isn't known to the engine: {@link #jdbcMaxActiveConnections} only applies to the data source created by the engine.
+     */
+    public int getDataSourceMaxActiveConnections() {
+        if (dataSource instanceof PooledDataSource) {
+            return ((PooledDataSource) dataSource).getPoolMaximumActiveConnections();
+        }
+        return 0;
+    }
+
     public AbstractEngineConfiguration setDataSource(DataSource dataSource) {
         this.dataSource = dataSource;
         return this;
@@ -1255,6 +1296,33 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public int getStreamingFetchSize() {
+        return streamingFetchSize;
+    }
+
+    public AbstractEngineConfiguration setStreamingFetchSize(int streamingFetchSize) {
+        this.streamingFetchSize = streamingFetchSize;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -36,6 +37,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
+    protected transient Consumer<? super U> resultConsumer;
 
     protected AbstractQuery() {
         parameter = this;
@@ -128,6 +130,21 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    @Override
+    public void forEach(Consumer<? super U> consumer) {
+        this.resultType = ResultType.STREAM;
+        if (commandExecutor != null) {
+            this.resultConsumer = consumer;
+            try {
+                commandExecutor.execute(this);
+            } finally {
+                this.resultConsumer = null;
+            }
+        } else {
+            executeStream(Context.getCommandContext(), consumer);
+        }
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
@@ -145,6 +162,9 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
             return executeSingleResult(commandContext);
         } else if (resultType == ResultType.LIST_PAGE) {
             return executeList(commandContext);
+        } else if (resultType == ResultType.STREAM) {
+            executeStream(commandContext, resultConsumer);
+            return null;
         } else {
             return executeCount(commandContext);
         }
@@ -157,6 +177,16 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    /**
+     * Executes the actual query and passes the results one by one to the given consumer.
+     * By default the results are retrieved with {@link #executeList(CommandContext)}, queries that can stream their results from the database override this.
+     */
+    public void executeStream(CommandContext commandContext, Consumer<? super U> consumer) {
+        for (U result : executeList(commandContext)) {
+            consumer.accept(result);
+        }
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
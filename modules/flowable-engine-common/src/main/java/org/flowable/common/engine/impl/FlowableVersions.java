@@ -23,7 +23,7 @@ import org.flowable.common.engine.api.FlowableException;
  */
 public class FlowableVersions {
     
-    public static final String CURRENT_VERSION = "6.4.1.3"; // Note the extra .x at the end. To cater for snapshot releases with different database changes
+    public static final String CURRENT_VERSION = "6.4.1.4"; // Note the extra .x at the end. To cater for snapshot releases with different database changes
     
     public static final List<FlowableVersion> FLOWABLE_VERSIONS = new ArrayList<>();
     
@@ -101,6 +101,7 @@ public class FlowableVersions {
         FLOWABLE_VERSIONS.add(new FlowableVersion("6.4.1.0"));
         FLOWABLE_VERSIONS.add(new FlowableVersion("6.4.1.1"));
         FLOWABLE_VERSIONS.add(new FlowableVersion("6.4.1.2"));
+        FLOWABLE_VERSIONS.add(new FlowableVersion("6.4.1.3"));
 
         /* Current */
         FLOWABLE_VERSIONS.add(new FlowableVersion(CURRENT_VERSION));
@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
@@ -150,7 +151,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         if (checkCache) {
 
-            Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+            Collection<CachedEntity> cachedObjects = findCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter);
 
             if ((cachedObjects != null && cachedObjects.size() > 0) || getManagedEntitySubClasses() != null) {
 
@@ -173,7 +174,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                        Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                        Collection<CachedEntity> subclassCachedObjects = findCachedObjects(entitySubClass, cachedEntityMatcher, parameter);
                         if (subclassCachedObjects != null) {
                             for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -206,7 +207,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
     @SuppressWarnings("unchecked")
     protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter) {
-        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+        Collection<CachedEntity> cachedObjects = findCachedObjects(getManagedEntityClass(), entityMatcher, parameter);
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
@@ -222,7 +223,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         if (getManagedEntitySubClasses() != null && entityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                Collection<CachedEntity> subclassCachedObjects = findCachedObjects(entitySubClass, entityMatcher, parameter);
                 if (subclassCachedObjects != null) {
                     for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -257,10 +258,10 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     }
 
     protected void deleteCachedEntities(DbSqlSession dbSqlSession,  CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
-        deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass()), cachedEntityMatcher, parameter);
+        deleteCachedEntities(dbSqlSession, findCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter), cachedEntityMatcher, parameter);
         if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(entitySubClass), cachedEntityMatcher, parameter);
+                deleteCachedEntities(dbSqlSession, findCachedObjects(entitySubClass, cachedEntityMatcher, parameter), cachedEntityMatcher, parameter);
             }
         }
     }
@@ -282,6 +283,30 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         }
     }
     
+    /**
+     * Returns the cached entities of the given type that can be retained by the given matcher.
+     * If the matcher is an {@link IndexedCachedEntityMatcher}, these are looked up with an index of the cache. Otherwise, all cached entities of the type are returned.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findCachedObjects(Class<?> entityClass, CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            String indexValue = indexedMatcher.getIndexValueForParameter(parameter);
+            if (indexValue != null) {
+                return getEntityCache().findInCacheAsCachedObjects(entityClass, indexedMatcher, indexValue);
+            }
+        }
+        return getEntityCache().findInCacheAsCachedObjects(entityClass);
+    }
+
+    /**
+     * @return whether all entities of the given type that reference the entity with the given logical name and id have been fetched in the cache,
+     *         for example by prefetching the entities of a process instance. See {@link EntityCache#addFetchedScope(Class, String, String)}.
+     */
+    protected boolean isFetchedScope(Class<?> entityClass, String entityLogicalName, String entityId) {
+        return getEntityCache().isFetchedScope(entityClass, entityLogicalName, entityId);
+    }
+
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
         Class<?> executionEntityClass = dbSqlSession.getDbSqlSessionFactory().getLogicalNameToClassMapping().get(entityLogicalName);
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
@@ -13,7 +13,9 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,8 +25,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.Page;
@@ -33,6 +42,7 @@ import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +59,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -100,6 +111,9 @@ public class DbSqlSession implements Session {
     public void update(Entity entity) {
         entityCache.put(entity, false); // false -> we don't store state, meaning it will always be seen as changed
         entity.setUpdated(true);
+        if (entity instanceof DirtyTrackingEntity) {
+            ((DirtyTrackingEntity) entity).setDirty(true);
+        }
     }
 
     public int update(String statement, Object parameters) {
@@ -207,6 +221,28 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Executes the select statement with a MyBatis {@link Cursor} and passes the results one by one to the given consumer while the cursor is open.
+     * Contrary to the selectList methods, the loaded entities are not put in (nor looked up in) the entity cache, so the memory used
+     * doesn't grow with the number of results. The consumer should therefore not change the entities it gets.
+     * <p>
+     * The statement is executed with the {@link DbSqlSessionFactory#getStreamingFetchSize() streaming fetch size}, without which some JDBC drivers
+     * (MySQL, PostgreSQL) read the complete result before returning the first row. The results are read in the transaction of this session,
+     * which PostgreSQL requires to stream, as it only does so with auto commit off.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void selectWithCursor(String statement, ListQueryParameterObject parameter, Consumer<? super T> consumer) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.getStreamingStatement(dbSqlSessionFactory.mapStatement(statement));
+        try (Cursor<Object> cursor = sqlSession.selectCursor(statement, parameter)) {
+            for (Object result : cursor) {
+                consumer.accept((T) result);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not close cursor of statement " + statement, e);
+        }
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -239,7 +275,7 @@ public class DbSqlSession implements Session {
             return null;
         }
 
-        entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+        cachePutLoadedEntity(entity);
         return entity;
     }
 
@@ -272,10 +308,28 @@ public class DbSqlSession implements Session {
         if (cachedEntity != null) {
             return cachedEntity;
         }
-        entityCache.put(entity, true);
+        cachePutLoadedEntity(entity);
         return entity;
     }
 
+    /**
+     * Puts an entity that was just loaded from the database in the cache. By default, the persistent state is stored so it can later be
+     * determined if the entity was updated. With entity dirty tracking enabled, entities implementing {@link DirtyTrackingEntity}
+     * don't need this: their dirty flag is reset (the setters called while loading don't count as changes) and checked at flush time.
+     */
+    protected void cachePutLoadedEntity(Entity entity) {
+        if (isDirtyTracked(entity)) {
+            ((DirtyTrackingEntity) entity).setDirty(false);
+            entityCache.put(entity, false);
+        } else {
+            entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+        }
+    }
+
+    protected boolean isDirtyTracked(Entity entity) {
+        return dbSqlSessionFactory.isEntityDirtyTrackingEnabled() && entity instanceof DirtyTrackingEntity;
+    }
+
     // flush
     // ////////////////////////////////////////////////////////////////////
 
@@ -341,7 +395,7 @@ public class DbSqlSession implements Session {
 
                 if (!isEntityInserted(cachedEntity) &&
                         (cachedEntity instanceof AlwaysUpdatedPersistentObject || !isEntityToBeDeleted(cachedEntity)) &&
-                        cachedObject.hasChanged()) {
+                        hasChanged(cachedObject)) {
 
                     updatedObjects.add(cachedEntity);
                 }
@@ -349,6 +403,14 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected boolean hasChanged(CachedEntity cachedObject) {
+        Entity cachedEntity = cachedObject.getEntity();
+        if (isDirtyTracked(cachedEntity)) {
+            return ((DirtyTrackingEntity) cachedEntity).isDirty();
+        }
+        return cachedObject.hasChanged();
+    }
+
     protected void debugFlush() {
         LOGGER.debug("Flushing dbSqlSession");
         int nrOfInserts = 0;
@@ -490,28 +552,67 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
             }
+        }
+        updatedObjects.clear();
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
+
+        LOGGER.debug("updating: {}", updatedObject);
 
-            LOGGER.debug("updating: {}", updatedObject);
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
+
+    /**
+     * Executes all updates as JDBC batches, one batch per update statement.
+     * The optimistic locking check is done per row, using the update counts returned by the batch.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatedObjectsByStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updatedObjectsByStatement.computeIfAbsent(getMappedUpdateStatement(updatedObject), statement -> new ArrayList<>()).add(updatedObject);
+        }
 
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Map.Entry<String, List<Entity>> entry : updatedObjectsByStatement.entrySet()) {
+            for (Entity updatedObject : entry.getValue()) {
+                LOGGER.debug("updating (batched): {}", updatedObject);
+                batchSqlSession.update(entry.getKey(), updatedObject);
             }
+        }
+        executeBatch(batchSqlSession, false);
 
+        for (Entity updatedObject : updatedObjects) {
             // See https://activiti.atlassian.net/browse/ACT-1290
             if (updatedObject instanceof HasRevision) {
                 ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
             }
+        }
+    }
 
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
         }
-        updatedObjects.clear();
+        return updateStatement;
     }
 
     protected void flushDeletes() {
@@ -556,12 +657,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -576,17 +678,88 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Executes the deletes of one entity type as a JDBC batch. As with regular deletes,
+     * only entities that have a revision are checked for optimistic locking.
+     */
+    protected void flushBatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            LOGGER.debug("deleting (batched): {}", entity);
+            batchSqlSession.delete(getMappedDeleteStatement(entity), entity);
+        }
+
+        // Executed immediately, as the deletes of the next entity type (and the bulk deletes) depend on the order
+        executeBatch(batchSqlSession, true);
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Executes the pending batched statements and checks the update count of every row.
+     *
+     * @param onlyRevisionedEntities if true, only the rows of entities implementing {@link HasRevision} are checked for optimistic locking
+     */
+    protected void executeBatch(SqlSession batchSqlSession, boolean onlyRevisionedEntities) {
+        List<BatchResult> batchResults = batchSqlSession.flushStatements();
+
+        // The batch session doesn't share the first level cache with the regular session
+        sqlSession.clearCache();
+
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (onlyRevisionedEntities && !(parameterObject instanceof HasRevision)) {
+                    continue;
+                }
+
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    throw new FlowableException("The JDBC driver did not return the update count for " + parameterObject
+                            + ", optimistic locking can't be verified. Disable the batched flush for this database.");
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazily creates a {@link SqlSession} using the MyBatis batch executor. It works on the connection of the regular session,
+     * so it takes part in the same transaction. Commit, rollback and close of the connection remain the responsibility of the regular session.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = sqlSession.getConfiguration();
+            ManagedTransaction transaction = new ManagedTransaction(sqlSession.getConnection(), false);
+            batchSqlSession = new DefaultSqlSession(configuration, configuration.newExecutor(transaction, ExecutorType.BATCH), false);
+        }
+        return batchSqlSession;
+    }
+
     @Override
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        // The regular session isn't marked as dirty for statements executed through the batch session, hence the forced commit
+        sqlSession.commit(batchSqlSession != null);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchSqlSession != null);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
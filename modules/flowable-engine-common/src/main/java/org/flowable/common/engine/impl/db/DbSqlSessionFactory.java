@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
@@ -62,6 +64,13 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean batchedFlushEnabled;
+
+    protected boolean entityDirtyTrackingEnabled;
+
+    protected int streamingFetchSize = 100;
+    protected Map<String, String> streamingStatements = new ConcurrentHashMap<>();
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -161,6 +170,45 @@ public class DbSqlSessionFactory implements SessionFactory {
         return (mappedStatement != null ? mappedStatement : statement);
     }
 
+    /**
+     * Returns the id of the statement to use for reading the results of the given (mapped) statement with a cursor: a copy of the statement
+     * that has the streaming fetch size, registered in the MyBatis configuration the first time it is needed. The original statement
+     * is returned when the streaming fetch size is 0, so the fetch size of the statement (or the default of the JDBC driver) is used.
+     */
+    public String getStreamingStatement(String statement) {
+        if (streamingFetchSize == 0) {
+            return statement;
+        }
+        return streamingStatements.computeIfAbsent(statement, this::addStreamingStatement);
+    }
+
+    protected String addStreamingStatement(String statement) {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        MappedStatement mappedStatement = configuration.getMappedStatement(statement);
+        String streamingStatement = statement + "_streaming";
+        synchronized (configuration) {
+            if (!configuration.hasStatement(streamingStatement, false)) {
+                configuration.addMappedStatement(new MappedStatement.Builder(configuration, streamingStatement,
+                        mappedStatement.getSqlSource(), mappedStatement.getSqlCommandType())
+                        .resource(mappedStatement.getResource())
+                        .databaseId(mappedStatement.getDatabaseId())
+                        .lang(mappedStatement.getLang())
+                        .statementType(mappedStatement.getStatementType())
+                        .parameterMap(mappedStatement.getParameterMap())
+                        .resultMaps(mappedStatement.getResultMaps())
+                        .resultSetType(mappedStatement.getResultSetType())
+                        .resultOrdered(mappedStatement.isResultOrdered())
+                        .timeout(mappedStatement.getTimeout())
+                        .fetchSize(streamingFetchSize)
+                        .flushCacheRequired(mappedStatement.isFlushCacheRequired())
+                        .useCache(mappedStatement.isUseCache())
+                        .cache(mappedStatement.getCache())
+                        .build());
+            }
+        }
+        return streamingStatement;
+    }
+
     // customized getters and setters
     // ///////////////////////////////////////////
 
@@ -202,6 +250,30 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return batchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean batchedFlushEnabled) {
+        this.batchedFlushEnabled = batchedFlushEnabled;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return entityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean entityDirtyTrackingEnabled) {
+        this.entityDirtyTrackingEnabled = entityDirtyTrackingEnabled;
+    }
+
+    public int getStreamingFetchSize() {
+        return streamingFetchSize;
+    }
+
+    public void setStreamingFetchSize(int streamingFetchSize) {
+        this.streamingFetchSize = streamingFetchSize;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -28,7 +28,7 @@ import org.flowable.common.engine.impl.Direction;
 public class ListQueryParameterObject {
     
     public static enum ResultType {
-        LIST, LIST_PAGE, SINGLE_RESULT, COUNT
+        LIST, LIST_PAGE, SINGLE_RESULT, COUNT, STREAM
     }
     
     public static final String SORTORDER_ASC = "asc";
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Secondary index of the cached entities of one entity class on the column of an {@link IndexedCachedEntityMatcher}.
+ *
+ * Entities that don't have a value for the column yet (e.g. because it is only set after the entity is inserted)
+ * are kept aside and indexed as soon as they have one.
+ */
+public class CachedEntityIndex {
+
+    protected IndexedCachedEntityMatcher<Entity> matcher;
+    protected Map<String, Map<String, CachedEntity>> entitiesByIndexValue = new HashMap<>();
+    protected Map<String, String> indexValues = new HashMap<>(); // entity id -> index value
+    protected Map<String, CachedEntity> unindexedEntities = new LinkedHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public CachedEntityIndex(IndexedCachedEntityMatcher<?> matcher, Collection<CachedEntity> cachedEntities) {
+        this.matcher = (IndexedCachedEntityMatcher<Entity>) matcher;
+        for (CachedEntity cachedEntity : cachedEntities) {
+            add(cachedEntity);
+        }
+    }
+
+    public void add(CachedEntity cachedEntity) {
+        Entity entity = cachedEntity.getEntity();
+        String indexValue = matcher.getIndexValue(entity);
+        if (indexValue != null) {
+            entitiesByIndexValue.computeIfAbsent(indexValue, value -> new LinkedHashMap<>()).put(entity.getId(), cachedEntity);
+            indexValues.put(entity.getId(), indexValue);
+        } else {
+            unindexedEntities.put(entity.getId(), cachedEntity);
+        }
+    }
+
+    public void remove(String entityId) {
+        String indexValue = indexValues.remove(entityId);
+        if (indexValue != null) {
+            Map<String, CachedEntity> entities = entitiesByIndexValue.get(indexValue);
+            entities.remove(entityId);
+            if (entities.isEmpty()) {
+                entitiesByIndexValue.remove(indexValue);
+            }
+        } else {
+            unindexedEntities.remove(entityId);
+        }
+    }
+
+    public Collection<CachedEntity> find(String indexValue) {
+        if (!unindexedEntities.isEmpty()) {
+            indexUnindexedEntities();
+        }
+
+        Map<String, CachedEntity> entities = entitiesByIndexValue.get(indexValue);
+        return entities != null ? entities.values() : Collections.<CachedEntity>emptyList();
+    }
+
+    protected void indexUnindexedEntities() {
+        Iterator<CachedEntity> unindexedIterator = unindexedEntities.values().iterator();
+        while (unindexedIterator.hasNext()) {
+            CachedEntity cachedEntity = unindexedIterator.next();
+            if (matcher.getIndexValue(cachedEntity.getEntity()) != null) {
+                unindexedIterator.remove();
+                add(cachedEntity);
+            }
+        }
+    }
+
+}
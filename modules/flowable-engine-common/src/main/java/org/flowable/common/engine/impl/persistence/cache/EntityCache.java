@@ -59,8 +59,27 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances of exactly the given type of which the column indexed by the given matcher has the given value.
+     * The index is created when first used and kept up to date when entities are put in or removed from the cache.
+     * Returns null if there are no cached entities of the given type, similar to {@link #findInCacheAsCachedObjects(Class)}.
+     */
+    Collection<CachedEntity> findInCacheAsCachedObjects(Class<?> entityClass, IndexedCachedEntityMatcher<?> indexedMatcher, String indexValue);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
     void cacheRemove(Class<?> entityClass, String entityId);
+
+    /**
+     * Marks that all entities of the given type that reference the entity with the given logical name and id (for example all variables of an execution)
+     * have been fetched and are in the cache, so lookups of these entities by that reference can be done in the cache instead of the database.
+     */
+    void addFetchedScope(Class<?> entityClass, String scopeType, String scopeId);
+
+    /**
+     * Returns whether all entities of the given type that reference the entity with the given logical name and id are in the cache.
+     * See {@link #addFetchedScope(Class, String, String)}.
+     */
+    boolean isFetchedScope(Class<?> entityClass, String scopeType, String scopeId);
 }
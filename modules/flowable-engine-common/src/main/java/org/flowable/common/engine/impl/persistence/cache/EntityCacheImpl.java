@@ -16,8 +16,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
@@ -27,6 +29,8 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
 public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
+    protected Map<Class<?>, Set<String>> fetchedScopes;
+    protected Map<Class<?>, Map<String, CachedEntityIndex>> indexes;
 
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
@@ -37,6 +41,15 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<String, CachedEntityIndex> classIndexes = indexes != null ? indexes.get(entity.getClass()) : null;
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.remove(entity.getId());
+                index.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -77,6 +90,13 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<String, CachedEntityIndex> classIndexes = indexes != null ? indexes.get(entityClass) : null;
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.remove(entityId);
+            }
+        }
     }
 
     @Override
@@ -88,6 +108,25 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public Collection<CachedEntity> findInCacheAsCachedObjects(Class<?> entityClass, IndexedCachedEntityMatcher<?> indexedMatcher, String indexValue) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        if (indexes == null) {
+            indexes = new HashMap<>();
+        }
+        Map<String, CachedEntityIndex> classIndexes = indexes.computeIfAbsent(entityClass, key -> new HashMap<>());
+        CachedEntityIndex index = classIndexes.get(indexedMatcher.getIndexName());
+        if (index == null) {
+            index = new CachedEntityIndex(indexedMatcher, classCache.values());
+            classIndexes.put(indexedMatcher.getIndexName(), index);
+        }
+        return index.find(indexValue);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -108,6 +147,23 @@ public class EntityCacheImpl implements EntityCache {
         return Collections.emptyList();
     }
 
+    @Override
+    public void addFetchedScope(Class<?> entityClass, String scopeType, String scopeId) {
+        if (fetchedScopes == null) {
+            fetchedScopes = new HashMap<>();
+        }
+        fetchedScopes.computeIfAbsent(entityClass, key -> new HashSet<>()).add(scopeType + '.' + scopeId);
+    }
+
+    @Override
+    public boolean isFetchedScope(Class<?> entityClass, String scopeType, String scopeId) {
+        if (fetchedScopes == null || scopeId == null) {
+            return false;
+        }
+        Set<String> entityFetchedScopes = fetchedScopes.get(entityClass);
+        return entityFetchedScopes != null && entityFetchedScopes.contains(scopeType + '.' + scopeId);
+    }
+
     @Override
     public Map<Class<?>, Map<String, CachedEntity>> getAllCachedEntities() {
         return cachedObjects;
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A {@link CachedEntityMatcher} that only retains entities of which a certain column has a certain value,
+ * which allows looking up the candidate entities with a secondary index of the {@link EntityCache} instead of checking all cached entities of a type.
+ *
+ * The indexed column must never change once it has a value (e.g. the process instance id of an execution),
+ * as the index isn't updated when entities are changed. Matchers that use the same index name for an entity type must return the same index value.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl> {
+
+    /**
+     * @return the name of the index, typically the name of the indexed column
+     */
+    String getIndexName();
+
+    /**
+     * @return the value of the indexed column of the given entity or null if it doesn't have a value (yet)
+     */
+    String getIndexValue(EntityImpl entity);
+
+    /**
+     * @return the value of the indexed column that all retained entities have for the given query parameter, or null if the index can't be used
+     */
+    String getIndexValueForParameter(Object parameter);
+
+}
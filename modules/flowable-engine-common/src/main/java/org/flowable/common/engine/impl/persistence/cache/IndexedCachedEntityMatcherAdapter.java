@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An {@link IndexedCachedEntityMatcher} for the common case where the query parameter is the value of the indexed column,
+ * or a map that holds that value under the index name. By default entities are retained when their indexed column has that value;
+ * subclasses can override {@link #isRetained(Entity, Object)} to add conditions.
+ */
+public abstract class IndexedCachedEntityMatcherAdapter<EntityImpl extends Entity> extends CachedEntityMatcherAdapter<EntityImpl>
+        implements IndexedCachedEntityMatcher<EntityImpl> {
+
+    protected final String indexName;
+    protected final Function<EntityImpl, String> indexValueGetter;
+
+    protected IndexedCachedEntityMatcherAdapter(String indexName, Function<EntityImpl, String> indexValueGetter) {
+        this.indexName = indexName;
+        this.indexValueGetter = indexValueGetter;
+    }
+
+    @Override
+    public boolean isRetained(EntityImpl entity, Object parameter) {
+        String indexValue = getIndexValue(entity);
+        return indexValue != null && indexValue.equals(getIndexValueForParameter(parameter));
+    }
+
+    @Override
+    public String getIndexName() {
+        return indexName;
+    }
+
+    @Override
+    public String getIndexValue(EntityImpl entity) {
+        return indexValueGetter.apply(entity);
+    }
+
+    @Override
+    public String getIndexValueForParameter(Object parameter) {
+        if (parameter instanceof String) {
+            return (String) parameter;
+
+        } else if (parameter instanceof Map) {
+            Object indexValue = ((Map<?, ?>) parameter).get(indexName);
+            return indexValue instanceof String ? (String) indexValue : null;
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,227 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deployment cache that allows concurrent reads: a get doesn't take a lock, nor does it reorder any shared structure.
+ * Instead, every entry keeps the time it was last accessed, which is used to evict the least recently used entries.
+ *
+ * The cache can be bounded by the number of entries (maxSize) and/or by the total weight of the entries (maxWeight),
+ * as estimated by a {@link DeploymentCacheWeigher}. When no bound is set, everything is kept in memory.
+ * Eviction only happens when adding an entry, which is rare compared to reads for deployment caches.
+ *
+ * Hit, miss and eviction counts are kept and can be retrieved through the getters of this class.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected final Map<String, CacheValue<T>> cache = new ConcurrentHashMap<>();
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected int maxSize = -1;
+    protected long maxWeight = -1;
+    protected DeploymentCacheWeigher<T> weigher;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+    }
+
+    /**
+     * Cache which has a limit on the number of entries: the least recently used entries are evicted when the limit is exceeded.
+     */
+    public ConcurrentDeploymentCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Cache which has a limit on the total weight of the entries, as calculated by the given weigher.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheValue<T> cacheValue = cache.get(id);
+        if (cacheValue == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (isBounded()) {
+            cacheValue.lastAccessTime = System.nanoTime();
+        }
+        return cacheValue.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        long weight = weigher != null ? Math.max(1L, weigher.weigh(id, obj)) : 1L;
+        CacheValue<T> previousValue = cache.put(id, new CacheValue<>(obj, weight));
+        totalWeight.addAndGet(previousValue != null ? weight - previousValue.weight : weight);
+
+        if (isOverCapacity()) {
+            evict();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheValue<T> removedValue = cache.remove(id);
+        if (removedValue != null) {
+            totalWeight.addAndGet(-removedValue.weight);
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        for (String id : new ArrayList<>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    protected boolean isBounded() {
+        return maxSize > 0 || maxWeight > 0;
+    }
+
+    protected boolean isOverCapacity() {
+        return (maxSize > 0 && cache.size() > maxSize) || (maxWeight > 0 && totalWeight.get() > maxWeight);
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is within its bounds again.
+     * The most recently used entry is always kept, even if it is heavier than the maximum weight on its own.
+     */
+    protected void evict() {
+        evictionLock.lock();
+        try {
+            if (!isOverCapacity()) {
+                return; // Another thread has evicted in the meantime
+            }
+
+            List<Map.Entry<String, CacheValue<T>>> entries = cache.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < entries.size() - 1 && isOverCapacity(); i++) {
+                Map.Entry<String, CacheValue<T>> entry = entries.get(i);
+                if (cache.remove(entry.getKey(), entry.getValue())) {
+                    totalWeight.addAndGet(-entry.getValue().weight);
+                    evictionCount.increment();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", entry.getKey());
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public DeploymentCacheWeigher<T> getWeigher() {
+        return weigher;
+    }
+
+    public void setWeigher(DeploymentCacheWeigher<T> weigher) {
+        this.weigher = weigher;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the ratio of gets that found a cached entry, or 1 when no get has been done yet.
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public Collection<T> getAll() {
+        return cache.values().stream().map(cacheValue -> cacheValue.value).collect(Collectors.toList());
+    }
+
+    protected static class CacheValue<T> {
+
+        protected final T value;
+        protected final long weight;
+        protected volatile long lastAccessTime = System.nanoTime();
+
+        public CacheValue(T value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Estimates the weight of an object stored in a {@link ConcurrentDeploymentCache}, used for weight based eviction.
+ * The unit of the weight is up to the implementation (e.g. the number of model elements), as long as it is consistent with the configured maximum weight.
+ */
+@FunctionalInterface
+public interface DeploymentCacheWeigher<T> {
+
+    /**
+     * @return the weight of the given object, should be at least 1.
+     */
+    long weigh(String id, T object);
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.util.Objects;
+
 import org.flowable.common.engine.impl.db.HasRevision;
 
 /**
@@ -27,6 +29,7 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    protected boolean isDirty = true; // only reset when a dirty tracking entity is loaded from the database
     
     protected Object originalPersistentState;
 
@@ -85,6 +88,38 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    /**
+     * Marks this entity as dirty when the new value of a persistent property differs from the current one.
+     * Must be called before the property is changed, see {@link #markDirty()}.
+     */
+    protected void markDirty(Object currentValue, Object newValue) {
+        if (!isDirty && !Objects.equals(currentValue, newValue)) {
+            markDirty();
+        }
+    }
+
+    /**
+     * Marks this entity as dirty. Only used by entities implementing {@link DirtyTrackingEntity}.
+     *
+     * On the first change after loading, the persistent state is stored as the original persistent state,
+     * as the update statements only write the columns that differ from it.
+     * Entities that are not changed after loading never need this snapshot.
+     */
+    protected void markDirty() {
+        if (!isDirty) {
+            originalPersistentState = getPersistentState();
+            isDirty = true;
+        }
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that flags its own changes: every modification of a property that is part of the {@link #getPersistentState()} marks it as dirty.
+ *
+ * When entity dirty tracking is enabled on the engine configuration, no snapshot of the persistent state is stored when such an entity is loaded,
+ * and the flush only checks the dirty flag instead of comparing the current persistent state with that snapshot.
+ * The original persistent state is only captured when the entity is changed for the first time.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
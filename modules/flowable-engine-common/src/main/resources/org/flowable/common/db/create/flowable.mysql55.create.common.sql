@@ -16,7 +16,7 @@ create table ACT_GE_BYTEARRAY (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
 insert into ACT_GE_PROPERTY
-values ('common.schema.version', '6.4.1.3', 1);
+values ('common.schema.version', '6.4.1.4', 1);
 
 insert into ACT_GE_PROPERTY
 values ('next.dbid', '1', 1);
@@ -26,6 +26,8 @@ import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
 import org.flowable.engine.runtime.ActivityInstance;
@@ -1113,6 +1115,24 @@ public interface RuntimeService {
      */
     void signalEventReceivedAsyncWithTenantId(String signalName, String tenantId);
 
+    /**
+     * Notifies the process engine that a signal event of name 'signalName' has been received. This method delivers the signal to all executions waiting on the signal.
+     * <p/>
+     *
+     * The waiting executions are notified <strong>asynchronously</strong>, in batches of
+     * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#getSignalEventFanOutBatchSize()} executions that are notified by one job,
+     * instead of one job per execution like {@link #signalEventReceivedAsync(String)}. The batches are executed in parallel by the async executor.
+     *
+     * @param signalName
+     *            the name of the signal event
+     */
+    void signalEventReceivedAsyncBatched(String signalName);
+
+    /**
+     * Similar to {@link #signalEventReceivedAsyncBatched(String)}, but within the context of one tenant.
+     */
+    void signalEventReceivedAsyncBatchedWithTenantId(String signalName, String tenantId);
+
     /**
      * Notifies the process engine that a signal event of name 'signalName' has been received. This method delivers the signal to all executions waiting on the signal.
      * <p/>
@@ -1375,4 +1395,51 @@ public interface RuntimeService {
 
     void migrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
 
+    /**
+     * Migrates the process instances of the given process definition <strong>asynchronously</strong>: the process instances are split in chunks of
+     * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#getProcessInstanceMigrationBatchSize()} process instances that are each
+     * migrated by one job in its own transaction. The chunks are executed in parallel by the async executors of the cluster.
+     *
+     * @return the id of the migration batch, to get its state with {@link #getProcessInstanceMigrationBatch(String)}
+     */
+    String migrateProcessInstancesOfProcessDefinitionAsync(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
+
+    /**
+     * Similar to {@link #migrateProcessInstancesOfProcessDefinitionAsync(String, ProcessInstanceMigrationDocument)}, with the process definition
+     * identified by its key and version (optional tenantId).
+     */
+    String migrateProcessInstancesOfProcessDefinitionAsync(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
+
+    /**
+     * Returns the state of an asynchronous process instance migration.
+     *
+     * @param batchId
+     *            the id returned by {@link #migrateProcessInstancesOfProcessDefinitionAsync(String, ProcessInstanceMigrationDocument)}
+     */
+    ProcessInstanceMigrationBatch getProcessInstanceMigrationBatch(String batchId);
+
+    /**
+     * Returns the chunks of an asynchronous process instance migration, with their status and the exception message of the chunks that failed.
+     *
+     * @param batchId
+     *            the id returned by {@link #migrateProcessInstancesOfProcessDefinitionAsync(String, ProcessInstanceMigrationDocument)}
+     */
+    List<ProcessInstanceMigrationBatchPart> getProcessInstanceMigrationBatchParts(String batchId);
+
+    /**
+     * Executes the failed chunks of an asynchronous process instance migration again, with the default number of retries.
+     *
+     * @param batchId
+     *            the id returned by {@link #migrateProcessInstancesOfProcessDefinitionAsync(String, ProcessInstanceMigrationDocument)}
+     */
+    void resumeProcessInstanceMigrationBatch(String batchId);
+
+    /**
+     * Deletes an asynchronous process instance migration with its chunks. The chunks that have not been migrated yet are not migrated anymore.
+     *
+     * @param batchId
+     *            the id returned by {@link #migrateProcessInstancesOfProcessDefinitionAsync(String, ProcessInstanceMigrationDocument)}
+     */
+    void deleteProcessInstanceMigrationBatch(String batchId);
+
 }
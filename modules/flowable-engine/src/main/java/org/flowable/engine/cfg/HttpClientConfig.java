@@ -12,11 +12,20 @@
  */
 package org.flowable.engine.cfg;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * @author Harsha Teja Kanna
  */
 public class HttpClientConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientConfig.class);
+
     // request settings
     protected int connectTimeout = 5000;
     protected int socketTimeout = 5000;
@@ -24,6 +33,13 @@ public class HttpClientConfig {
     protected int requestRetryLimit = 3;
     // https settings
     protected boolean disableCertVerify;
+    // connection pool settings
+    protected int maxConnections = 200;
+    protected int maxConnectionsPerRoute = 20;
+    protected long connectionKeepAliveTime = 60000L;
+
+    // the client shared by the http tasks of the engine, created on first use and closed together with the engine
+    protected Closeable httpClient;
 
     public int getConnectTimeout() {
         return connectTimeout;
@@ -65,6 +81,63 @@ public class HttpClientConfig {
         this.disableCertVerify = disableCertVerify;
     }
 
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getConnectionKeepAliveTime() {
+        return connectionKeepAliveTime;
+    }
+
+    /**
+     * The maximum time in milliseconds an idle connection is kept open for reuse.
+     * A shorter keep-alive time announced by the server takes precedence.
+     */
+    public void setConnectionKeepAliveTime(long connectionKeepAliveTime) {
+        this.connectionKeepAliveTime = connectionKeepAliveTime;
+    }
+
+    public synchronized Closeable getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Returns the shared http client, creating it with the given factory when it doesn't exist yet.
+     * Changes to this configuration after the client is created are not applied to it.
+     */
+    public synchronized Closeable getOrCreateHttpClient(Supplier<? extends Closeable> httpClientFactory) {
+        if (httpClient == null) {
+            httpClient = httpClientFactory.get();
+        }
+        return httpClient;
+    }
+
+    /**
+     * Closes the shared http client (if any) and its pooled connections.
+     */
+    public synchronized void close() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close the shared http client", e);
+            }
+            httpClient = null;
+        }
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -85,5 +158,17 @@ public class HttpClientConfig {
         if (this.disableCertVerify != other.isDisableCertVerify()) {
             setDisableCertVerify(other.isDisableCertVerify());
         }
+
+        if (this.maxConnections != other.getMaxConnections()) {
+            setMaxConnections(other.getMaxConnections());
+        }
+
+        if (this.maxConnectionsPerRoute != other.getMaxConnectionsPerRoute()) {
+            setMaxConnectionsPerRoute(other.getMaxConnectionsPerRoute());
+        }
+
+        if (this.connectionKeepAliveTime != other.getConnectionKeepAliveTime()) {
+            setConnectionKeepAliveTime(other.getConnectionKeepAliveTime());
+        }
     }
 }
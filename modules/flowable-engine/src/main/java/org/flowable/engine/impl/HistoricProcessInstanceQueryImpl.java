@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -724,6 +725,31 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public void executeStream(CommandContext commandContext, Consumer<? super HistoricProcessInstance> consumer) {
+        if (includeProcessVariables) {
+            // the variables are joined in, which needs all results in memory to be grouped per process instance
+            super.executeStream(commandContext, consumer);
+            return;
+        }
+
+        checkQueryOk();
+        ensureVariablesInitialized();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        boolean enableLocalization = processEngineConfiguration.getPerformanceSettings().isEnableLocalization();
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).streamHistoricProcessInstancesByQueryCriteria(this, processInstance -> {
+            if (enableLocalization) {
+                localize(processInstance, commandContext);
+            }
+            consumer.accept(processInstance);
+        });
+    }
+
     protected void localize(HistoricProcessInstance processInstance, CommandContext commandContext) {
         HistoricProcessInstanceEntity processInstanceEntity = (HistoricProcessInstanceEntity) processInstance;
         processInstanceEntity.setLocalizedName(null);
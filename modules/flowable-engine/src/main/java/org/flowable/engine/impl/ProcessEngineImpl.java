@@ -30,6 +30,8 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,6 +100,15 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isAutoActivate()) {
             asyncHistoryExecutor.start();
         }
+
+        ProcessDefinitionInfoCache processDefinitionInfoCache = processEngineConfiguration.getProcessDefinitionInfoCache();
+        if (processDefinitionInfoCache != null && processDefinitionInfoCache.getChangeNotifier() != null) {
+            processDefinitionInfoCache.getChangeNotifier().start(processDefinitionInfoCache);
+        }
+
+        if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+            processEngineConfiguration.getAsyncEventLogWriter().start();
+        }
     }
 
     @Override
@@ -110,6 +121,26 @@ public class ProcessEngineImpl implements ProcessEngine {
             asyncHistoryExecutor.shutdown();
         }
 
+        ProcessDefinitionInfoCache processDefinitionInfoCache = processEngineConfiguration.getProcessDefinitionInfoCache();
+        if (processDefinitionInfoCache != null && processDefinitionInfoCache.getChangeNotifier() != null) {
+            processDefinitionInfoCache.getChangeNotifier().stop();
+        }
+
+        if (processEngineConfiguration.getDeploymentParseExecutor() != null) {
+            processEngineConfiguration.getDeploymentParseExecutor().shutdown();
+        }
+
+        // Writes the event log entries that are still queued, so must be done while the database is available
+        if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+            processEngineConfiguration.getAsyncEventLogWriter().shutdown();
+        }
+
+        if (processEngineConfiguration.getIdGenerator() instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator()).shutdown();
+        }
+
+        processEngineConfiguration.getHttpClientConfig().close();
+
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
             closeRunnable.run();
@@ -38,6 +38,7 @@ import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteMultiInstanceExecutionCmd;
 import org.flowable.engine.impl.cmd.DeleteProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.DeleteProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.DispatchEventCommand;
 import org.flowable.engine.impl.cmd.ExecuteActivityForAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.FindActiveActivityIdsCmd;
@@ -56,17 +57,22 @@ import org.flowable.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionsVariablesCmd;
 import org.flowable.engine.impl.cmd.GetIdentityLinksForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.GetProcessInstanceEventsCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstanceMigrationBatchCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstanceMigrationBatchPartsCmd;
 import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
 import org.flowable.engine.impl.cmd.MessageEventReceivedCmd;
+import org.flowable.engine.impl.cmd.ProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationValidationCmd;
 import org.flowable.engine.impl.cmd.RemoveEventListenerCommand;
 import org.flowable.engine.impl.cmd.RemoveExecutionVariablesCmd;
+import org.flowable.engine.impl.cmd.ResumeProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.SetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceBusinessKeyCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceNameCmd;
+import org.flowable.engine.impl.cmd.SignalEventReceivedBatchedCmd;
 import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceAsyncCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
@@ -77,6 +83,8 @@ import org.flowable.engine.impl.migration.ProcessInstanceMigrationBuilderImpl;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
@@ -598,6 +606,16 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, true, tenantId));
     }
 
+    @Override
+    public void signalEventReceivedAsyncBatched(String signalName) {
+        commandExecutor.execute(new SignalEventReceivedBatchedCmd(signalName, null));
+    }
+
+    @Override
+    public void signalEventReceivedAsyncBatchedWithTenantId(String signalName, String tenantId) {
+        commandExecutor.execute(new SignalEventReceivedBatchedCmd(signalName, tenantId));
+    }
+
     @Override
     public void signalEventReceived(String signalName, Map<String, Object> processVariables) {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, processVariables, null));
@@ -770,4 +788,34 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(ProcessInstanceMigrationCmd.forProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
     }
 
+    @Override
+    public String migrateProcessInstancesOfProcessDefinitionAsync(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        return commandExecutor.execute(ProcessInstanceMigrationBatchCmd.forProcessDefinition(processDefinitionId, processInstanceMigrationDocument));
+    }
+
+    @Override
+    public String migrateProcessInstancesOfProcessDefinitionAsync(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        return commandExecutor.execute(ProcessInstanceMigrationBatchCmd.forProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
+    }
+
+    @Override
+    public ProcessInstanceMigrationBatch getProcessInstanceMigrationBatch(String batchId) {
+        return commandExecutor.execute(new GetProcessInstanceMigrationBatchCmd(batchId));
+    }
+
+    @Override
+    public List<ProcessInstanceMigrationBatchPart> getProcessInstanceMigrationBatchParts(String batchId) {
+        return commandExecutor.execute(new GetProcessInstanceMigrationBatchPartsCmd(batchId));
+    }
+
+    @Override
+    public void resumeProcessInstanceMigrationBatch(String batchId) {
+        commandExecutor.execute(new ResumeProcessInstanceMigrationBatchCmd(batchId));
+    }
+
+    @Override
+    public void deleteProcessInstanceMigrationBatch(String batchId) {
+        commandExecutor.execute(new DeleteProcessInstanceMigrationBatchCmd(batchId));
+    }
+
 }
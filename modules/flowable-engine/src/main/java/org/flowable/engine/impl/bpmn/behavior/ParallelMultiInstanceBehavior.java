@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.behavior;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -28,10 +29,15 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceAggregationJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
 /**
  * @author Joram Barrez
@@ -41,6 +47,16 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * When true, completing an instance only inactivates the execution of the instance, instead of updating the loop variables of
+     * the multi instance root execution (and forcing an update of its parent scope). Instances completing in parallel then don't
+     * update the same rows, so they don't fail with optimistic locking exceptions.
+     * 
+     * The completed instances are aggregated by a {@link ParallelMultiInstanceAggregationJobHandler} job instead, which
+     * updates the loop variables and leaves the multi instance activity when all instances are completed or the completion condition is satisfied.
+     */
+    protected boolean asyncAggregation;
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -59,6 +75,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, 0);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
+        if (asyncAggregation && nrOfInstances > 0) {
+            // Deleted together with the multi instance root execution when all instances complete in this transaction
+            scheduleAggregationJob((ExecutionEntity) multiInstanceRootExecution,
+                    CommandContextUtil.getProcessEngineConfiguration().getMultiInstanceAsyncAggregationInterval());
+        }
+
         List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
         for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
             ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
@@ -111,6 +133,17 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             super.leave(execution); // Plan the default leave
         }
 
+        if (asyncAggregation && !zeroNrOfInstances && execution.getParent() != null) {
+            ExecutionEntity miRootExecution = (ExecutionEntity) getMultiInstanceRootExecution(execution);
+
+            // When the multi instance root execution is created in this transaction, no other transaction can complete instances
+            // concurrently, so the completion can be handled as usual
+            if (miRootExecution != null && !miRootExecution.isInserted()) {
+                completeInstanceForAsyncAggregation((ExecutionEntity) execution);
+                return;
+            }
+        }
+
         int loopCounter = getLoopVariable(execution, getCollectionElementIndexVariable());
         int nrOfInstances = getLoopVariable(execution, NUMBER_OF_INSTANCES);
         int nrOfCompletedInstances = getLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
@@ -180,6 +213,114 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    protected void completeInstanceForAsyncAggregation(ExecutionEntity execution) {
+        CommandContextUtil.getActivityInstanceEntityManager().recordActivityEnd(execution, null);
+        callActivityEndListeners(execution);
+
+        // The inactive execution marks the instance as completed for the aggregation
+        execution.inactivate();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Multi-instance '{}' instance completed. Details: loopCounter={}, the completion will be aggregated asynchronously",
+                    activity.getId(), getLoopVariable(execution, getCollectionElementIndexVariable()));
+        }
+    }
+
+    /**
+     * Counts the completed instances of the multi instance activity of the given multi instance root execution, updates its loop variables
+     * and leaves the multi instance activity when all instances are completed or the completion condition is satisfied.
+     * An instance is completed when its execution is inactive or deleted (which is the case for an embedded sub process).
+     * 
+     * @return true if the multi instance activity was left
+     */
+    public boolean aggregateCompletedInstances(ExecutionEntity multiInstanceRootExecution) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        int nrOfActiveInstances = 0;
+        for (ExecutionEntity childExecution : multiInstanceRootExecution.getExecutions()) {
+            if (childExecution.isActive() && !childExecution.isDeleted() && !childExecution.isEnded() && !childExecution.isEventScope()
+                    && activity.getId().equals(childExecution.getActivityId())) {
+                nrOfActiveInstances++;
+            }
+        }
+        int nrOfCompletedInstances = nrOfInstances - nrOfActiveInstances;
+
+        setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+        setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+        logLoopDetails(multiInstanceRootExecution, "instances aggregated", -1, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+
+        boolean isCompletionConditionSatisfied = completionConditionSatisfied(multiInstanceRootExecution);
+        if (nrOfCompletedInstances < nrOfInstances && !isCompletionConditionSatisfied) {
+            return false;
+        }
+
+        // Only this job updates the multi instance root execution, so there is no need to lock the parent scope like in leave()
+        verifyCompensation(multiInstanceRootExecution, multiInstanceRootExecution, activity);
+        verifyCallActivity(multiInstanceRootExecution, activity);
+
+        if (isCompletionConditionSatisfied) {
+            sendCompletedWithConditionEvent(multiInstanceRootExecution);
+        } else {
+            sendCompletedEvent(multiInstanceRootExecution);
+        }
+
+        super.leave(multiInstanceRootExecution);
+        return true;
+    }
+
+    /**
+     * Aggregates the completed instances (see {@link #aggregateCompletedInstances(ExecutionEntity)}) and schedules the next aggregation
+     * when the multi instance activity isn't left. The next aggregation follows after the configured interval when instances completed since
+     * the previous aggregation. Otherwise the interval of the previous aggregation is doubled, up to the configured maximum interval,
+     * so multi instance activities with instances that take long to complete don't keep the async executor busy.
+     * 
+     * @param previousInterval the number of milliseconds between the previous aggregation and this one
+     */
+    public void aggregateCompletedInstancesAndScheduleNextAggregation(ExecutionEntity multiInstanceRootExecution, int previousInterval) {
+        int previousNrOfCompletedInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES);
+        if (aggregateCompletedInstances(multiInstanceRootExecution)) {
+            return;
+        }
+
+        boolean instancesCompleted = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES) > previousNrOfCompletedInstances;
+        scheduleAggregationJob(multiInstanceRootExecution, getNextAggregationInterval(previousInterval, instancesCompleted));
+    }
+
+    protected int getNextAggregationInterval(int previousInterval, boolean instancesCompleted) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        int interval = processEngineConfiguration.getMultiInstanceAsyncAggregationInterval();
+        if (instancesCompleted || previousInterval < interval) {
+            return interval;
+        }
+
+        int maxInterval = Math.max(interval, processEngineConfiguration.getMultiInstanceAsyncAggregationMaxInterval());
+        return previousInterval > maxInterval / 2 ? maxInterval : previousInterval * 2;
+    }
+
+    /**
+     * Schedules the aggregation of the completed instances after the given number of milliseconds.
+     * The interval is the configuration of the job, so the next aggregation can back off from it.
+     */
+    public void scheduleAggregationJob(ExecutionEntity multiInstanceRootExecution, int interval) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setJobHandlerType(ParallelMultiInstanceAggregationJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(Integer.toString(interval));
+
+        // Not exclusive, as locking the process instance would conflict with the instances that complete in the meantime
+        timerJob.setExclusive(false);
+        timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+        timerJob.setDuedate(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + interval));
+        timerJob.setExecutionId(multiInstanceRootExecution.getId());
+        timerJob.setProcessInstanceId(multiInstanceRootExecution.getProcessInstanceId());
+        timerJob.setProcessDefinitionId(multiInstanceRootExecution.getProcessDefinitionId());
+        if (multiInstanceRootExecution.getTenantId() != null) {
+            timerJob.setTenantId(multiInstanceRootExecution.getTenantId());
+        }
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
@@ -258,4 +399,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         parentScopeExecution.forceUpdate();
     }
+
+    public boolean isAsyncAggregation() {
+        return asyncAggregation;
+    }
+
+    public void setAsyncAggregation(boolean asyncAggregation) {
+        this.asyncAggregation = asyncAggregation;
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -127,16 +128,35 @@ public class BpmnDeployer implements EngineDeployer {
 
         final ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
 
+        List<ProcessDefinitionEntity> processDefinitionsNeedingDiagram = new ArrayList<>();
         for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
             if (processDefinitionDiagramHelper.shouldCreateDiagram(processDefinition, deploymentEntity)) {
-                ResourceEntity resource = processDefinitionDiagramHelper.createDiagramForProcessDefinition(
-                        processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition));
-                if (resource != null) {
-                    resourceEntityManager.insert(resource, false);
-                    deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
-                }
+                processDefinitionsNeedingDiagram.add(processDefinition);
             }
         }
+
+        for (ResourceEntity resource : createDiagrams(parsedDeployment, processDefinitionsNeedingDiagram)) {
+            if (resource != null) {
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
+            }
+        }
+    }
+
+    protected List<ResourceEntity> createDiagrams(ParsedDeployment parsedDeployment, List<ProcessDefinitionEntity> processDefinitions) {
+        DeploymentParseExecutor parseExecutor = parsedDeploymentBuilderFactory.getParseExecutor();
+        if (parseExecutor != null) {
+            // Generating a diagram doesn't use the database, so the diagrams can be generated in parallel
+            return parseExecutor.map(processDefinitions, processDefinition -> processDefinitionDiagramHelper.createDiagramForProcessDefinition(
+                    processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition)));
+        }
+
+        List<ResourceEntity> diagrams = new ArrayList<>(processDefinitions.size());
+        for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+            diagrams.add(processDefinitionDiagramHelper.createDiagramForProcessDefinition(
+                    processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition)));
+        }
+        return diagrams;
     }
 
     /**
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.deployer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Executes the steps of a deployment that don't use the database, like parsing and validating the BPMN resources and generating the process diagrams,
+ * for multiple resources in parallel on a bounded {@link ForkJoinPool}. Persisting the results is left to the deploying thread.
+ *
+ * The tasks are executed with the command context of the deploying thread, so they can get the engine configuration as usual.
+ * They must not use the database session or the entity cache of the command context, as these are not thread-safe.
+ */
+public class DeploymentParseExecutor {
+
+    protected ForkJoinPool pool;
+
+    public DeploymentParseExecutor(int parallelism) {
+        this(new ForkJoinPool(parallelism));
+    }
+
+    public DeploymentParseExecutor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Applies the given function to all given elements and returns the results in the order of the elements.
+     * A single element is handled on the calling thread. When the function fails for an element, its exception is rethrown.
+     */
+    public <T, R> List<R> map(List<T> elements, Function<T, R> function) {
+        List<R> results = new ArrayList<>(elements.size());
+        if (elements.size() <= 1) {
+            for (T element : elements) {
+                results.add(function.apply(element));
+            }
+            return results;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        List<Future<R>> futures = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            futures.add(pool.submit(() -> {
+                if (commandContext != null) {
+                    Context.setCommandContext(commandContext);
+                }
+                try {
+                    return function.apply(element);
+                } finally {
+                    if (commandContext != null) {
+                        Context.removeCommandContext();
+                    }
+                }
+            }));
+        }
+
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while parsing the deployment", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new FlowableException("Could not parse the deployment", e.getCause());
+
+        } finally {
+            // Don't leave tasks running when one of them failed
+            for (Future<R> future : futures) {
+                future.cancel(false);
+            }
+        }
+
+        return results;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+}
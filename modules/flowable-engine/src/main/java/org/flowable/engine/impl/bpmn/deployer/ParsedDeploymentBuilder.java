@@ -35,6 +35,7 @@ public class ParsedDeploymentBuilder {
     protected EngineDeployment deployment;
     protected BpmnParser bpmnParser;
     protected Map<String, Object> deploymentSettings;
+    protected DeploymentParseExecutor parseExecutor;
 
     public ParsedDeploymentBuilder(EngineDeployment deployment,
             BpmnParser bpmnParser, Map<String, Object> deploymentSettings) {
@@ -43,21 +44,32 @@ public class ParsedDeploymentBuilder {
         this.deploymentSettings = deploymentSettings;
     }
 
+    public ParsedDeploymentBuilder(EngineDeployment deployment,
+            BpmnParser bpmnParser, Map<String, Object> deploymentSettings, DeploymentParseExecutor parseExecutor) {
+        this(deployment, bpmnParser, deploymentSettings);
+        this.parseExecutor = parseExecutor;
+    }
+
     public ParsedDeployment build() {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<>();
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        List<EngineResource> bpmnResources = new ArrayList<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+            }
+        }
+
+        List<BpmnParse> parses = parseBpmnResources(bpmnResources);
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            BpmnParse parse = parses.get(i);
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, bpmnResources.get(i));
             }
         }
 
@@ -65,7 +77,21 @@ public class ParsedDeploymentBuilder {
                 processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
     }
 
+    protected List<BpmnParse> parseBpmnResources(List<EngineResource> bpmnResources) {
+        if (parseExecutor != null) {
+            // Parsing doesn't use the database, so the resources can be parsed in parallel
+            return parseExecutor.map(bpmnResources, this::createBpmnParseFromResource);
+        }
+
+        List<BpmnParse> parses = new ArrayList<>(bpmnResources.size());
+        for (EngineResource resource : bpmnResources) {
+            parses.add(createBpmnParseFromResource(resource));
+        }
+        return parses;
+    }
+
     protected BpmnParse createBpmnParseFromResource(EngineResource resource) {
+        LOGGER.debug("Processing BPMN resource {}", resource.getName());
         String resourceName = resource.getName();
         ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
 
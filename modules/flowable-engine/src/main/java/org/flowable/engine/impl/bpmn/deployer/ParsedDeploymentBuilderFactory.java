@@ -20,6 +20,7 @@ import org.flowable.engine.impl.bpmn.parser.BpmnParser;
 public class ParsedDeploymentBuilderFactory {
 
     protected BpmnParser bpmnParser;
+    protected DeploymentParseExecutor parseExecutor;
 
     public BpmnParser getBpmnParser() {
         return bpmnParser;
@@ -29,13 +30,24 @@ public class ParsedDeploymentBuilderFactory {
         this.bpmnParser = bpmnParser;
     }
 
+    public DeploymentParseExecutor getParseExecutor() {
+        return parseExecutor;
+    }
+
+    /**
+     * Sets the executor used to parse the BPMN resources of a deployment in parallel. When not set, the resources are parsed one after another.
+     */
+    public void setParseExecutor(DeploymentParseExecutor parseExecutor) {
+        this.parseExecutor = parseExecutor;
+    }
+
     public ParsedDeploymentBuilder getBuilderForDeployment(EngineDeployment deployment) {
         return getBuilderForDeploymentAndSettings(deployment, null);
     }
 
     public ParsedDeploymentBuilder getBuilderForDeploymentAndSettings(EngineDeployment deployment,
             Map<String, Object> deploymentSettings) {
-        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings);
+        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings, parseExecutor);
     }
 
 }
\ No newline at end of file
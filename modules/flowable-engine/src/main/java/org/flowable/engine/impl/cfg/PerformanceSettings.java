@@ -28,6 +28,16 @@ public class PerformanceSettings {
      */
     protected boolean enableEagerExecutionTreeFetching = false;
 
+    /**
+     * If true, the commands that continue a process instance (completing a task, triggering an execution) fetch the execution tree
+     * of the process instance together with its variables, tasks, jobs, event subscriptions and identity links up front,
+     * with one query per type of data instead of lazily fetching them execution by execution.
+     * 
+     * This is beneficial for process instances with many executions or much related data, which would otherwise need many small fetches.
+     * For small process instances, it can mean fetching data that is not needed.
+     */
+    protected boolean enableProcessInstancePrefetching = false;
+
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
      * 
@@ -69,6 +79,14 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isEnableProcessInstancePrefetching() {
+        return enableProcessInstancePrefetching;
+    }
+
+    public void setEnableProcessInstancePrefetching(boolean enableProcessInstancePrefetching) {
+        this.enableProcessInstancePrefetching = enableProcessInstancePrefetching;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
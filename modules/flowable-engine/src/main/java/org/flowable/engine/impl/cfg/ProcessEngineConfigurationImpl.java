@@ -132,6 +132,7 @@ import org.flowable.engine.impl.app.AppResourceConverterImpl;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeploymentHelper;
 import org.flowable.engine.impl.bpmn.deployer.CachingAndArtifactsManager;
+import org.flowable.engine.impl.bpmn.deployer.DeploymentParseExecutor;
 import org.flowable.engine.impl.bpmn.deployer.EventSubscriptionManager;
 import org.flowable.engine.impl.bpmn.deployer.ParsedDeploymentBuilderFactory;
 import org.flowable.engine.impl.bpmn.deployer.ProcessDefinitionDiagramHelper;
@@ -194,6 +195,7 @@ import org.flowable.engine.impl.event.CompensationEventHandler;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.event.MessageEventHandler;
 import org.flowable.engine.impl.event.SignalEventHandler;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.form.BooleanFormType;
 import org.flowable.engine.impl.form.DateFormType;
@@ -245,19 +247,30 @@ import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceAggregationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationFanOutJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventBatchJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventFanOutJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.persistence.deploy.PollingProcessDefinitionInfoChangeNotifier;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoChangeNotifier;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.BatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
@@ -291,6 +304,8 @@ import org.flowable.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.engine.impl.persistence.entity.TableDataManagerImpl;
 import org.flowable.engine.impl.persistence.entity.data.ActivityInstanceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.AttachmentDataManager;
+import org.flowable.engine.impl.persistence.entity.data.BatchDataManager;
+import org.flowable.engine.impl.persistence.entity.data.BatchPartDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ByteArrayDataManager;
 import org.flowable.engine.impl.persistence.entity.data.CommentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.DeploymentDataManager;
@@ -307,6 +322,8 @@ import org.flowable.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ResourceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisActivityInstanceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisAttachmentDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisBatchDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisBatchPartDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisByteArrayDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisCommentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisDeploymentDataManager;
@@ -350,10 +367,12 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
@@ -442,6 +461,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ModelDataManager modelDataManager;
     protected ProcessDefinitionDataManager processDefinitionDataManager;
     protected ProcessDefinitionInfoDataManager processDefinitionInfoDataManager;
+    protected BatchDataManager batchDataManager;
+    protected BatchPartDataManager batchPartDataManager;
     protected PropertyDataManager propertyDataManager;
     protected ResourceDataManager resourceDataManager;
 
@@ -461,6 +482,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ModelEntityManager modelEntityManager;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
     protected ProcessDefinitionInfoEntityManager processDefinitionInfoEntityManager;
+    protected BatchEntityManager batchEntityManager;
+    protected BatchPartEntityManager batchPartEntityManager;
     protected PropertyEntityManager propertyEntityManager;
     protected ResourceEntityManager resourceEntityManager;
     protected TableDataManager tableDataManager;
@@ -479,6 +502,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * Converts the async history data to the bytes stored with the history jobs. When null (the default), JSON is used.
+     * The SmileAsyncHistoryPayloadCodec can be used for a more compact binary format.
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -510,12 +539,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionDiagramHelper processDefinitionDiagramHelper;
     protected DeploymentManager deploymentManager;
 
+    /**
+     * The number of BPMN resources of a deployment that are parsed, validated and drawn in parallel. With the default of 1
+     * the resources are handled one after another on the deploying thread. Persisting the process definitions is always done on the deploying thread.
+     */
+    protected int deploymentParseParallelism = 1;
+    protected DeploymentParseExecutor deploymentParseExecutor;
+
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * When disabled, a cached process definition info is used without checking its revision in the database. The cache entry is then removed
+     * when the process definition info is saved by this engine, or by the {@link #processDefinitionInfoChangeNotifier} when it is saved by another engine.
+     */
+    protected boolean enableProcessDefinitionInfoCacheRevisionCheck = true;
+    protected ProcessDefinitionInfoChangeNotifier processDefinitionInfoChangeNotifier;
+
+    /**
+     * The number of milliseconds between two polls of the default {@link PollingProcessDefinitionInfoChangeNotifier}.
+     */
+    protected long processDefinitionInfoChangePollInterval = 10000;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -591,6 +639,57 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected long asyncExecutorSecondsToWaitOnShutdown = 60L;
 
+    /**
+     * If true, every job is executed on a new virtual thread (when supported by the JVM) instead of on the threadpool.
+     * The number of jobs executed at the same time is then limited by {@link #asyncExecutorVirtualThreadMaxConcurrentJobs}
+     * instead of by the threadpool and queue settings. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorVirtualThreadMode;
+
+    /**
+     * The maximum number of jobs that are executed at the same time in virtual thread mode.
+     * By default 0, meaning the maximum number of active connections of the connection pool created by the engine from the jdbc properties
+     * (see {@link #getDataSourceMaxActiveConnections()}) is used. When an external data source is used, its pool size isn't known
+     * and the max pool size of the async executor is used instead, so set this property to (at most) the size of that connection pool.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorVirtualThreadMaxConcurrentJobs;
+
+    /**
+     * If true, the number of async jobs acquired during one query and the time the acquisition thread waits between queries
+     * are adapted to the observed load, instead of using the fixed {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition}
+     * and {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. The batch size grows while full batches are acquired
+     * and shrinks on optimistic locking exceptions, the wait time follows the observed job arrival rate. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorAdaptiveJobAcquisition;
+
+    /**
+     * The maximum number of async jobs acquired during one query when adaptive job acquisition is enabled. Default value = 64.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorAdaptiveJobAcquisitionMaxBatchSize = 64;
+
+    /**
+     * The minimum time the acquisition thread waits between two queries when adaptive job acquisition is enabled
+     * and not a full batch of jobs was acquired. The maximum is {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. Default value = 100.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorAdaptiveJobAcquisitionMinWaitTime = 100;
+
+    /**
+     * When larger than 0, job acquisition is partitioned over the nodes of a cluster: every new async and timer job gets one of this number of shards,
+     * and each node only acquires the jobs of the shards it owns. The shards are redistributed when nodes join or leave (see {@link JobShardManager}).
+     * Should be the same on all nodes and preferably (a multiple of) the maximum number of nodes. Default value = 0 (no sharding).
+     */
+    protected int asyncExecutorJobShardCount;
+
     /**
      * The number of timer jobs that are acquired during one query (before a job is executed, an acquirement thread fetches jobs from the database and puts them on the queue).
      * <p>
@@ -686,6 +785,32 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      * expired jobs.
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
+
+    /**
+     * The number of signal event subscriptions that are triggered by one job when a signal is delivered
+     * with {@link org.flowable.engine.RuntimeService#signalEventReceivedAsyncBatched(String)}.
+     */
+    protected int signalEventFanOutBatchSize = 100;
+
+    /**
+     * The number of process instances that are migrated by one job when the process instances of a process definition are migrated
+     * with {@link org.flowable.engine.RuntimeService#migrateProcessInstancesOfProcessDefinitionAsync(String, org.flowable.engine.migration.ProcessInstanceMigrationDocument)}.
+     */
+    protected int processInstanceMigrationBatchSize = 100;
+
+    /**
+     * The number of milliseconds between two aggregations of the completed instances of a parallel multi instance activity
+     * with async aggregation (see {@link org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior#isAsyncAggregation()})
+     * while instances complete. When an aggregation finds no newly completed instances, the time until the next one is doubled,
+     * up to {@link #multiInstanceAsyncAggregationMaxInterval}.
+     */
+    protected int multiInstanceAsyncAggregationInterval = 1000;
+
+    /**
+     * The maximum number of milliseconds between two aggregations of the completed instances of a parallel multi instance activity
+     * with async aggregation, reached when no instances complete for a while.
+     */
+    protected int multiInstanceAsyncAggregationMaxInterval = 60000;
     
     /**
      * Flags to control which threads (when using the default threadpool-based async executor) are started.
@@ -722,6 +847,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorTimerJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
+
+    /**
+     * The number of history jobs the async history executor executes in one transaction,
+     * so that their historic entities are flushed with multi-row bulk inserts. 1 (the default) executes every history job in its own transaction.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
     
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
@@ -842,6 +973,35 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When database event logging is enabled, write the event log entries from a background thread after the transaction that generated them,
+     * instead of inserting them in that transaction. Event log entries can then be lost, see {@link AsyncEventLogWriter}.
+     */
+    protected boolean enableAsyncDatabaseEventLogging;
+
+    /**
+     * The maximum number of event log entries waiting to be written when async database event logging is enabled.
+     */
+    protected int asyncDatabaseEventLoggingQueueSize = 10000;
+
+    /**
+     * The maximum number of event log entries written in one transaction when async database event logging is enabled.
+     */
+    protected int asyncDatabaseEventLoggingFlushSize = 100;
+
+    /**
+     * The maximum number of milliseconds an event log entry waits for more entries before it is written when async database event logging is enabled.
+     */
+    protected long asyncDatabaseEventLoggingFlushInterval = 1000;
+
+    /**
+     * The maximum number of milliseconds a transaction waits for room in a full event log queue before its event log entries are dropped,
+     * when async database event logging is enabled.
+     */
+    protected long asyncDatabaseEventLoggingMaxWaitTime = 100;
+
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -1186,6 +1346,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (processDefinitionInfoDataManager == null) {
             processDefinitionInfoDataManager = new MybatisProcessDefinitionInfoDataManager(this);
         }
+        if (batchDataManager == null) {
+            batchDataManager = new MybatisBatchDataManager(this);
+        }
+        if (batchPartDataManager == null) {
+            batchPartDataManager = new MybatisBatchPartDataManager(this);
+        }
         if (propertyDataManager == null) {
             propertyDataManager = new MybatisPropertyDataManager(this);
         }
@@ -1239,6 +1405,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (processDefinitionInfoEntityManager == null) {
             processDefinitionInfoEntityManager = new ProcessDefinitionInfoEntityManagerImpl(this, processDefinitionInfoDataManager);
         }
+        if (batchEntityManager == null) {
+            batchEntityManager = new BatchEntityManagerImpl(this, batchDataManager);
+        }
+        if (batchPartEntityManager == null) {
+            batchPartEntityManager = new BatchPartEntityManagerImpl(this, batchPartDataManager);
+        }
         if (propertyEntityManager == null) {
             propertyEntityManager = new PropertyEntityManagerImpl(this, propertyDataManager);
         }
@@ -1529,12 +1701,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
 
             // set the job processors
             this.jobServiceConfiguration.setJobProcessors(this.jobProcessors);
             this.jobServiceConfiguration.setHistoryJobProcessors(this.historyJobProcessors);
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
+            if (this.asyncExecutorJobShardCount > 0) {
+                this.jobServiceConfiguration.setJobShardManager(new JobShardManager(this.asyncExecutorJobShardCount));
+            }
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
     
             this.jobServiceConfiguration.init();
@@ -1616,6 +1792,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
         }
+
+        if (!enableProcessDefinitionInfoCacheRevisionCheck) {
+            if (processDefinitionInfoChangeNotifier == null) {
+                processDefinitionInfoChangeNotifier = new PollingProcessDefinitionInfoChangeNotifier(commandExecutor, processDefinitionInfoChangePollInterval);
+            }
+            processDefinitionInfoCache.setRevisionCheckEnabled(false);
+            processDefinitionInfoCache.setChangeNotifier(processDefinitionInfoChangeNotifier);
+        }
     }
 
     public void initAppResourceCache() {
@@ -1676,6 +1860,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (parsedDeploymentBuilderFactory.getBpmnParser() == null) {
             parsedDeploymentBuilderFactory.setBpmnParser(bpmnParser);
         }
+        if (deploymentParseExecutor == null && deploymentParseParallelism > 1) {
+            deploymentParseExecutor = new DeploymentParseExecutor(deploymentParseParallelism);
+        }
+        if (parsedDeploymentBuilderFactory.getParseExecutor() == null) {
+            parsedDeploymentBuilderFactory.setParseExecutor(deploymentParseExecutor);
+        }
 
         if (timerManager == null) {
             timerManager = new TimerManager();
@@ -1889,6 +2079,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
 
+        SignalEventFanOutJobHandler signalEventFanOutJobHandler = new SignalEventFanOutJobHandler();
+        jobHandlers.put(signalEventFanOutJobHandler.getType(), signalEventFanOutJobHandler);
+
+        SignalEventBatchJobHandler signalEventBatchJobHandler = new SignalEventBatchJobHandler();
+        jobHandlers.put(signalEventBatchJobHandler.getType(), signalEventBatchJobHandler);
+
+        ProcessInstanceMigrationFanOutJobHandler processInstanceMigrationFanOutJobHandler = new ProcessInstanceMigrationFanOutJobHandler();
+        jobHandlers.put(processInstanceMigrationFanOutJobHandler.getType(), processInstanceMigrationFanOutJobHandler);
+
+        ProcessInstanceMigrationChunkJobHandler processInstanceMigrationChunkJobHandler = new ProcessInstanceMigrationChunkJobHandler();
+        jobHandlers.put(processInstanceMigrationChunkJobHandler.getType(), processInstanceMigrationChunkJobHandler);
+
+        ParallelMultiInstanceAggregationJobHandler parallelMultiInstanceAggregationJobHandler = new ParallelMultiInstanceAggregationJobHandler();
+        jobHandlers.put(parallelMultiInstanceAggregationJobHandler.getType(), parallelMultiInstanceAggregationJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2011,6 +2216,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Shutdown
             defaultAsyncExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
 
+            // Virtual threads
+            defaultAsyncExecutor.setVirtualThreadMode(isAsyncExecutorVirtualThreadMode);
+            defaultAsyncExecutor.setVirtualThreadMaxConcurrentJobs(asyncExecutorVirtualThreadMaxConcurrentJobs > 0 ? asyncExecutorVirtualThreadMaxConcurrentJobs : getDataSourceMaxActiveConnections());
+
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisition(isAsyncExecutorAdaptiveJobAcquisition);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionMaxBatchSize(asyncExecutorAdaptiveJobAcquisitionMaxBatchSize);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionMinWaitTimeInMillis(asyncExecutorAdaptiveJobAcquisitionMinWaitTime);
+
             asyncExecutor = defaultAsyncExecutor;
         }
 
@@ -2061,6 +2275,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
                 // Shutdown
                 defaultAsyncHistoryExecutor.setSecondsToWaitOnShutdown(asyncHistoryExecutorSecondsToWaitOnShutdown);
+
+                // Batch execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
     
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
                 
@@ -2417,7 +2634,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (enableDatabaseEventLogging) {
             // Database event logging uses the default logging mechanism and adds
             // a specific event listener to the list of event listeners
-            getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+            if (enableAsyncDatabaseEventLogging) {
+                if (asyncEventLogWriter == null) {
+                    asyncEventLogWriter = new AsyncEventLogWriter(commandExecutor, asyncDatabaseEventLoggingQueueSize, asyncDatabaseEventLoggingFlushSize,
+                            asyncDatabaseEventLoggingFlushInterval, asyncDatabaseEventLoggingMaxWaitTime);
+                }
+                getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper, asyncEventLogWriter));
+            } else {
+                getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+            }
         }
     }
 
@@ -2690,6 +2915,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getDeploymentParseParallelism() {
+        return deploymentParseParallelism;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParseParallelism(int deploymentParseParallelism) {
+        this.deploymentParseParallelism = deploymentParseParallelism;
+        return this;
+    }
+
+    public DeploymentParseExecutor getDeploymentParseExecutor() {
+        return deploymentParseExecutor;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParseExecutor(DeploymentParseExecutor deploymentParseExecutor) {
+        this.deploymentParseExecutor = deploymentParseExecutor;
+        return this;
+    }
+
     public TimerManager getTimerManager() {
         return timerManager;
     }
@@ -3343,6 +3586,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessDefinitionInfoCache getProcessDefinitionInfoCache() {
+        return processDefinitionInfoCache;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCache(ProcessDefinitionInfoCache processDefinitionInfoCache) {
+        this.processDefinitionInfoCache = processDefinitionInfoCache;
+        return this;
+    }
+
+    public boolean isEnableProcessDefinitionInfoCacheRevisionCheck() {
+        return enableProcessDefinitionInfoCacheRevisionCheck;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionInfoCacheRevisionCheck(boolean enableProcessDefinitionInfoCacheRevisionCheck) {
+        this.enableProcessDefinitionInfoCacheRevisionCheck = enableProcessDefinitionInfoCacheRevisionCheck;
+        return this;
+    }
+
+    public ProcessDefinitionInfoChangeNotifier getProcessDefinitionInfoChangeNotifier() {
+        return processDefinitionInfoChangeNotifier;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoChangeNotifier(ProcessDefinitionInfoChangeNotifier processDefinitionInfoChangeNotifier) {
+        this.processDefinitionInfoChangeNotifier = processDefinitionInfoChangeNotifier;
+        return this;
+    }
+
+    public long getProcessDefinitionInfoChangePollInterval() {
+        return processDefinitionInfoChangePollInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoChangePollInterval(long processDefinitionInfoChangePollInterval) {
+        this.processDefinitionInfoChangePollInterval = processDefinitionInfoChangePollInterval;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3493,6 +3772,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableAsyncDatabaseEventLogging() {
+        return enableAsyncDatabaseEventLogging;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableAsyncDatabaseEventLogging(boolean enableAsyncDatabaseEventLogging) {
+        this.enableAsyncDatabaseEventLogging = enableAsyncDatabaseEventLogging;
+        return this;
+    }
+
+    public int getAsyncDatabaseEventLoggingQueueSize() {
+        return asyncDatabaseEventLoggingQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingQueueSize(int asyncDatabaseEventLoggingQueueSize) {
+        this.asyncDatabaseEventLoggingQueueSize = asyncDatabaseEventLoggingQueueSize;
+        return this;
+    }
+
+    public int getAsyncDatabaseEventLoggingFlushSize() {
+        return asyncDatabaseEventLoggingFlushSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingFlushSize(int asyncDatabaseEventLoggingFlushSize) {
+        this.asyncDatabaseEventLoggingFlushSize = asyncDatabaseEventLoggingFlushSize;
+        return this;
+    }
+
+    public long getAsyncDatabaseEventLoggingFlushInterval() {
+        return asyncDatabaseEventLoggingFlushInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingFlushInterval(long asyncDatabaseEventLoggingFlushInterval) {
+        this.asyncDatabaseEventLoggingFlushInterval = asyncDatabaseEventLoggingFlushInterval;
+        return this;
+    }
+
+    public long getAsyncDatabaseEventLoggingMaxWaitTime() {
+        return asyncDatabaseEventLoggingMaxWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingMaxWaitTime(long asyncDatabaseEventLoggingMaxWaitTime) {
+        this.asyncDatabaseEventLoggingMaxWaitTime = asyncDatabaseEventLoggingMaxWaitTime;
+        return this;
+    }
+
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3513,6 +3846,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableProcessInstancePrefetching(boolean enableProcessInstancePrefetching) {
+        this.performanceSettings.setEnableProcessInstancePrefetching(enableProcessInstancePrefetching);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -3662,6 +4000,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public BatchDataManager getBatchDataManager() {
+        return batchDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchDataManager(BatchDataManager batchDataManager) {
+        this.batchDataManager = batchDataManager;
+        return this;
+    }
+
+    public BatchPartDataManager getBatchPartDataManager() {
+        return batchPartDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchPartDataManager(BatchPartDataManager batchPartDataManager) {
+        this.batchPartDataManager = batchPartDataManager;
+        return this;
+    }
+
     public PropertyDataManager getPropertyDataManager() {
         return propertyDataManager;
     }
@@ -3806,6 +4162,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public BatchEntityManager getBatchEntityManager() {
+        return batchEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchEntityManager(BatchEntityManager batchEntityManager) {
+        this.batchEntityManager = batchEntityManager;
+        return this;
+    }
+
+    public BatchPartEntityManager getBatchPartEntityManager() {
+        return batchPartEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchPartEntityManager(BatchPartEntityManager batchPartEntityManager) {
+        this.batchPartEntityManager = batchPartEntityManager;
+        return this;
+    }
+
     public PropertyEntityManager getPropertyEntityManager() {
         return propertyEntityManager;
     }
@@ -3888,6 +4262,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -4269,6 +4652,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadMode() {
+        return isAsyncExecutorVirtualThreadMode;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadMode(boolean isAsyncExecutorVirtualThreadMode) {
+        this.isAsyncExecutorVirtualThreadMode = isAsyncExecutorVirtualThreadMode;
+        return this;
+    }
+
+    public int getAsyncExecutorVirtualThreadMaxConcurrentJobs() {
+        return asyncExecutorVirtualThreadMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadMaxConcurrentJobs(int asyncExecutorVirtualThreadMaxConcurrentJobs) {
+        this.asyncExecutorVirtualThreadMaxConcurrentJobs = asyncExecutorVirtualThreadMaxConcurrentJobs;
+        return this;
+    }
+
+    public boolean isAsyncExecutorAdaptiveJobAcquisition() {
+        return isAsyncExecutorAdaptiveJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveJobAcquisition(boolean isAsyncExecutorAdaptiveJobAcquisition) {
+        this.isAsyncExecutorAdaptiveJobAcquisition = isAsyncExecutorAdaptiveJobAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorAdaptiveJobAcquisitionMaxBatchSize() {
+        return asyncExecutorAdaptiveJobAcquisitionMaxBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveJobAcquisitionMaxBatchSize(int asyncExecutorAdaptiveJobAcquisitionMaxBatchSize) {
+        this.asyncExecutorAdaptiveJobAcquisitionMaxBatchSize = asyncExecutorAdaptiveJobAcquisitionMaxBatchSize;
+        return this;
+    }
+
+    public int getAsyncExecutorAdaptiveJobAcquisitionMinWaitTime() {
+        return asyncExecutorAdaptiveJobAcquisitionMinWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveJobAcquisitionMinWaitTime(int asyncExecutorAdaptiveJobAcquisitionMinWaitTime) {
+        this.asyncExecutorAdaptiveJobAcquisitionMinWaitTime = asyncExecutorAdaptiveJobAcquisitionMinWaitTime;
+        return this;
+    }
+
+    public int getAsyncExecutorJobShardCount() {
+        return asyncExecutorJobShardCount;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobShardCount(int asyncExecutorJobShardCount) {
+        this.asyncExecutorJobShardCount = asyncExecutorJobShardCount;
+        return this;
+    }
+
     public int getAsyncExecutorMaxTimerJobsPerAcquisition() {
         return asyncExecutorMaxTimerJobsPerAcquisition;
     }
@@ -4377,6 +4814,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getSignalEventFanOutBatchSize() {
+        return signalEventFanOutBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalEventFanOutBatchSize(int signalEventFanOutBatchSize) {
+        this.signalEventFanOutBatchSize = signalEventFanOutBatchSize;
+        return this;
+    }
+
+    public int getProcessInstanceMigrationBatchSize() {
+        return processInstanceMigrationBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchSize(int processInstanceMigrationBatchSize) {
+        this.processInstanceMigrationBatchSize = processInstanceMigrationBatchSize;
+        return this;
+    }
+
+    public int getMultiInstanceAsyncAggregationInterval() {
+        return multiInstanceAsyncAggregationInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setMultiInstanceAsyncAggregationInterval(int multiInstanceAsyncAggregationInterval) {
+        this.multiInstanceAsyncAggregationInterval = multiInstanceAsyncAggregationInterval;
+        return this;
+    }
+
+    public int getMultiInstanceAsyncAggregationMaxInterval() {
+        return multiInstanceAsyncAggregationMaxInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setMultiInstanceAsyncAggregationMaxInterval(int multiInstanceAsyncAggregationMaxInterval) {
+        this.multiInstanceAsyncAggregationMaxInterval = multiInstanceAsyncAggregationMaxInterval;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -4521,6 +4994,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
+
     public boolean isAsyncExecutorMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
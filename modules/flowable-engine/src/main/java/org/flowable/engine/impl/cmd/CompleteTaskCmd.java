@@ -17,6 +17,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.ProcessInstancePrefetchUtil;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
@@ -61,6 +62,8 @@ public class CompleteTaskCmd extends NeedsActiveTaskCmd<Void> {
             }
         }
 
+        ProcessInstancePrefetchUtil.prefetchProcessInstanceIfEnabled(task.getProcessInstanceId(), commandContext);
+
         TaskHelper.completeTask(task, variables, transientVariables, localScope, commandContext);
         return null;
     }
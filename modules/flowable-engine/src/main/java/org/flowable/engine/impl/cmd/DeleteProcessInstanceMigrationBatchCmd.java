@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Deletes a process instance migration batch with its parts and the jobs that have not migrated their chunk yet.
+ * The process instances that were already migrated stay migrated.
+ */
+public class DeleteProcessInstanceMigrationBatchCmd implements Command<Void> {
+
+    protected String batchId;
+
+    public DeleteProcessInstanceMigrationBatchCmd(String batchId) {
+        this.batchId = batchId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+
+        BatchEntity batch = CommandContextUtil.getBatchEntityManager(commandContext).findById(batchId);
+        if (batch == null || !BatchEntity.TYPE_PROCESS_MIGRATION.equals(batch.getType())) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found with id " + batchId, ProcessInstanceMigrationBatch.class);
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        for (Job job : jobServiceConfiguration.getJobService().createJobQuery().scopeId(batchId).list()) {
+            jobServiceConfiguration.getJobEntityManager().delete((JobEntity) job);
+        }
+        for (Job job : jobServiceConfiguration.getJobService().createTimerJobQuery().scopeId(batchId).list()) {
+            jobServiceConfiguration.getTimerJobEntityManager().delete((TimerJobEntity) job);
+        }
+        for (Job job : jobServiceConfiguration.getJobService().createDeadLetterJobQuery().scopeId(batchId).list()) {
+            jobServiceConfiguration.getDeadLetterJobEntityManager().delete((DeadLetterJobEntity) job);
+        }
+
+        CommandContextUtil.getBatchEntityManager(commandContext).deleteBatch(batch);
+        return null;
+    }
+
+}
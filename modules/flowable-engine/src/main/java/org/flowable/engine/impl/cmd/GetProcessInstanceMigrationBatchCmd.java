@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.migration.ProcessInstanceMigrationBatchImpl;
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntity;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+
+/**
+ * Determines the state of a process instance migration batch from the batch and the status of its parts.
+ */
+public class GetProcessInstanceMigrationBatchCmd implements Command<ProcessInstanceMigrationBatch> {
+
+    protected String batchId;
+
+    public GetProcessInstanceMigrationBatchCmd(String batchId) {
+        this.batchId = batchId;
+    }
+
+    @Override
+    public ProcessInstanceMigrationBatch execute(CommandContext commandContext) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+
+        BatchEntity batch = CommandContextUtil.getBatchEntityManager(commandContext).findById(batchId);
+        if (batch == null || !BatchEntity.TYPE_PROCESS_MIGRATION.equals(batch.getType())) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found with id " + batchId, ProcessInstanceMigrationBatch.class);
+        }
+
+        BatchPartEntityManager batchPartEntityManager = CommandContextUtil.getBatchPartEntityManager(commandContext);
+        long pendingChunkCount = batchPartEntityManager.countBatchPartsByBatchIdAndStatus(batchId, BatchPartEntity.STATUS_WAITING);
+        long completedChunkCount = batchPartEntityManager.countBatchPartsByBatchIdAndStatus(batchId, BatchPartEntity.STATUS_COMPLETED);
+        long failedChunkCount = batchPartEntityManager.countBatchPartsByBatchIdAndStatus(batchId, BatchPartEntity.STATUS_FAILED);
+        long migratedProcessInstanceCount = batchPartEntityManager.sumItemCountByBatchIdAndStatus(batchId, BatchPartEntity.STATUS_COMPLETED);
+
+        return new ProcessInstanceMigrationBatchImpl(batch, pendingChunkCount, completedChunkCount, failedChunkCount, migratedProcessInstanceCount);
+    }
+
+}
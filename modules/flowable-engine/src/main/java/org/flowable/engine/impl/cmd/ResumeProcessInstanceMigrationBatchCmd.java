@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Marks the failed parts of a process instance migration batch as waiting again and moves their dead letter jobs back to the executable jobs,
+ * so the chunks that failed are migrated again.
+ */
+public class ResumeProcessInstanceMigrationBatchCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResumeProcessInstanceMigrationBatchCmd.class);
+
+    protected String batchId;
+
+    public ResumeProcessInstanceMigrationBatchCmd(String batchId) {
+        this.batchId = batchId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+
+        BatchEntity batch = CommandContextUtil.getBatchEntityManager(commandContext).findById(batchId);
+        if (batch == null || !BatchEntity.TYPE_PROCESS_MIGRATION.equals(batch.getType())) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found with id " + batchId, ProcessInstanceMigrationBatch.class);
+        }
+
+        for (BatchPartEntity batchPart : CommandContextUtil.getBatchPartEntityManager(commandContext)
+                .findBatchPartsByBatchIdAndStatus(batchId, BatchPartEntity.STATUS_FAILED)) {
+            batchPart.setStatus(BatchPartEntity.STATUS_WAITING);
+            batchPart.setCompleteTime(null);
+            batchPart.setExceptionMessage(null);
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        int retries = jobServiceConfiguration.getAsyncExecutorNumberOfRetries();
+        for (Job job : jobServiceConfiguration.getJobService().createDeadLetterJobQuery().scopeId(batchId).list()) {
+            jobServiceConfiguration.getJobManager().moveDeadLetterJobToExecutableJob((DeadLetterJobEntity) job, retries);
+        }
+
+        LOGGER.debug("Resumed migration batch {}", batchId);
+        return null;
+    }
+
+}
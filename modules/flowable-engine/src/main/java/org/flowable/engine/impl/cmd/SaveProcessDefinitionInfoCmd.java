@@ -16,8 +16,12 @@ import java.io.Serializable;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -56,6 +60,10 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             definitionInfoEntity = definitionInfoEntityManager.create();
             definitionInfoEntity.setProcessDefinitionId(processDefinitionId);
             CommandContextUtil.getProcessDefinitionInfoEntityManager().insertProcessDefinitionInfo(definitionInfoEntity);
+
+        } else if (definitionInfoEntity.getInfoJsonId() != null) {
+            // Only the json byte array is changed, but the revision is used to detect the change
+            definitionInfoEntityManager.updateProcessDefinitionInfo(definitionInfoEntity);
         }
 
         try {
@@ -65,6 +73,17 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode, e);
         }
 
+        ProcessDefinitionInfoCache processDefinitionInfoCache = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getDeploymentManager().getProcessDefinitionInfoCache();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            // Removing the cache entry before the commit could cache the old info again
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    context -> processDefinitionInfoCache.processDefinitionInfoChanged(processDefinitionId));
+        } else {
+            processDefinitionInfoCache.processDefinitionInfoChanged(processDefinitionId);
+        }
+
         return null;
     }
 
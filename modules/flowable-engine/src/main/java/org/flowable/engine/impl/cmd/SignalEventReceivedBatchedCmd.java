@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.SignalEventFanOutJobHandler;
+
+/**
+ * Delivers a signal to all its subscriptions asynchronously, in batches of subscriptions that are triggered by one job each.
+ * See {@link SignalEventFanOutJobHandler}.
+ */
+public class SignalEventReceivedBatchedCmd implements Command<Void> {
+
+    protected final String eventName;
+    protected final String tenantId;
+
+    public SignalEventReceivedBatchedCmd(String eventName, String tenantId) {
+        this.eventName = eventName;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (eventName == null) {
+            throw new FlowableIllegalArgumentException("eventName is null");
+        }
+
+        SignalEventFanOutJobHandler.scheduleSignalEventFanOut(eventName, tenantId, commandContext);
+        return null;
+    }
+
+}
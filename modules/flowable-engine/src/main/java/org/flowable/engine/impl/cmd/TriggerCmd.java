@@ -22,6 +22,7 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.ProcessInstancePrefetchUtil;
 
 /**
  * @author Tom Baeyens
@@ -58,6 +59,8 @@ public class TriggerCmd extends NeedsActiveExecutionCmd<Object> {
             compatibilityHandler.trigger(executionId, processVariables, transientVariables);
             return null;
         }
+
+        ProcessInstancePrefetchUtil.prefetchProcessInstanceIfEnabled(execution.getProcessInstanceId(), commandContext);
         
         if (processVariables != null) {
             execution.setVariables(processVariables);
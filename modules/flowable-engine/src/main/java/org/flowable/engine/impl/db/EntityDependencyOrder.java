@@ -19,6 +19,8 @@ import java.util.List;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityImpl;
+import org.flowable.engine.impl.persistence.entity.BatchEntityImpl;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.CompensateEventSubscriptionEntityImpl;
@@ -115,6 +117,18 @@ public class EntityDependencyOrder {
          */
         DELETE_ORDER.add(ProcessDefinitionInfoEntityImpl.class);
 
+        /*
+         * FK to Batch
+         */
+        DELETE_ORDER.add(BatchPartEntityImpl.class);
+
+        /*
+         * FK from BatchPart
+         *
+         * FK to ByteArray
+         */
+        DELETE_ORDER.add(BatchEntityImpl.class);
+
         /*
          * FK from ModelEntity FK from JobEntity FK from VariableInstanceEntity
          * 
@@ -0,0 +1,237 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DbIdGenerator} that hands out ids from the current block without locking, using an atomic counter.
+ *
+ * When the number of remaining ids in the current block drops to the low-water mark, the next block is fetched in the background,
+ * so that threads normally don't have to wait for the {@link GetNextIdBlockCmd} when the current block runs out.
+ * Only the switch to the next block is synchronized.
+ *
+ * The number of block fetches and how often (and how long) threads had to wait for a new block are exposed
+ * through getters on this class.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    /**
+     * The number of remaining ids in the current block at which the next block is fetched in the background.
+     * When 0 (the default), a quarter of the id block size is used.
+     */
+    protected int lowWaterMark;
+
+    protected String threadNamingPattern = "flowable-id-block-prefetch-%d";
+    protected ExecutorService prefetchExecutor;
+
+    protected final AtomicReference<CurrentIdBlock> currentIdBlock = new AtomicReference<>();
+    protected final AtomicReference<CompletableFuture<IdBlock>> prefetchedIdBlock = new AtomicReference<>();
+    protected final Object idBlockSwitchLock = new Object();
+
+    protected final AtomicLong blockFetchCount = new AtomicLong();
+    protected final AtomicLong prefetchedBlockCount = new AtomicLong();
+    protected final AtomicLong synchronousBlockFetchCount = new AtomicLong();
+    protected final AtomicLong blockSwitchWaitCount = new AtomicLong();
+    protected final AtomicLong blockSwitchWaitTimeNanos = new AtomicLong();
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            CurrentIdBlock idBlock = currentIdBlock.get();
+            if (idBlock != null) {
+                long id = idBlock.nextId.getAndIncrement();
+                if (id <= idBlock.lastId) {
+                    if (id == idBlock.prefetchId) {
+                        // Exactly one thread gets this id, so the prefetch is triggered only once per block
+                        triggerPrefetch();
+                    }
+                    return Long.toString(id);
+                }
+            }
+            switchToNextBlock(idBlock);
+        }
+    }
+
+    protected void switchToNextBlock(CurrentIdBlock exhaustedIdBlock) {
+        long waitStart = System.nanoTime();
+        synchronized (idBlockSwitchLock) {
+            if (currentIdBlock.get() != exhaustedIdBlock) {
+                // Another thread has already switched to a new block while this thread was waiting
+                blockSwitchWaitCount.incrementAndGet();
+                blockSwitchWaitTimeNanos.addAndGet(System.nanoTime() - waitStart);
+                return;
+            }
+
+            IdBlock idBlock = takePrefetchedBlock();
+            if (idBlock == null) {
+                synchronousBlockFetchCount.incrementAndGet();
+                idBlock = fetchIdBlock();
+            }
+            currentIdBlock.set(new CurrentIdBlock(idBlock, getEffectiveLowWaterMark()));
+        }
+    }
+
+    protected IdBlock takePrefetchedBlock() {
+        CompletableFuture<IdBlock> prefetchedIdBlockFuture = prefetchedIdBlock.getAndSet(null);
+        if (prefetchedIdBlockFuture == null) {
+            return null;
+        }
+
+        try {
+            return prefetchedIdBlockFuture.get();
+
+        } catch (ExecutionException e) {
+            LOGGER.warn("Prefetching of id block failed, fetching a new id block synchronously", e.getCause());
+            return null;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for prefetched id block", e);
+        }
+    }
+
+    protected void triggerPrefetch() {
+        CompletableFuture<IdBlock> prefetchedIdBlockFuture = new CompletableFuture<>();
+        if (prefetchedIdBlock.compareAndSet(null, prefetchedIdBlockFuture)) {
+            getPrefetchExecutor().execute(() -> {
+                try {
+                    prefetchedIdBlockFuture.complete(fetchIdBlock());
+                    prefetchedBlockCount.incrementAndGet();
+                } catch (Throwable t) {
+                    prefetchedIdBlockFuture.completeExceptionally(t);
+                }
+            });
+        }
+    }
+
+    protected IdBlock fetchIdBlock() {
+        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+        blockFetchCount.incrementAndGet();
+        return idBlock;
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchToNextBlock(currentIdBlock.get());
+    }
+
+    protected synchronized ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern(threadNamingPattern)
+                    .daemon(true)
+                    .build());
+        }
+        return prefetchExecutor;
+    }
+
+    /**
+     * Stops the background thread that fetches the next id block. A block fetch that is in progress is completed.
+     */
+    public synchronized void shutdown() {
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdown();
+            prefetchExecutor = null;
+        }
+    }
+
+    protected int getEffectiveLowWaterMark() {
+        return lowWaterMark > 0 ? lowWaterMark : idBlockSize / 4;
+    }
+
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+    public void setPrefetchExecutor(ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * @return the total number of id blocks fetched from the database, both synchronously and in the background.
+     */
+    public long getBlockFetchCount() {
+        return blockFetchCount.get();
+    }
+
+    /**
+     * @return the number of id blocks that were fetched in the background.
+     */
+    public long getPrefetchedBlockCount() {
+        return prefetchedBlockCount.get();
+    }
+
+    /**
+     * @return the number of id blocks that had to be fetched while the calling thread was waiting (no prefetched block was available).
+     */
+    public long getSynchronousBlockFetchCount() {
+        return synchronousBlockFetchCount.get();
+    }
+
+    /**
+     * @return the number of times a thread had to wait for another thread switching to a new id block.
+     */
+    public long getBlockSwitchWaitCount() {
+        return blockSwitchWaitCount.get();
+    }
+
+    /**
+     * @return the total time, in milliseconds, threads have spent waiting for another thread switching to a new id block.
+     */
+    public long getBlockSwitchWaitTimeInMillis() {
+        return blockSwitchWaitTimeNanos.get() / 1000000L;
+    }
+
+    protected static class CurrentIdBlock {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchId;
+
+        public CurrentIdBlock(IdBlock idBlock, int lowWaterMark) {
+            this.nextId = new AtomicLong(idBlock.getNextId());
+            this.lastId = idBlock.getLastId();
+            this.prefetchId = Math.max(idBlock.getNextId(), idBlock.getLastId() - lowWaterMark);
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Alternative for the {@link DatabaseEventFlusher} that doesn't insert the event log entries in the transaction that generated the events:
+ * the entries are created when the command context is closing, like with the {@link DatabaseEventFlusher}, but they are only handed over
+ * to the {@link AsyncEventLogWriter} after the transaction has been committed. The entries of a transaction that is rolled back are discarded.
+ *
+ * See the {@link AsyncEventLogWriter} for the cases in which event log entries can be lost.
+ */
+public class AsyncDatabaseEventFlusher extends AbstractEventFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncDatabaseEventFlusher.class);
+
+    protected AsyncEventLogWriter eventLogWriter;
+    protected List<EventLogEntryEntity> eventLogEntries = new ArrayList<>();
+    protected boolean transactionListenerAdded;
+
+    public AsyncDatabaseEventFlusher(AsyncEventLogWriter eventLogWriter) {
+        this.eventLogWriter = eventLogWriter;
+    }
+
+    @Override
+    public void addEventHandler(EventLoggerEventHandler eventHandler) {
+        super.addEventHandler(eventHandler);
+
+        // The transaction context is no longer available when the command context is closing
+        if (!transactionListenerAdded) {
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> handOver());
+                transactionListenerAdded = true;
+            }
+        }
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+
+        if (commandContext.getException() != null) {
+            return; // Not interested in events about exceptions
+        }
+
+        for (EventLoggerEventHandler eventHandler : eventHandlers) {
+            try {
+                eventLogEntries.add(eventHandler.generateEventLogEntry(commandContext));
+            } catch (Exception e) {
+                LOGGER.warn("Could not create event log", e);
+            }
+        }
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        if (!transactionListenerAdded) {
+            handOver();
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+        eventLogEntries.clear();
+    }
+
+    protected void handOver() {
+        if (!eventLogEntries.isEmpty()) {
+            eventLogWriter.add(eventLogEntries);
+            eventLogEntries = new ArrayList<>();
+        }
+    }
+
+    public AsyncEventLogWriter getEventLogWriter() {
+        return eventLogWriter;
+    }
+
+}
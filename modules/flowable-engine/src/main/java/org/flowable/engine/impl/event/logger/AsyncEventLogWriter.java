@@ -0,0 +1,226 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the event log entries handed over by the {@link AsyncDatabaseEventFlusher} to the database from a background thread.
+ *
+ * The entries are kept in a bounded queue. The writer thread takes up to flush size entries from the queue, waiting at most the flush interval
+ * for the queue to fill up after the first entry, and inserts them in one transaction, so they are written with the bulk inserts of the database session.
+ *
+ * Event log entries can be lost, contrary to the synchronous {@link DatabaseEventFlusher}:
+ * <ul>
+ * <li>when the queue stays full for longer than the max wait time, the entries of the transaction that couldn't be added are dropped;</li>
+ * <li>when writing a batch of entries fails, the entries of the batch are dropped;</li>
+ * <li>when the JVM stops without closing the process engine, the entries in the queue are lost. Closing the process engine writes the queued entries.</li>
+ * </ul>
+ * The number of lost entries is logged and available with {@link #getLostEntryCount()}. The entries of different transactions are not
+ * necessarily written in the order of their time stamps.
+ */
+public class AsyncEventLogWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventLogWriter.class);
+
+    protected CommandExecutor commandExecutor;
+    protected int flushSize;
+    protected long flushInterval;
+    protected long maxWaitTime;
+    protected String threadNamingPattern = "flowable-event-log-writer-%d";
+
+    protected BlockingQueue<EventLogEntryEntity> queue;
+    protected ExecutorService writerExecutor;
+    protected volatile boolean running;
+    protected AtomicLong lostEntryCount = new AtomicLong();
+
+    /**
+     * @param queueSize
+     *            the maximum number of entries waiting to be written
+     * @param flushSize
+     *            the maximum number of entries written in one transaction
+     * @param flushInterval
+     *            the maximum time in milliseconds an entry waits for more entries before it is written
+     * @param maxWaitTime
+     *            the maximum time in milliseconds a committed transaction waits for room in a full queue before its entries are dropped
+     */
+    public AsyncEventLogWriter(CommandExecutor commandExecutor, int queueSize, int flushSize, long flushInterval, long maxWaitTime) {
+        this.commandExecutor = commandExecutor;
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.maxWaitTime = maxWaitTime;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    public synchronized void start() {
+        if (writerExecutor == null) {
+            running = true;
+            writerExecutor = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern(threadNamingPattern)
+                    .daemon(true)
+                    .build());
+            writerExecutor.execute(this::run);
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes the entries that are still in the queue.
+     */
+    public synchronized void shutdown() {
+        if (writerExecutor != null) {
+            running = false;
+            writerExecutor.shutdown();
+            try {
+                if (!writerExecutor.awaitTermination(flushInterval + 10000, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Timeout while waiting for the event log writer to stop");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerExecutor = null;
+            flush();
+        }
+    }
+
+    /**
+     * Adds the entries of a committed transaction to the queue, waiting at most the max wait time when the queue is full.
+     */
+    public void add(List<EventLogEntryEntity> eventLogEntries) {
+        int added = 0;
+        try {
+            for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+                if (!queue.offer(eventLogEntry, maxWaitTime, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                added++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int dropped = eventLogEntries.size() - added;
+        if (dropped > 0) {
+            LOGGER.warn("Event log queue is full, dropped {} event log entries ({} in total)", dropped, lostEntryCount.addAndGet(dropped));
+        }
+    }
+
+    /**
+     * Writes all entries that are in the queue now, from the calling thread.
+     */
+    public void flush() {
+        List<EventLogEntryEntity> eventLogEntries = new ArrayList<>(flushSize);
+        while (queue.drainTo(eventLogEntries, flushSize) > 0) {
+            write(eventLogEntries);
+            eventLogEntries.clear();
+        }
+    }
+
+    protected void run() {
+        List<EventLogEntryEntity> eventLogEntries = new ArrayList<>(flushSize);
+        while (running) {
+            try {
+                EventLogEntryEntity eventLogEntry = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (eventLogEntry == null) {
+                    continue;
+                }
+
+                eventLogEntries.add(eventLogEntry);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+                while (eventLogEntries.size() < flushSize) {
+                    queue.drainTo(eventLogEntries, flushSize - eventLogEntries.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (eventLogEntries.size() >= flushSize || remaining <= 0) {
+                        break;
+                    }
+                    eventLogEntry = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (eventLogEntry == null) {
+                        break;
+                    }
+                    eventLogEntries.add(eventLogEntry);
+                }
+
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            // Also written when interrupted, as the entries are no longer in the queue
+            write(eventLogEntries);
+            eventLogEntries.clear();
+        }
+    }
+
+    protected void write(List<EventLogEntryEntity> eventLogEntries) {
+        if (eventLogEntries.isEmpty()) {
+            return;
+        }
+
+        try {
+            commandExecutor.execute(commandContext -> {
+                EventLogEntryEntityManager eventLogEntryEntityManager = CommandContextUtil.getEventLogEntryEntityManager(commandContext);
+                for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+                    eventLogEntryEntityManager.insert(eventLogEntry, false);
+                }
+                return null;
+            });
+            LOGGER.debug("Wrote {} event log entries", eventLogEntries.size());
+
+        } catch (Throwable t) {
+            // An exception would stop the writer thread
+            LOGGER.warn("Could not write {} event log entries ({} lost in total)", eventLogEntries.size(), lostEntryCount.addAndGet(eventLogEntries.size()), t);
+        }
+    }
+
+    public int getQueuedEntryCount() {
+        return queue.size();
+    }
+
+    public long getLostEntryCount() {
+        return lostEntryCount.get();
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public long getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+}
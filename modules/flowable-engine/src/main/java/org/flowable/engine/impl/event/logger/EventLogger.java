@@ -65,6 +65,9 @@ public class EventLogger extends AbstractFlowableEventListener {
     // Listeners for new events
     protected List<EventLoggerListener> listeners;
 
+    // When set, the event log entries are written after the transaction by this writer
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
     public EventLogger() {
         initializeDefaultHandlers();
     }
@@ -75,6 +78,11 @@ public class EventLogger extends AbstractFlowableEventListener {
         this.objectMapper = objectMapper;
     }
 
+    public EventLogger(Clock clock, ObjectMapper objectMapper, AsyncEventLogWriter asyncEventLogWriter) {
+        this(clock, objectMapper);
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
     protected void initializeDefaultHandlers() {
         addEventHandler(FlowableEngineEventType.TASK_CREATED, TaskCreatedEventHandler.class);
         addEventHandler(FlowableEngineEventType.TASK_COMPLETED, TaskCompletedEventHandler.class);
@@ -212,6 +220,9 @@ public class EventLogger extends AbstractFlowableEventListener {
      * Subclasses that want something else than the database flusher should override this method
      */
     protected EventFlusher createEventFlusher() {
+        if (asyncEventLogWriter != null) {
+            return new AsyncDatabaseEventFlusher(asyncEventLogWriter);
+        }
         return null;
     }
 
@@ -239,4 +250,12 @@ public class EventLogger extends AbstractFlowableEventListener {
         this.listeners = listeners;
     }
 
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public void setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
 }
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Splits a set of items into batches that are processed by independent jobs: every execution of a fan-out job pages through the next
+ * {@link #PROPERTYNAME_BATCH_SIZE} items (ordered by id, with the id of the last item of the previous page as cursor), schedules a job
+ * that processes the items of that page and schedules a new fan-out job for the next page. The batch jobs are independent of each other,
+ * so they are executed in parallel by the async executor.
+ *
+ * The configuration of a fan-out job is a json object with the cursor, the batch size and the number of batches and items scheduled so far.
+ * Subclasses add the properties they need to find the items.
+ */
+public abstract class AbstractFanOutJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFanOutJobHandler.class);
+
+    public static final String PROPERTYNAME_AFTER_ID = "afterId";
+    public static final String PROPERTYNAME_LAST_ID = "lastId";
+    public static final String PROPERTYNAME_BATCH_SIZE = "batchSize";
+    public static final String PROPERTYNAME_BATCH_COUNT = "batchCount";
+    public static final String PROPERTYNAME_ITEM_COUNT = "itemCount";
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ObjectNode configurationNode = readConfiguration(configuration, commandContext);
+        String afterId = getTextValue(configurationNode, PROPERTYNAME_AFTER_ID);
+        int batchSize = configurationNode.path(PROPERTYNAME_BATCH_SIZE).asInt();
+
+        List<String> ids = findNextIds(job, configurationNode, afterId, batchSize, commandContext);
+        if (ids == null) {
+            LOGGER.debug("Stopped the fan-out of {}", getDescription(job, configurationNode));
+            return;
+        }
+
+        int batchCount = configurationNode.path(PROPERTYNAME_BATCH_COUNT).asInt();
+        int itemCount = configurationNode.path(PROPERTYNAME_ITEM_COUNT).asInt();
+        if (!ids.isEmpty()) {
+            String lastId = ids.get(ids.size() - 1);
+            scheduleBatch(job, configurationNode, afterId, lastId, ids.size(), commandContext);
+
+            batchCount++;
+            itemCount += ids.size();
+
+            if (ids.size() == batchSize) {
+                configurationNode.put(PROPERTYNAME_AFTER_ID, lastId);
+                configurationNode.put(PROPERTYNAME_BATCH_COUNT, batchCount);
+                configurationNode.put(PROPERTYNAME_ITEM_COUNT, itemCount);
+                scheduleJob(getType(), configurationNode.toString(), job.getScopeId(), job.getProcessDefinitionId(), job.getTenantId(), commandContext);
+
+                LOGGER.debug("Scheduled batch {} of {} with {} items so far", batchCount, getDescription(job, configurationNode), itemCount);
+                return;
+            }
+        }
+
+        fanOutCompleted(job, configurationNode, batchCount, itemCount, commandContext);
+        LOGGER.debug("Scheduled all {} batches of {} with {} items", batchCount, getDescription(job, configurationNode), itemCount);
+    }
+
+    /**
+     * Returns the ids of at most batchSize items after the given id (all items when afterId is null), in the order of their ids.
+     * Returns null when the fan-out must stop, for example because the work it was scheduled for was deleted.
+     */
+    protected abstract List<String> findNextIds(JobEntity job, ObjectNode configuration, String afterId, int batchSize, CommandContext commandContext);
+
+    /**
+     * Schedules the processing of the items with an id after afterId, up to and including lastId.
+     */
+    protected abstract void scheduleBatch(JobEntity job, ObjectNode configuration, String afterId, String lastId, int itemCount, CommandContext commandContext);
+
+    /**
+     * Called when the batches of all items have been scheduled.
+     */
+    protected void fanOutCompleted(JobEntity job, ObjectNode configuration, int batchCount, int itemCount, CommandContext commandContext) {
+        // Nothing to do by default
+    }
+
+    /**
+     * Describes the items that are fanned out, for logging.
+     */
+    protected abstract String getDescription(JobEntity job, ObjectNode configuration);
+
+    protected static void scheduleJob(String jobHandlerType, String configuration, String scopeId, String processDefinitionId, String tenantId,
+            CommandContext commandContext) {
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(configuration);
+        // The jobs don't belong to a process instance, so there is nothing to lock
+        job.setExclusive(false);
+        job.setScopeId(scopeId);
+        job.setProcessDefinitionId(processDefinitionId);
+        if (tenantId != null && !ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId)) {
+            job.setTenantId(tenantId);
+        }
+        jobService.scheduleAsyncJob(job);
+    }
+
+    protected static ObjectNode readConfiguration(String configuration, CommandContext commandContext) {
+        try {
+            return (ObjectNode) CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read fan-out job configuration " + configuration, e);
+        }
+    }
+
+    protected static String getTextValue(JsonNode configurationNode, String propertyName) {
+        JsonNode valueNode = configurationNode.get(propertyName);
+        return valueNode != null && !valueNode.isNull() ? valueNode.asText() : null;
+    }
+
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Aggregates the completed instances of a parallel multi instance activity with async aggregation
+ * (see {@link ParallelMultiInstanceBehavior#isAsyncAggregation()}). The job belongs to the multi instance root execution
+ * and schedules a new aggregation job for it as long as the multi instance activity isn't left. The configuration of the job is
+ * the number of milliseconds since the previous aggregation, which the next aggregation backs off from when no instances completed.
+ */
+public class ParallelMultiInstanceAggregationJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-aggregation";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ExecutionEntity multiInstanceRootExecution = (ExecutionEntity) variableScope;
+        FlowElement flowElement = multiInstanceRootExecution.getCurrentFlowElement();
+        if (multiInstanceRootExecution.isEnded() || !(flowElement instanceof Activity)
+                || !(((Activity) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior)) {
+            return;
+        }
+
+        ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) flowElement).getBehavior();
+        multiInstanceBehavior.aggregateCompletedInstancesAndScheduleNextAggregation(multiInstanceRootExecution, NumberUtils.toInt(configuration));
+    }
+
+}
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.migration.ProcessInstanceMigrationDocumentImpl;
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessInstanceMigrationManager;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Migrates the process instances of one chunk scheduled by the {@link ProcessInstanceMigrationFanOutJobHandler}: the process instances
+ * of the process definition with an id after the cursor of the chunk, up to and including the last id of the chunk.
+ * The configuration of the job is the id of the {@link BatchPartEntity} of the chunk, which records the outcome of the migration.
+ *
+ * All process instances of the chunk are migrated in one transaction, so when one of them fails the whole chunk is retried.
+ * Process instances that were already migrated no longer belong to the process definition, so a retried chunk only migrates the remaining ones.
+ * When the last retry fails, the chunk is marked as failed with the exception message and the job ends up as a dead letter job.
+ */
+public class ProcessInstanceMigrationChunkJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceMigrationChunkJobHandler.class);
+
+    public static final String TYPE = "process-migration-chunk";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        BatchPartEntity batchPart = CommandContextUtil.getBatchPartEntityManager(commandContext).findById(configuration);
+        if (batchPart == null) {
+            // The batch was deleted
+            return;
+        }
+
+        BatchEntity batch = CommandContextUtil.getBatchEntityManager(commandContext).findById(batchPart.getBatchId());
+        String documentJson = CommandContextUtil.getBatchEntityManager(commandContext).findBatchDocument(batch);
+        ProcessInstanceMigrationDocument document = ProcessInstanceMigrationDocumentImpl.fromProcessInstanceMigrationDocumentJson(documentJson);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        try {
+            List<String> processInstanceIds = CommandContextUtil.getExecutionEntityManager(commandContext)
+                    .findProcessInstanceIdsByProcessDefinitionId(batch.getSearchKey(), batchPart.getAfterId(), batchPart.getLastId(), -1);
+
+            ProcessInstanceMigrationManager migrationManager = processEngineConfiguration.getProcessInstanceMigrationManager();
+            for (String processInstanceId : processInstanceIds) {
+                migrationManager.migrateProcessInstance(processInstanceId, document, commandContext);
+            }
+
+            batchPart.setStatus(BatchPartEntity.STATUS_COMPLETED);
+            batchPart.setItemCount(processInstanceIds.size());
+            batchPart.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+            batchPart.setExceptionMessage(null);
+
+            LOGGER.debug("Migrated {} process instances of migration batch {}", processInstanceIds.size(), batch.getId());
+
+        } catch (RuntimeException e) {
+            if (job.getRetries() <= 1) {
+                // The transaction of the job is rolled back, so the failure is recorded in a new one
+                markBatchPartFailed(batchPart.getId(), e, processEngineConfiguration);
+            }
+            throw e;
+        }
+    }
+
+    protected void markBatchPartFailed(final String batchPartId, final RuntimeException exception, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.getCommandExecutor().execute(processEngineConfiguration.getCommandExecutor().getDefaultConfig().transactionRequiresNew(),
+                new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        BatchPartEntity batchPart = CommandContextUtil.getBatchPartEntityManager(commandContext).findById(batchPartId);
+                        if (batchPart != null) {
+                            batchPart.setStatus(BatchPartEntity.STATUS_FAILED);
+                            batchPart.setCompleteTime(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
+                            batchPart.setExceptionMessage(exception.getMessage());
+                        }
+                        return null;
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.impl.persistence.entity.BatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntity;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Migrates the process instances of a process definition in chunks of {@link ProcessEngineConfigurationImpl#getProcessInstanceMigrationBatchSize()}
+ * process instances, each migrated by a {@link ProcessInstanceMigrationChunkJobHandler} job.
+ *
+ * The migration is recorded as a {@link BatchEntity} with the migration document, and every chunk as a {@link BatchPartEntity} with its status,
+ * so the progress and the failures of the migration can be queried. All jobs of one migration batch have the id of the batch as scope id
+ * and the process definition of the migrated process instances as process definition id.
+ */
+public class ProcessInstanceMigrationFanOutJobHandler extends AbstractFanOutJobHandler {
+
+    public static final String TYPE = "process-migration-fan-out";
+
+    public static final String PROPERTYNAME_PROCESS_DEFINITION_ID = "processDefinitionId";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Schedules the migration of all process instances of the given process definition and returns the id of the migration batch.
+     */
+    public static String scheduleProcessInstanceMigration(ProcessDefinition processDefinition, String targetProcessDefinitionId,
+            ProcessInstanceMigrationDocument document, CommandContext commandContext) {
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchEntityManager batchEntityManager = CommandContextUtil.getBatchEntityManager(commandContext);
+        BatchEntity batch = batchEntityManager.create();
+        batch.setType(BatchEntity.TYPE_PROCESS_MIGRATION);
+        batch.setSearchKey(processDefinition.getId());
+        batch.setSearchKey2(targetProcessDefinitionId);
+        batch.setStatus(BatchEntity.STATUS_FAN_OUT);
+        batch.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
+        if (processDefinition.getTenantId() != null) {
+            batch.setTenantId(processDefinition.getTenantId());
+        }
+        batchEntityManager.insertBatchDocument(batch, document.asJsonString());
+        batchEntityManager.insert(batch);
+
+        ObjectNode configuration = processEngineConfiguration.getObjectMapper().createObjectNode();
+        configuration.put(PROPERTYNAME_PROCESS_DEFINITION_ID, processDefinition.getId());
+        configuration.put(PROPERTYNAME_BATCH_SIZE, processEngineConfiguration.getProcessInstanceMigrationBatchSize());
+        configuration.put(PROPERTYNAME_BATCH_COUNT, 0);
+        configuration.put(PROPERTYNAME_ITEM_COUNT, 0);
+
+        scheduleJob(TYPE, configuration.toString(), batch.getId(), processDefinition.getId(), processDefinition.getTenantId(), commandContext);
+        return batch.getId();
+    }
+
+    @Override
+    protected List<String> findNextIds(JobEntity job, ObjectNode configuration, String afterId, int batchSize, CommandContext commandContext) {
+        if (CommandContextUtil.getBatchEntityManager(commandContext).findById(job.getScopeId()) == null) {
+            // The batch was deleted
+            return null;
+        }
+
+        return CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstanceIdsByProcessDefinitionId(
+                configuration.path(PROPERTYNAME_PROCESS_DEFINITION_ID).asText(), afterId, null, batchSize);
+    }
+
+    @Override
+    protected void scheduleBatch(JobEntity job, ObjectNode configuration, String afterId, String lastId, int itemCount, CommandContext commandContext) {
+        BatchEntity batch = CommandContextUtil.getBatchEntityManager(commandContext).findById(job.getScopeId());
+        BatchPartEntityManager batchPartEntityManager = CommandContextUtil.getBatchPartEntityManager(commandContext);
+        BatchPartEntity batchPart = batchPartEntityManager.create();
+        batchPart.setBatchId(batch.getId());
+        batchPart.setStatus(BatchPartEntity.STATUS_WAITING);
+        batchPart.setAfterId(afterId);
+        batchPart.setLastId(lastId);
+        batchPart.setItemCount(itemCount);
+        batchPart.setCreateTime(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
+        batchPart.setTenantId(batch.getTenantId());
+        batchPartEntityManager.insert(batchPart);
+
+        batch.setPartCount(batch.getPartCount() + 1);
+        batch.setItemCount(batch.getItemCount() + itemCount);
+
+        scheduleJob(ProcessInstanceMigrationChunkJobHandler.TYPE, batchPart.getId(), batch.getId(), job.getProcessDefinitionId(), job.getTenantId(), commandContext);
+    }
+
+    @Override
+    protected void fanOutCompleted(JobEntity job, ObjectNode configuration, int batchCount, int itemCount, CommandContext commandContext) {
+        BatchEntity batch = CommandContextUtil.getBatchEntityManager(commandContext).findById(job.getScopeId());
+        batch.setStatus(BatchEntity.STATUS_FAN_OUT_COMPLETED);
+    }
+
+    @Override
+    protected String getDescription(JobEntity job, ObjectNode configuration) {
+        return "migration batch " + job.getScopeId();
+    }
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Triggers the signal event subscriptions of one batch scheduled by the {@link SignalEventFanOutJobHandler}:
+ * the subscriptions to the signal with an id after the cursor of the batch, up to and including the last id of the batch.
+ *
+ * All subscriptions of the batch are triggered in one transaction, so when one of them fails the whole batch is retried.
+ */
+public class SignalEventBatchJobHandler implements JobHandler {
+
+    public static final String TYPE = "signal-batch";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ObjectNode configurationNode = AbstractFanOutJobHandler.readConfiguration(configuration, commandContext);
+        String eventName = configurationNode.path(SignalEventFanOutJobHandler.PROPERTYNAME_EVENT_NAME).asText();
+        String tenantId = AbstractFanOutJobHandler.getTextValue(configurationNode, SignalEventFanOutJobHandler.PROPERTYNAME_TENANT_ID);
+        Date createdBefore = SignalEventFanOutJobHandler.getCreatedBefore(configurationNode);
+        String afterId = AbstractFanOutJobHandler.getTextValue(configurationNode, AbstractFanOutJobHandler.PROPERTYNAME_AFTER_ID);
+        String lastId = AbstractFanOutJobHandler.getTextValue(configurationNode, AbstractFanOutJobHandler.PROPERTYNAME_LAST_ID);
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = CommandContextUtil.getEventSubscriptionEntityManager(commandContext);
+        List<SignalEventSubscriptionEntity> subscriptions = eventSubscriptionEntityManager
+                .findSignalEventSubscriptionsByEventName(eventName, tenantId, createdBefore, afterId, lastId, -1);
+
+        for (SignalEventSubscriptionEntity subscription : subscriptions) {
+            // Same as the SignalEventReceivedCmd: process instance scoped signals must be thrown within the process itself
+            if (subscription.isGlobalScoped()) {
+
+                if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, subscription.getProcessDefinitionId())) {
+                    Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                    compatibilityHandler.signalEventReceived(subscription, null, false);
+
+                } else {
+                    CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher().dispatchEvent(
+                            FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, subscription.getActivityId(), eventName,
+                                    null, subscription.getExecutionId(), subscription.getProcessInstanceId(), subscription.getProcessDefinitionId()));
+
+                    eventSubscriptionEntityManager.eventReceived(subscription, null, false);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Delivers a signal to its subscriptions in batches of {@link ProcessEngineConfigurationImpl#getSignalEventFanOutBatchSize()} subscriptions,
+ * each triggered by a {@link SignalEventBatchJobHandler} job.
+ *
+ * The configuration of the fan-out job keeps the number of batches and subscriptions scheduled so far, so the progress of the fan-out
+ * can be followed by querying the jobs with handler type {@link #TYPE} and {@link SignalEventBatchJobHandler#TYPE}.
+ */
+public class SignalEventFanOutJobHandler extends AbstractFanOutJobHandler {
+
+    public static final String TYPE = "signal-fan-out";
+
+    public static final String PROPERTYNAME_EVENT_NAME = "eventName";
+    public static final String PROPERTYNAME_TENANT_ID = "tenantId";
+    public static final String PROPERTYNAME_CREATED_BEFORE = "createdBefore";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Schedules the delivery of the signal with the given name to all subscriptions that exist at this moment.
+     */
+    public static void scheduleSignalEventFanOut(String eventName, String tenantId, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectNode configuration = processEngineConfiguration.getObjectMapper().createObjectNode();
+        configuration.put(PROPERTYNAME_EVENT_NAME, eventName);
+        configuration.put(PROPERTYNAME_TENANT_ID, tenantId);
+
+        // Subscriptions created after the signal was received must not get the signal
+        configuration.put(PROPERTYNAME_CREATED_BEFORE, processEngineConfiguration.getClock().getCurrentTime().getTime());
+        configuration.put(PROPERTYNAME_BATCH_SIZE, processEngineConfiguration.getSignalEventFanOutBatchSize());
+        configuration.put(PROPERTYNAME_BATCH_COUNT, 0);
+        configuration.put(PROPERTYNAME_ITEM_COUNT, 0);
+
+        scheduleJob(TYPE, configuration.toString(), null, null, tenantId, commandContext);
+    }
+
+    @Override
+    protected List<String> findNextIds(JobEntity job, ObjectNode configuration, String afterId, int batchSize, CommandContext commandContext) {
+        List<SignalEventSubscriptionEntity> subscriptions = CommandContextUtil.getEventSubscriptionEntityManager(commandContext)
+                .findSignalEventSubscriptionsByEventName(configuration.path(PROPERTYNAME_EVENT_NAME).asText(),
+                        getTextValue(configuration, PROPERTYNAME_TENANT_ID), getCreatedBefore(configuration), afterId, null, batchSize);
+
+        List<String> subscriptionIds = new ArrayList<>(subscriptions.size());
+        for (SignalEventSubscriptionEntity subscription : subscriptions) {
+            subscriptionIds.add(subscription.getId());
+        }
+        return subscriptionIds;
+    }
+
+    @Override
+    protected void scheduleBatch(JobEntity job, ObjectNode configuration, String afterId, String lastId, int itemCount, CommandContext commandContext) {
+        ObjectNode batchConfiguration = configuration.objectNode();
+        batchConfiguration.put(PROPERTYNAME_EVENT_NAME, configuration.path(PROPERTYNAME_EVENT_NAME).asText());
+        batchConfiguration.put(PROPERTYNAME_TENANT_ID, getTextValue(configuration, PROPERTYNAME_TENANT_ID));
+        batchConfiguration.put(PROPERTYNAME_CREATED_BEFORE, configuration.path(PROPERTYNAME_CREATED_BEFORE).asLong());
+        batchConfiguration.put(PROPERTYNAME_AFTER_ID, afterId);
+        batchConfiguration.put(PROPERTYNAME_LAST_ID, lastId);
+        scheduleJob(SignalEventBatchJobHandler.TYPE, batchConfiguration.toString(), null, null, job.getTenantId(), commandContext);
+    }
+
+    @Override
+    protected String getDescription(JobEntity job, ObjectNode configuration) {
+        return "signal " + configuration.path(PROPERTYNAME_EVENT_NAME).asText();
+    }
+
+    protected static Date getCreatedBefore(ObjectNode configuration) {
+        return new Date(configuration.path(PROPERTYNAME_CREATED_BEFORE).asLong());
+    }
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.migration;
+
+import java.util.Date;
+
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+
+public class ProcessInstanceMigrationBatchImpl implements ProcessInstanceMigrationBatch {
+
+    protected String id;
+    protected String sourceProcessDefinitionId;
+    protected String targetProcessDefinitionId;
+    protected Date createTime;
+    protected boolean fanOutCompleted;
+    protected int chunkCount;
+    protected int processInstanceCount;
+    protected long pendingChunkCount;
+    protected long completedChunkCount;
+    protected long failedChunkCount;
+    protected long migratedProcessInstanceCount;
+
+    public ProcessInstanceMigrationBatchImpl(BatchEntity batch, long pendingChunkCount, long completedChunkCount, long failedChunkCount,
+            long migratedProcessInstanceCount) {
+
+        this.id = batch.getId();
+        this.sourceProcessDefinitionId = batch.getSearchKey();
+        this.targetProcessDefinitionId = batch.getSearchKey2();
+        this.createTime = batch.getCreateTime();
+        this.fanOutCompleted = BatchEntity.STATUS_FAN_OUT_COMPLETED.equals(batch.getStatus());
+        this.chunkCount = batch.getPartCount();
+        this.processInstanceCount = batch.getItemCount();
+        this.pendingChunkCount = pendingChunkCount;
+        this.completedChunkCount = completedChunkCount;
+        this.failedChunkCount = failedChunkCount;
+        this.migratedProcessInstanceCount = migratedProcessInstanceCount;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getSourceProcessDefinitionId() {
+        return sourceProcessDefinitionId;
+    }
+
+    @Override
+    public String getTargetProcessDefinitionId() {
+        return targetProcessDefinitionId;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public boolean isFanOutCompleted() {
+        return fanOutCompleted;
+    }
+
+    @Override
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    @Override
+    public int getProcessInstanceCount() {
+        return processInstanceCount;
+    }
+
+    @Override
+    public long getPendingChunkCount() {
+        return pendingChunkCount;
+    }
+
+    @Override
+    public long getCompletedChunkCount() {
+        return completedChunkCount;
+    }
+
+    @Override
+    public long getFailedChunkCount() {
+        return failedChunkCount;
+    }
+
+    @Override
+    public long getMigratedProcessInstanceCount() {
+        return migratedProcessInstanceCount;
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return fanOutCompleted && pendingChunkCount == 0 && failedChunkCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceMigrationBatch[id=" + id + ", fanOutCompleted=" + fanOutCompleted + ", chunkCount=" + chunkCount
+                + ", pendingChunkCount=" + pendingChunkCount + ", completedChunkCount=" + completedChunkCount + ", failedChunkCount=" + failedChunkCount + "]";
+    }
+
+}
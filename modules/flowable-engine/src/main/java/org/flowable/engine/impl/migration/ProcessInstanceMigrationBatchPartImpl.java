@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.migration;
+
+import java.util.Date;
+
+import org.flowable.engine.impl.persistence.entity.BatchPartEntity;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+
+public class ProcessInstanceMigrationBatchPartImpl implements ProcessInstanceMigrationBatchPart {
+
+    protected String id;
+    protected String batchId;
+    protected String status;
+    protected int processInstanceCount;
+    protected Date createTime;
+    protected Date completeTime;
+    protected String exceptionMessage;
+
+    public ProcessInstanceMigrationBatchPartImpl(BatchPartEntity batchPart) {
+        this.id = batchPart.getId();
+        this.batchId = batchPart.getBatchId();
+        this.status = batchPart.getStatus();
+        this.processInstanceCount = batchPart.getItemCount();
+        this.createTime = batchPart.getCreateTime();
+        this.completeTime = batchPart.getCompleteTime();
+        this.exceptionMessage = batchPart.getExceptionMessage();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getBatchId() {
+        return batchId;
+    }
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public int getProcessInstanceCount() {
+        return processInstanceCount;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public Date getCompleteTime() {
+        return completeTime;
+    }
+
+    @Override
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceMigrationBatchPart[id=" + id + ", batchId=" + batchId + ", status=" + status + "]";
+    }
+
+}
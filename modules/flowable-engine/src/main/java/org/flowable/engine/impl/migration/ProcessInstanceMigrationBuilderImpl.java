@@ -126,6 +126,18 @@ public class ProcessInstanceMigrationBuilderImpl implements ProcessInstanceMigra
         return getRuntimeService().validateMigrationForProcessInstancesOfProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, document);
     }
 
+    @Override
+    public String migrateProcessInstancesAsync(String processDefinitionId) {
+        ProcessInstanceMigrationDocument document = migrationDocumentBuilder.build();
+        return getRuntimeService().migrateProcessInstancesOfProcessDefinitionAsync(processDefinitionId, document);
+    }
+
+    @Override
+    public String migrateProcessInstancesAsync(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId) {
+        ProcessInstanceMigrationDocument document = migrationDocumentBuilder.build();
+        return getRuntimeService().migrateProcessInstancesOfProcessDefinitionAsync(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, document);
+    }
+
     protected RuntimeService getRuntimeService() {
         if (runtimeService == null) {
             throw new FlowableException("RuntimeService cannot be null, Obtain your builder instance from the RuntimeService to access this feature");
@@ -42,6 +42,7 @@ import org.flowable.engine.impl.dynamic.AbstractDynamicStateManager;
 import org.flowable.engine.impl.dynamic.MoveExecutionEntityContainer;
 import org.flowable.engine.impl.dynamic.ProcessInstanceChangeState;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationFanOutJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -346,6 +347,37 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
 
     }
 
+    @Override
+    public String migrateProcessInstancesOfProcessDefinitionAsync(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
+        ProcessDefinition processDefinition = resolveProcessDefinition(procDefKey, procDefVer, procDefTenantId, commandContext);
+        if (processDefinition == null) {
+            throw new FlowableException("Cannot find the process definition to migrate from, with key '" + procDefKey + "' and version '" + procDefVer + "'"
+                + (procDefTenantId != null ? " and tenantId '" + procDefTenantId + "'" : ""));
+        }
+
+        return migrateProcessInstancesOfProcessDefinitionAsync(processDefinition.getId(), document, commandContext);
+    }
+
+    @Override
+    public String migrateProcessInstancesOfProcessDefinitionAsync(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
+        ProcessDefinition processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+        if (processDefinition == null) {
+            throw new FlowableException("Cannot find the process definition to migrate from, with id " + processDefinitionId);
+        }
+
+        // Fail before scheduling anything when the process definition to migrate to doesn't exist
+        ProcessDefinition procDefToMigrateTo = resolveProcessDefinition(document, commandContext);
+        if (procDefToMigrateTo == null) {
+            throw new FlowableException("Cannot find the process definition to migrate to, with " + printProcessDefinitionIdentifierMessage(document));
+        }
+
+        String batchId = ProcessInstanceMigrationFanOutJobHandler.scheduleProcessInstanceMigration(processDefinition, procDefToMigrateTo.getId(), document,
+                commandContext);
+        LOGGER.debug("Scheduled migration batch {} of the process instances of process definition {} to {}", batchId, processDefinitionId,
+            printProcessDefinitionIdentifierMessage(document));
+        return batchId;
+    }
+
     protected void doMigrateProcessInstance(ProcessInstance processInstance, ProcessDefinition procDefToMigrateTo, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
         LOGGER.debug("Start migration of process instance with Id:'" + processInstance.getId() + "' to " + printProcessDefinitionIdentifierMessage(document));
 
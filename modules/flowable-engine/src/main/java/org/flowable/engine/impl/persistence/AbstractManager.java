@@ -22,6 +22,8 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
@@ -104,6 +106,14 @@ public abstract class AbstractManager {
         return getProcessEngineConfiguration().getProcessDefinitionInfoEntityManager();
     }
 
+    protected BatchEntityManager getBatchEntityManager() {
+        return getProcessEngineConfiguration().getBatchEntityManager();
+    }
+
+    protected BatchPartEntityManager getBatchPartEntityManager() {
+        return getProcessEngineConfiguration().getBatchPartEntityManager();
+    }
+
     protected ModelEntityManager getModelEntityManager() {
         return getProcessEngineConfiguration().getModelEntityManager();
     }
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link ProcessDefinitionInfoChangeNotifier}, which doesn't need any infrastructure besides the database: every poll interval
+ * the revisions of all process definition infos are fetched with one select, and the cache entries with another revision are removed.
+ *
+ * Changes made by other engines are therefore visible after at most one poll interval. Changes made by this engine are visible immediately,
+ * as the cache entry is removed when the change is committed.
+ */
+public class PollingProcessDefinitionInfoChangeNotifier implements ProcessDefinitionInfoChangeNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PollingProcessDefinitionInfoChangeNotifier.class);
+
+    protected CommandExecutor commandExecutor;
+    protected long pollInterval;
+    protected String threadNamingPattern = "flowable-process-definition-info-poller-%d";
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+    protected ScheduledExecutorService pollExecutor;
+
+    /**
+     * @param pollInterval
+     *            the time in milliseconds between two polls
+     */
+    public PollingProcessDefinitionInfoChangeNotifier(CommandExecutor commandExecutor, long pollInterval) {
+        this.commandExecutor = commandExecutor;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public synchronized void start(ProcessDefinitionInfoCache processDefinitionInfoCache) {
+        this.processDefinitionInfoCache = processDefinitionInfoCache;
+        if (pollExecutor == null) {
+            pollExecutor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern(threadNamingPattern)
+                    .daemon(true)
+                    .build());
+            pollExecutor.scheduleWithFixedDelay(this::pollSafely, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void processDefinitionInfoChanged(String processDefinitionId) {
+        // Nothing to publish: the other engines will see the new revision when they poll
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (pollExecutor != null) {
+            pollExecutor.shutdownNow();
+            pollExecutor = null;
+        }
+    }
+
+    /**
+     * Removes the cache entries of which the revision differs from the revision in the database.
+     */
+    public void poll() {
+        if (processDefinitionInfoCache == null || processDefinitionInfoCache.size() == 0) {
+            return;
+        }
+
+        Map<String, Integer> revisions = commandExecutor.execute(commandContext -> {
+            Map<String, Integer> processDefinitionInfoRevisions = new HashMap<>();
+            for (ProcessDefinitionInfoEntity infoEntity : CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext).findProcessDefinitionInfos()) {
+                processDefinitionInfoRevisions.put(infoEntity.getProcessDefinitionId(), infoEntity.getRevision());
+            }
+            return processDefinitionInfoRevisions;
+        });
+
+        processDefinitionInfoCache.removeChanged(revisions);
+    }
+
+    protected void pollSafely() {
+        try {
+            poll();
+        } catch (Throwable t) {
+            // An exception would cancel the scheduled polling
+            LOGGER.warn("Could not poll for changed process definition infos", t);
+        }
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.engine.impl.persistence.deploy;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -34,6 +35,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 /**
  * Default cache: keep everything in memory, unless a limit is set.
  * 
+ * By default the revision of a cached process definition info is checked against the database on every access. When the revision check
+ * is disabled, a cached process definition info is used until it is removed from the cache: by this engine when the process definition info
+ * is saved, and by the {@link ProcessDefinitionInfoChangeNotifier} when another engine saved it.
+ * 
  * @author Tijs Rademakers
  */
 public class ProcessDefinitionInfoCache {
@@ -42,6 +47,8 @@ public class ProcessDefinitionInfoCache {
 
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
+    protected boolean revisionCheckEnabled = true;
+    protected ProcessDefinitionInfoChangeNotifier changeNotifier;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
@@ -101,6 +108,33 @@ public class ProcessDefinitionInfoCache {
         cache.clear();
     }
 
+    /**
+     * Removes the cache entry of a process definition info that has been changed by this engine and notifies the other engines of the change.
+     */
+    public void processDefinitionInfoChanged(String processDefinitionId) {
+        cache.remove(processDefinitionId);
+        if (changeNotifier != null) {
+            changeNotifier.processDefinitionInfoChanged(processDefinitionId);
+        }
+    }
+
+    /**
+     * Removes the cache entries of which the revision differs from the given revision (a revision of 0 when the process definition is not in the given map).
+     */
+    public void removeChanged(Map<String, Integer> revisionsByProcessDefinitionId) {
+        synchronized (cache) {
+            Iterator<Map.Entry<String, ProcessDefinitionInfoCacheObject>> entryIterator = cache.entrySet().iterator();
+            while (entryIterator.hasNext()) {
+                Map.Entry<String, ProcessDefinitionInfoCacheObject> entry = entryIterator.next();
+                Integer revision = revisionsByProcessDefinitionId.get(entry.getKey());
+                if (entry.getValue().getRevision() != (revision != null ? revision : 0)) {
+                    LOGGER.debug("Process definition info of {} has been changed, removing it from the cache", entry.getKey());
+                    entryIterator.remove();
+                }
+            }
+        }
+    }
+
     // For testing purposes only
     public int size() {
         return cache.size();
@@ -110,10 +144,11 @@ public class ProcessDefinitionInfoCache {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject != null && !revisionCheckEnabled) {
+            return cacheObject;
+
+        } else if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
@@ -136,7 +171,28 @@ public class ProcessDefinitionInfoCache {
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        if (!revisionCheckEnabled) {
+            // The cache entry is only refreshed when it is removed, so it needs to be added to avoid a select on every access
+            cache.put(processDefinitionId, cacheObject);
+        }
+
         return cacheObject;
     }
 
+    public boolean isRevisionCheckEnabled() {
+        return revisionCheckEnabled;
+    }
+
+    public void setRevisionCheckEnabled(boolean revisionCheckEnabled) {
+        this.revisionCheckEnabled = revisionCheckEnabled;
+    }
+
+    public ProcessDefinitionInfoChangeNotifier getChangeNotifier() {
+        return changeNotifier;
+    }
+
+    public void setChangeNotifier(ProcessDefinitionInfoChangeNotifier changeNotifier) {
+        this.changeNotifier = changeNotifier;
+    }
+
 }
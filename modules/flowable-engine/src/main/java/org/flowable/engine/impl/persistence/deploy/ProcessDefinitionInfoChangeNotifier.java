@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+/**
+ * Keeps the {@link ProcessDefinitionInfoCache} of an engine up to date with the changes of the process definition info made by the other engines
+ * of a cluster, when the cache does not check the revision of a cached process definition info on every access.
+ *
+ * Implementations can use a messaging system of the cluster to publish the changes made locally and to invalidate the cache entries
+ * of the changes received from other engines. The default implementation is the {@link PollingProcessDefinitionInfoChangeNotifier}.
+ */
+public interface ProcessDefinitionInfoChangeNotifier {
+
+    /**
+     * Called when the process engine is built: from now on the changes made by other engines must be removed from the given cache
+     * with {@link ProcessDefinitionInfoCache#remove(String)}.
+     */
+    void start(ProcessDefinitionInfoCache processDefinitionInfoCache);
+
+    /**
+     * Called after the transaction that changed the process definition info of the given process definition has been committed.
+     * The cache entry of this engine is already removed at this point.
+     */
+    void processDefinitionInfoChanged(String processDefinitionId);
+
+    /**
+     * Called when the process engine is closed.
+     */
+    void stop();
+
+}
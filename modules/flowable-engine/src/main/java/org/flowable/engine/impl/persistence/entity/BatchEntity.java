@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A unit of work that is split into {@link BatchPartEntity parts} that are executed by independent jobs,
+ * like the migration of all process instances of a process definition.
+ */
+public interface BatchEntity extends Entity, HasRevision {
+
+    String TYPE_PROCESS_MIGRATION = "processMigration";
+
+    String STATUS_FAN_OUT = "fanOut";
+    String STATUS_FAN_OUT_COMPLETED = "fanOutCompleted";
+
+    String getType();
+
+    void setType(String type);
+
+    /**
+     * The first key to find the batch with. For a process migration batch, the id of the process definition that is migrated.
+     */
+    String getSearchKey();
+
+    void setSearchKey(String searchKey);
+
+    /**
+     * The second key to find the batch with. For a process migration batch, the id of the process definition that is migrated to.
+     */
+    String getSearchKey2();
+
+    void setSearchKey2(String searchKey2);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    String getStatus();
+
+    void setStatus(String status);
+
+    /**
+     * The number of parts that have been created so far.
+     */
+    int getPartCount();
+
+    void setPartCount(int partCount);
+
+    /**
+     * The number of items in the parts that have been created so far.
+     */
+    int getItemCount();
+
+    void setItemCount(int itemCount);
+
+    /**
+     * The id of the byte array with the json document that describes the work of the batch, like the process instance migration document.
+     */
+    String getBatchDocumentId();
+
+    void setBatchDocumentId(String batchDocumentId);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+}
@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+
+public class BatchEntityImpl extends AbstractBpmnEngineEntity implements BatchEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String type;
+    protected String searchKey;
+    protected String searchKey2;
+    protected Date createTime;
+    protected String status;
+    protected int partCount;
+    protected int itemCount;
+    protected String batchDocumentId;
+    protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("type", type);
+        persistentState.put("searchKey", searchKey);
+        persistentState.put("searchKey2", searchKey2);
+        persistentState.put("createTime", createTime);
+        persistentState.put("status", status);
+        persistentState.put("partCount", partCount);
+        persistentState.put("itemCount", itemCount);
+        persistentState.put("batchDocumentId", batchDocumentId);
+        persistentState.put("tenantId", tenantId);
+        return persistentState;
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    @Override
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    @Override
+    public void setSearchKey(String searchKey) {
+        this.searchKey = searchKey;
+    }
+
+    @Override
+    public String getSearchKey2() {
+        return searchKey2;
+    }
+
+    @Override
+    public void setSearchKey2(String searchKey2) {
+        this.searchKey2 = searchKey2;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public int getPartCount() {
+        return partCount;
+    }
+
+    @Override
+    public void setPartCount(int partCount) {
+        this.partCount = partCount;
+    }
+
+    @Override
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    @Override
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    @Override
+    public String getBatchDocumentId() {
+        return batchDocumentId;
+    }
+
+    @Override
+    public void setBatchDocumentId(String batchDocumentId) {
+        this.batchDocumentId = batchDocumentId;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchEntity[id=" + id + ", status=" + status + "]";
+    }
+
+}
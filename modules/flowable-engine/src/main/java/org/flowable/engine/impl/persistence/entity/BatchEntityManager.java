@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+
+public interface BatchEntityManager extends EntityManager<BatchEntity> {
+
+    /**
+     * Stores the json document of the batch in a byte array that is linked to the batch.
+     */
+    void insertBatchDocument(BatchEntity batch, String batchDocument);
+
+    String findBatchDocument(BatchEntity batch);
+
+    /**
+     * Deletes the batch with its parts and its document.
+     */
+    void deleteBatch(BatchEntity batch);
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.BatchDataManager;
+
+public class BatchEntityManagerImpl extends AbstractEntityManager<BatchEntity> implements BatchEntityManager {
+
+    protected BatchDataManager batchDataManager;
+
+    public BatchEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, BatchDataManager batchDataManager) {
+        super(processEngineConfiguration);
+        this.batchDataManager = batchDataManager;
+    }
+
+    @Override
+    protected DataManager<BatchEntity> getDataManager() {
+        return batchDataManager;
+    }
+
+    @Override
+    public void insertBatchDocument(BatchEntity batch, String batchDocument) {
+        ByteArrayRef ref = new ByteArrayRef();
+        ref.setValue("batchDocument", batchDocument.getBytes(StandardCharsets.UTF_8));
+        batch.setBatchDocumentId(ref.getId());
+    }
+
+    @Override
+    public String findBatchDocument(BatchEntity batch) {
+        if (batch.getBatchDocumentId() == null) {
+            return null;
+        }
+
+        ByteArrayRef ref = new ByteArrayRef(batch.getBatchDocumentId());
+        return new String(ref.getBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void deleteBatch(BatchEntity batch) {
+        getBatchPartEntityManager().deleteBatchPartsByBatchId(batch.getId());
+        delete(batch);
+
+        if (batch.getBatchDocumentId() != null) {
+            ByteArrayRef ref = new ByteArrayRef(batch.getBatchDocumentId());
+            ref.delete();
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * One part of a {@link BatchEntity}: the items of the batch with an id after {@link #getAfterId()}, up to and including {@link #getLastId()}.
+ */
+public interface BatchPartEntity extends Entity, HasRevision {
+
+    String STATUS_WAITING = "waiting";
+    String STATUS_COMPLETED = "completed";
+    String STATUS_FAILED = "failed";
+
+    String getBatchId();
+
+    void setBatchId(String batchId);
+
+    String getStatus();
+
+    void setStatus(String status);
+
+    String getAfterId();
+
+    void setAfterId(String afterId);
+
+    String getLastId();
+
+    void setLastId(String lastId);
+
+    /**
+     * The number of items of the part when it was created. Once the part is completed, the number of items that were processed.
+     */
+    int getItemCount();
+
+    void setItemCount(int itemCount);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    Date getCompleteTime();
+
+    void setCompleteTime(Date completeTime);
+
+    /**
+     * The message of the exception the part failed with the last time it was executed.
+     */
+    String getExceptionMessage();
+
+    void setExceptionMessage(String exceptionMessage);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+}
@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.ProcessEngineConfiguration;
+
+public class BatchPartEntityImpl extends AbstractBpmnEngineEntity implements BatchPartEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // The EXCEPTION_MSG_ column holds 2000 characters on Oracle
+    protected static final int MAX_EXCEPTION_MESSAGE_LENGTH = 2000;
+
+    protected String batchId;
+    protected String status;
+    protected String afterId;
+    protected String lastId;
+    protected int itemCount;
+    protected Date createTime;
+    protected Date completeTime;
+    protected String exceptionMessage;
+    protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("batchId", batchId);
+        persistentState.put("status", status);
+        persistentState.put("afterId", afterId);
+        persistentState.put("lastId", lastId);
+        persistentState.put("itemCount", itemCount);
+        persistentState.put("createTime", createTime);
+        persistentState.put("completeTime", completeTime);
+        persistentState.put("exceptionMessage", exceptionMessage);
+        persistentState.put("tenantId", tenantId);
+        return persistentState;
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    @Override
+    public String getBatchId() {
+        return batchId;
+    }
+
+    @Override
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public String getAfterId() {
+        return afterId;
+    }
+
+    @Override
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+
+    @Override
+    public String getLastId() {
+        return lastId;
+    }
+
+    @Override
+    public void setLastId(String lastId) {
+        this.lastId = lastId;
+    }
+
+    @Override
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    @Override
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public Date getCompleteTime() {
+        return completeTime;
+    }
+
+    @Override
+    public void setCompleteTime(Date completeTime) {
+        this.completeTime = completeTime;
+    }
+
+    @Override
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    @Override
+    public void setExceptionMessage(String exceptionMessage) {
+        this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchPartEntity[id=" + id + ", status=" + status + "]";
+    }
+
+}
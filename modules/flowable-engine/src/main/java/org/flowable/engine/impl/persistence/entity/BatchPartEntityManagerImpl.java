@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.BatchPartDataManager;
+
+public class BatchPartEntityManagerImpl extends AbstractEntityManager<BatchPartEntity> implements BatchPartEntityManager {
+
+    protected BatchPartDataManager batchPartDataManager;
+
+    public BatchPartEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, BatchPartDataManager batchPartDataManager) {
+        super(processEngineConfiguration);
+        this.batchPartDataManager = batchPartDataManager;
+    }
+
+    @Override
+    protected DataManager<BatchPartEntity> getDataManager() {
+        return batchPartDataManager;
+    }
+
+    @Override
+    public List<BatchPartEntity> findBatchPartsByBatchId(String batchId) {
+        return batchPartDataManager.findBatchPartsByBatchId(batchId);
+    }
+
+    @Override
+    public List<BatchPartEntity> findBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return batchPartDataManager.findBatchPartsByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return batchPartDataManager.countBatchPartsByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public long sumItemCountByBatchIdAndStatus(String batchId, String status) {
+        return batchPartDataManager.sumItemCountByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public void deleteBatchPartsByBatchId(String batchId) {
+        batchPartDataManager.deleteBatchPartsByBatchId(batchId);
+    }
+
+}
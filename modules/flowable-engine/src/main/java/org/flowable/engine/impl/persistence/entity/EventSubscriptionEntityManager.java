@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -62,6 +63,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(String executionId);
 
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstance(String processInstanceId);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByExecutionAndType(String executionId, String type);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceAndActivityId(String processInstanceId, String activityId, String type);
@@ -76,6 +79,18 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+    /**
+     * Returns the signal event subscriptions with the given event name that would receive the signal, ordered by id,
+     * so the subscriptions can be paged through with the id of the last returned subscription as cursor.
+     *
+     * @param createdBefore only subscriptions created at or before this time are returned, if not null
+     * @param afterId only subscriptions with a higher id are returned, if not null
+     * @param lastId only subscriptions with this or a lower id are returned, if not null
+     * @param maxResults the maximum number of returned subscriptions, or -1 for all
+     */
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, Date createdBefore,
+            String afterId, String lastId, int maxResults);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String name, String executionId);
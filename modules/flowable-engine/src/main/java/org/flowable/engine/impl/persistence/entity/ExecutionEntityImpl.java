@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -48,7 +49,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -287,9 +288,11 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
+            markDirty(this.activityId, currentFlowElement.getId());
             this.activityId = currentFlowElement.getId();
             this.activityName = currentFlowElement.getName();
         } else {
+            markDirty(this.activityId, null);
             this.activityId = null;
             this.activityName = null;
         }
@@ -337,6 +340,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty(this.businessKey, businessKey);
         this.businessKey = businessKey;
     }
 
@@ -349,6 +353,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -445,8 +450,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
+            markDirty(this.parentId, parent.getId());
             this.parentId = parent.getId();
         } else {
+            markDirty(this.parentId, null);
             this.parentId = null;
         }
     }
@@ -459,6 +466,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setSuperExecutionId(String superExecutionId) {
+        markDirty(this.superExecutionId, superExecutionId);
         this.superExecutionId = superExecutionId;
     }
 
@@ -476,8 +484,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         }
 
         if (superExecution != null) {
+            markDirty(this.superExecutionId, superExecution.getId());
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
         } else {
+            markDirty(this.superExecutionId, null);
             this.superExecutionId = null;
         }
     }
@@ -522,8 +532,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
+            markDirty(this.rootProcessInstanceId, rootProcessInstance.getId());
             this.rootProcessInstanceId = rootProcessInstance.getId();
         } else {
+            markDirty(this.rootProcessInstanceId, null);
             this.rootProcessInstanceId = null;
         }
     }
@@ -535,6 +547,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirty(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -547,11 +560,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setScope(boolean isScope) {
+        markDirty(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
+        markDirty(this.forcedUpdate, true);
         this.forcedUpdate = true;
     }
 
@@ -882,6 +897,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        markDirty(this.parentId, parentId);
         this.parentId = parentId;
     }
 
@@ -891,6 +907,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        markDirty(this.activityId, activityId);
         this.activityId = activityId;
     }
 
@@ -901,6 +918,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markDirty(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
@@ -911,11 +929,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setActive(boolean isActive) {
+        markDirty(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markDirty(this.isActive, false);
         this.isActive = false;
     }
 
@@ -956,6 +976,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -971,6 +992,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markDirty(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
@@ -981,6 +1003,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty(this.isMultiInstanceRoot, isMultiInstanceRoot);
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -991,6 +1014,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -1010,6 +1034,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setName(String name) {
+        markDirty(this.name, name);
         this.name = name;
     }
 
@@ -1064,6 +1089,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockTime(Date lockTime) {
+        markDirty(this.lockTime, lockTime);
         this.lockTime = lockTime;
     }
 
@@ -1106,6 +1132,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markDirty(this.startActivityId, startActivityId);
         this.startActivityId = startActivityId;
     }
 
@@ -1116,6 +1143,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty(this.startUserId, startUserId);
         this.startUserId = startUserId;
     }
 
@@ -1126,6 +1154,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty(this.startTime, startTime);
         this.startTime = startTime;
     }
 
@@ -1136,6 +1165,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirty(this.eventSubscriptionCount, eventSubscriptionCount);
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1146,6 +1176,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTaskCount(int taskCount) {
+        markDirty(this.taskCount, taskCount);
         this.taskCount = taskCount;
     }
 
@@ -1156,6 +1187,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setJobCount(int jobCount) {
+        markDirty(this.jobCount, jobCount);
         this.jobCount = jobCount;
     }
 
@@ -1166,6 +1198,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markDirty(this.timerJobCount, timerJobCount);
         this.timerJobCount = timerJobCount;
     }
 
@@ -1176,6 +1209,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirty(this.suspendedJobCount, suspendedJobCount);
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1186,6 +1220,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirty(this.deadLetterJobCount, deadLetterJobCount);
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1196,6 +1231,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -1206,6 +1242,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1216,6 +1253,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty(this.callbackId, callbackId);
         this.callbackId = callbackId;
     }
 
@@ -1226,6 +1264,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty(this.callbackType, callbackType);
         this.callbackType = callbackType;
     }
 
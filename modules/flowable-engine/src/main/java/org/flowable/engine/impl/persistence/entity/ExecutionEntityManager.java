@@ -48,6 +48,8 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId);
 
+    List<ExecutionEntity> findExecutionsWithSameRootProcessInstanceId(String executionId);
+
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(String parentExecutionId, Collection<String> activityIds);
 
     long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery);
@@ -58,6 +60,18 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    /**
+     * Returns the ids of the process instances of the given process definition, ordered by id.
+     *
+     * @param afterId
+     *            when not null, only the ids after this id are returned
+     * @param lastId
+     *            when not null, only the ids up to and including this id are returned
+     * @param maxResults
+     *            the maximum number of ids to return, or a negative number to return all ids
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, String lastId, int maxResults);
+
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
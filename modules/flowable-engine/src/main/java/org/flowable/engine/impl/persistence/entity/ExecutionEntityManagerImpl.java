@@ -118,6 +118,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findChildExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsWithSameRootProcessInstanceId(String executionId) {
+        return executionDataManager.findExecutionsWithSameRootProcessInstanceId(executionId);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         return executionDataManager.findExecutionsByParentExecutionAndActivityIds(parentExecutionId, activityIds);
@@ -143,6 +148,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, String lastId, int maxResults) {
+        return executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterId, lastId, maxResults);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = executionDataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
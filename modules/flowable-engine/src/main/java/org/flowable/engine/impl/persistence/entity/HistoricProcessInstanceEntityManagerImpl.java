@@ -16,6 +16,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -63,6 +64,13 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Consumer<? super HistoricProcessInstance> consumer) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            historicProcessInstanceDataManager.streamHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery, consumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 
 /**
@@ -34,6 +36,8 @@ public interface ProcessDefinitionInfoEntityManager extends EntityManager<Proces
 
     ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId);
 
+    List<ProcessDefinitionInfoEntity> findProcessDefinitionInfos();
+
     byte[] findInfoJsonById(String infoJsonId);
 
 }
\ No newline at end of file
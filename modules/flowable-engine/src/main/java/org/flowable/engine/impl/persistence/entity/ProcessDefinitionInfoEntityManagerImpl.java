@@ -13,6 +13,8 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
@@ -83,6 +85,11 @@ public class ProcessDefinitionInfoEntityManagerImpl extends
         return processDefinitionInfoDataManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<ProcessDefinitionInfoEntity> findProcessDefinitionInfos() {
+        return processDefinitionInfoDataManager.findProcessDefinitionInfos();
+    }
+
     @Override
     public byte[] findInfoJsonById(String infoJsonId) {
         ByteArrayRef ref = new ByteArrayRef(infoJsonId);
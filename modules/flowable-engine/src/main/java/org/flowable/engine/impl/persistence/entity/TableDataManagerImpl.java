@@ -90,6 +90,8 @@ public class TableDataManagerImpl extends AbstractManager implements TableDataMa
         entityToTableNameMap.put(MessageEventSubscriptionEntity.class, "ACT_RU_EVENT_SUBSCR");
         entityToTableNameMap.put(SignalEventSubscriptionEntity.class, "ACT_RU_EVENT_SUBSCR");
         entityToTableNameMap.put(ActivityInstanceEntity.class, "ACT_RU_ACTINST");
+        entityToTableNameMap.put(BatchEntity.class, "ACT_RU_BATCH");
+        entityToTableNameMap.put(BatchPartEntity.class, "ACT_RU_BATCH_PART");
 
         // repository
         entityToTableNameMap.put(DeploymentEntity.class, "ACT_RE_DEPLOYMENT");
@@ -47,6 +47,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<ExecutionEntity> findExecutionsByRootProcessInstanceId(String rootProcessInstanceId);
 
+    List<ExecutionEntity> findExecutionsWithSameRootProcessInstanceId(String executionId);
+
     List<ExecutionEntity> findExecutionsByProcessInstanceId(String processInstanceId);
 
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
@@ -57,6 +59,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, String lastId, int maxResults);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 
@@ -21,4 +23,6 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 public interface ProcessDefinitionInfoDataManager extends DataManager<ProcessDefinitionInfoEntity> {
 
     ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId);
+
+    List<ProcessDefinitionInfoEntity> findProcessDefinitionInfos();
 }
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.BatchEntity;
+import org.flowable.engine.impl.persistence.entity.BatchEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
+import org.flowable.engine.impl.persistence.entity.data.BatchDataManager;
+
+public class MybatisBatchDataManager extends AbstractProcessDataManager<BatchEntity> implements BatchDataManager {
+
+    public MybatisBatchDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends BatchEntity> getManagedEntityClass() {
+        return BatchEntityImpl.class;
+    }
+
+    @Override
+    public BatchEntity create() {
+        return new BatchEntityImpl();
+    }
+
+}
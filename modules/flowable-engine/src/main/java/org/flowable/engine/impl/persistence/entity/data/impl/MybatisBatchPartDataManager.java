@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntity;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
+import org.flowable.engine.impl.persistence.entity.data.BatchPartDataManager;
+
+public class MybatisBatchPartDataManager extends AbstractProcessDataManager<BatchPartEntity> implements BatchPartDataManager {
+
+    public MybatisBatchPartDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends BatchPartEntity> getManagedEntityClass() {
+        return BatchPartEntityImpl.class;
+    }
+
+    @Override
+    public BatchPartEntity create() {
+        return new BatchPartEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BatchPartEntity> findBatchPartsByBatchId(String batchId) {
+        return getDbSqlSession().selectList("selectBatchPartsByBatchId", batchId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BatchPartEntity> findBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return getDbSqlSession().selectList("selectBatchPartsByBatchIdAndStatus", createBatchIdAndStatusParameters(batchId, status));
+    }
+
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return (Long) getDbSqlSession().selectOne("selectBatchPartCountByBatchIdAndStatus", createBatchIdAndStatusParameters(batchId, status));
+    }
+
+    @Override
+    public long sumItemCountByBatchIdAndStatus(String batchId, String status) {
+        return (Long) getDbSqlSession().selectOne("selectBatchPartItemCountByBatchIdAndStatus", createBatchIdAndStatusParameters(batchId, status));
+    }
+
+    @Override
+    public void deleteBatchPartsByBatchId(String batchId) {
+        getDbSqlSession().delete("deleteBatchPartsByBatchId", batchId, BatchPartEntityImpl.class);
+    }
+
+    protected Map<String, Object> createBatchIdAndStatusParameters(String batchId, String status) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("status", status);
+        return params;
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -142,6 +143,29 @@ public class MybatisEventSubscriptionDataManager extends AbstractProcessDataMana
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, Date createdBefore,
+            String afterId, String lastId, int maxResults) {
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        params.put("createdBefore", createdBefore);
+        params.put("afterId", afterId);
+        params.put("lastId", lastId);
+
+        List<EventSubscriptionEntity> result;
+        if (maxResults >= 0) {
+            result = getDbSqlSession().selectList("selectSignalEventSubscriptionsByEventNameOrderedById", params, 0, maxResults);
+        } else {
+            result = getDbSqlSession().selectList("selectSignalEventSubscriptionsByEventNameOrderedById", params);
+        }
+        return toSignalEventSubscriptionEntityList(result);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -181,13 +205,20 @@ public class MybatisEventSubscriptionDataManager extends AbstractProcessDataMana
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If all event subscriptions of the execution have been fetched before (e.g. when prefetching a process instance), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetchedScope(EventSubscriptionEntity.class, "execution", executionId)) {
             return getListFromCache(eventSubscriptionsByExecutionIdMatcher, executionId);
         }
         
         return getList(dbSqlSession, "selectEventSubscriptionsByExecution", executionId, eventSubscriptionsByExecutionIdMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstance(final String processInstanceId) {
+        return getDbSqlSession().selectList("selectEventSubscriptionsByProcessInstance", processInstanceId);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<EventSubscriptionEntity> findEventSubscriptionsByTypeAndProcessDefinitionId(String type, String processDefinitionId, String tenantId) {
@@ -103,6 +103,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
      */
     protected boolean isExecutionTreeFetched(final String executionId) {
         
+        // The execution tree has been prefetched together with the related data of the process instance (see ProcessInstancePrefetchUtil)
+        if (isFetchedScope(ExecutionEntity.class, "execution", executionId)) {
+            return true;
+        }
+
         // The setting needs to be globally enabled
         if (!performanceSettings.isEnableEagerExecutionTreeFetching()) {
             return false;
@@ -124,8 +129,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
         
         // Fetches execution tree. This will store them in the cache and thus avoind extra database calls.
-        getList("selectExecutionsWithSameRootProcessInstanceId", executionId,
-                executionsWithSameRootProcessInstanceIdMatcher, true);
+        findExecutionsWithSameRootProcessInstanceId(executionId);
         
         return true;
     }
@@ -179,6 +183,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsWithSameRootProcessInstanceId(final String executionId) {
+        return getList("selectExecutionsWithSameRootProcessInstanceId", executionId, executionsWithSameRootProcessInstanceIdMatcher, true);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByProcessInstanceId(final String processInstanceId) {
         if (isExecutionTreeFetched(processInstanceId)) {
@@ -221,6 +230,21 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return getDbSqlSession().selectListNoCacheCheck("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, String lastId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processDefinitionId", processDefinitionId);
+        params.put("afterId", afterId);
+        params.put("lastId", lastId);
+
+        if (maxResults >= 0) {
+            return getDbSqlSession().selectList("selectProcessInstanceIdsByProcessDefinitionIdOrderedById", params, 0, maxResults);
+        } else {
+            return getDbSqlSession().selectList("selectProcessInstanceIdsByProcessDefinitionIdOrderedById", params);
+        }
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
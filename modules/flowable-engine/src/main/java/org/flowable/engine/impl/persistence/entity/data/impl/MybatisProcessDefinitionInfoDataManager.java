@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.List;
+
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityImpl;
@@ -41,4 +43,10 @@ public class MybatisProcessDefinitionInfoDataManager extends AbstractProcessData
     public ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId) {
         return (ProcessDefinitionInfoEntity) getDbSqlSession().selectOne("selectProcessDefinitionInfoByProcessDefinitionId", processDefinitionId);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProcessDefinitionInfoEntity> findProcessDefinitionInfos() {
+        return getDbSqlSession().selectList("selectProcessDefinitionInfos");
+    }
 }
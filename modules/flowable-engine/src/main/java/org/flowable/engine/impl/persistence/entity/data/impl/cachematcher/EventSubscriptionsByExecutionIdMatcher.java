@@ -12,17 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<EventSubscriptionEntity> {
 
-    @Override
-    public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
-        return eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals((String) parameter);
+    public EventSubscriptionsByExecutionIdMatcher() {
+        super("executionId", EventSubscriptionEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}
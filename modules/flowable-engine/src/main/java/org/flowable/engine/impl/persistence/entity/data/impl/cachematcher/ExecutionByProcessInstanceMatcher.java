@@ -12,17 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionByProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionByProcessInstanceMatcher extends IndexedCachedEntityMatcherAdapter<ExecutionEntity> {
 
-    @Override
-    public boolean isRetained(ExecutionEntity entity, Object parameter) {
-        return entity.getProcessInstanceId() != null && entity.getProcessInstanceId().equals((String) parameter);
+    public ExecutionByProcessInstanceMatcher() {
+        super("processInstanceId", ExecutionEntity::getProcessInstanceId);
     }
 
-}
\ No newline at end of file
+}
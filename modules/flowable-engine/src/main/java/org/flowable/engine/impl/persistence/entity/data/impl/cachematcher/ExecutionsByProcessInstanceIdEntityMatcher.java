@@ -12,13 +12,17 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByProcessInstanceIdEntityMatcher extends IndexedCachedEntityMatcherAdapter<ExecutionEntity> {
+
+    public ExecutionsByProcessInstanceIdEntityMatcher() {
+        super("processInstanceId", ExecutionEntity::getProcessInstanceId);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -28,4 +32,4 @@ public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatc
                 && entity.getParentId() != null;
     }
 
-}
\ No newline at end of file
+}
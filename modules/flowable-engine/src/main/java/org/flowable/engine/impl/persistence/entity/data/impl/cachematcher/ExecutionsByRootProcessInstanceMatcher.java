@@ -12,17 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByRootProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByRootProcessInstanceMatcher extends IndexedCachedEntityMatcherAdapter<ExecutionEntity> {
 
-    @Override
-    public boolean isRetained(ExecutionEntity entity, Object parameter) {
-        return entity.getRootProcessInstanceId() != null && entity.getRootProcessInstanceId().equals((String) parameter);
+    public ExecutionsByRootProcessInstanceMatcher() {
+        super("rootProcessInstanceId", ExecutionEntity::getRootProcessInstanceId);
     }
 
-}
\ No newline at end of file
+}
@@ -14,13 +14,17 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsByProcInstMatcher extends IndexedCachedEntityMatcherAdapter<ExecutionEntity> {
+
+    public InactiveExecutionsByProcInstMatcher() {
+        super("processInstanceId", ExecutionEntity::getProcessInstanceId);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -32,4 +36,4 @@ public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdap
                 && !executionEntity.isActive();
     }
 
-}
\ No newline at end of file
+}
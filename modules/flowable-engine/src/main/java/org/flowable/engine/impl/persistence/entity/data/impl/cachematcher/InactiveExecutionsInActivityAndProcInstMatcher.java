@@ -14,13 +14,17 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsInActivityAndProcInstMatcher extends IndexedCachedEntityMatcherAdapter<ExecutionEntity> {
+
+    public InactiveExecutionsInActivityAndProcInstMatcher() {
+        super("processInstanceId", ExecutionEntity::getProcessInstanceId);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -35,4 +39,4 @@ public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntity
                 && executionEntity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+}
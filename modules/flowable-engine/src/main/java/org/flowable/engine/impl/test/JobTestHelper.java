@@ -22,6 +22,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.test.FlowableRule;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 
 /**
@@ -167,6 +168,26 @@ public class JobTestHelper {
         }
     }
 
+    /**
+     * Executes the fan-out jobs of the given type one by one, until the last one doesn't schedule a next one. Every fan-out job
+     * must schedule at most one job of the given batch type. Returns the number of scheduled batch jobs.
+     */
+    public static int executeFanOutJobs(ManagementService managementService, String fanOutType, String batchType) {
+        long batchJobCount = managementService.createJobQuery().handlerType(batchType).count();
+        Job fanOutJob = managementService.createJobQuery().handlerType(fanOutType).singleResult();
+        while (fanOutJob != null) {
+            managementService.executeJob(fanOutJob.getId());
+
+            long newBatchJobCount = managementService.createJobQuery().handlerType(batchType).count();
+            if (newBatchJobCount != batchJobCount && newBatchJobCount != batchJobCount + 1) {
+                throw new FlowableException("Fan-out job " + fanOutJob.getId() + " scheduled " + (newBatchJobCount - batchJobCount) + " jobs of type " + batchType);
+            }
+            batchJobCount = newBatchJobCount;
+            fanOutJob = managementService.createJobQuery().handlerType(fanOutType).singleResult();
+        }
+        return (int) batchJobCount;
+    }
+
     protected static void internalWaitForJobs(ProcessEngineConfiguration processEngineConfiguration, ManagementService managementService,
         Predicate<ManagementService> jobsAvailablePredicate, long maxMillisToWait, long intervalMillis, boolean shutdownExecutorWhenFinished) {
         AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
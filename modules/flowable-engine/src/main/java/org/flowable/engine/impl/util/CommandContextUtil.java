@@ -32,6 +32,8 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.BatchPartEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
@@ -502,6 +504,22 @@ public class CommandContextUtil {
     public static ProcessDefinitionInfoEntityManager getProcessDefinitionInfoEntityManager(CommandContext commandContext) {
         return getProcessEngineConfiguration(commandContext).getProcessDefinitionInfoEntityManager();
     }
+
+    public static BatchEntityManager getBatchEntityManager() {
+        return getBatchEntityManager(getCommandContext());
+    }
+
+    public static BatchEntityManager getBatchEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getBatchEntityManager();
+    }
+
+    public static BatchPartEntityManager getBatchPartEntityManager() {
+        return getBatchPartEntityManager(getCommandContext());
+    }
+
+    public static BatchPartEntityManager getBatchPartEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getBatchPartEntityManager();
+    }
     
     public static ExecutionEntityManager getExecutionEntityManager() {
         return getExecutionEntityManager(getCommandContext());
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Fetches the execution tree of a process instance and all runtime data related to its executions into the entity cache,
+ * with a fixed number of queries (one per type of data) instead of the many small queries that lazily fetching
+ * the variables, tasks, jobs, etc. of every execution would do.
+ *
+ * Afterwards, the data managers answer the lookups of that data by execution, task or process instance from the cache.
+ * Enabled with {@link org.flowable.engine.impl.cfg.PerformanceSettings#setEnableProcessInstancePrefetching(boolean)}.
+ */
+public class ProcessInstancePrefetchUtil {
+
+    /**
+     * The maximum number of ids in one 'in' clause (Oracle doesn't allow more than 1000 expressions in a list).
+     */
+    protected static final int MAX_IDS_PER_QUERY = 1000;
+
+    public static void prefetchProcessInstanceIfEnabled(String processInstanceId, CommandContext commandContext) {
+        if (processInstanceId != null && CommandContextUtil.getProcessEngineConfiguration(commandContext).getPerformanceSettings().isEnableProcessInstancePrefetching()) {
+            prefetchProcessInstance(processInstanceId, commandContext);
+        }
+    }
+
+    public static void prefetchProcessInstance(String processInstanceId, CommandContext commandContext) {
+        EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+        if (entityCache.isFetchedScope(ExecutionEntity.class, "processInstance", processInstanceId)) {
+            return;
+        }
+
+        // The whole execution tree (including parent and child process instances) in one query, so that the lookups of child executions
+        // and sub process instances of any of its executions are complete when answered from the cache
+        List<ExecutionEntity> executions = CommandContextUtil.getExecutionEntityManager(commandContext).findExecutionsWithSameRootProcessInstanceId(processInstanceId);
+        if (executions.isEmpty()) {
+            return;
+        }
+
+        Set<String> executionIds = new HashSet<>();
+        for (ExecutionEntity execution : executions) {
+            entityCache.addFetchedScope(ExecutionEntity.class, "execution", execution.getId());
+            if (processInstanceId.equals(execution.getProcessInstanceId())) {
+                executionIds.add(execution.getId());
+            }
+        }
+        entityCache.addFetchedScope(ExecutionEntity.class, "processInstance", processInstanceId);
+
+        // The data related to the executions is only fetched for the process instance itself
+        VariableService variableService = CommandContextUtil.getVariableService(commandContext);
+        for (Set<String> executionIdsChunk : split(executionIds)) {
+            variableService.findVariableInstancesByExecutionIds(executionIdsChunk);
+        }
+        addFetchedScopes(entityCache, VariableInstanceEntity.class, "execution", executionIds);
+
+        List<TaskEntity> tasks = CommandContextUtil.getTaskService(commandContext).findTasksByProcessInstanceId(processInstanceId);
+        addFetchedScopes(entityCache, TaskEntity.class, "execution", executionIds);
+        entityCache.addFetchedScope(TaskEntity.class, "processInstance", processInstanceId);
+
+        if (!tasks.isEmpty()) {
+            Set<String> taskIds = new HashSet<>();
+            for (TaskEntity task : tasks) {
+                taskIds.add(task.getId());
+            }
+            for (Set<String> taskIdsChunk : split(taskIds)) {
+                variableService.findVariableInstancesByTaskIds(taskIdsChunk);
+            }
+            addFetchedScopes(entityCache, VariableInstanceEntity.class, "task", taskIds);
+        }
+
+        CommandContextUtil.getEventSubscriptionEntityManager(commandContext).findEventSubscriptionsByProcessInstance(processInstanceId);
+        addFetchedScopes(entityCache, EventSubscriptionEntity.class, "execution", executionIds);
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        jobService.findJobsByProcessInstanceId(processInstanceId);
+        addFetchedScopes(entityCache, JobEntity.class, "execution", executionIds);
+        CommandContextUtil.getTimerJobService(commandContext).findTimerJobsByProcessInstanceId(processInstanceId);
+        addFetchedScopes(entityCache, TimerJobEntity.class, "execution", executionIds);
+        jobService.findSuspendedJobsByProcessInstanceId(processInstanceId);
+        addFetchedScopes(entityCache, SuspendedJobEntity.class, "execution", executionIds);
+        jobService.findDeadLetterJobsByProcessInstanceId(processInstanceId);
+        addFetchedScopes(entityCache, DeadLetterJobEntity.class, "execution", executionIds);
+
+        CommandContextUtil.getIdentityLinkService(commandContext).findIdentityLinksByProcessInstanceId(processInstanceId);
+        entityCache.addFetchedScope(IdentityLinkEntity.class, "processInstance", processInstanceId);
+    }
+
+    protected static void addFetchedScopes(EntityCache entityCache, Class<?> entityClass, String scopeType, Set<String> scopeIds) {
+        for (String scopeId : scopeIds) {
+            entityCache.addFetchedScope(entityClass, scopeType, scopeId);
+        }
+    }
+
+    protected static List<Set<String>> split(Set<String> ids) {
+        List<Set<String>> chunks = new ArrayList<>();
+        Set<String> chunk = new HashSet<>();
+        for (String id : ids) {
+            if (chunk.size() == MAX_IDS_PER_QUERY) {
+                chunks.add(chunk);
+                chunk = new HashSet<>();
+            }
+            chunk.add(id);
+        }
+        chunks.add(chunk);
+        return chunks;
+    }
+
+}
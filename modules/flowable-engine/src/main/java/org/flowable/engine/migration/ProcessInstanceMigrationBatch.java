@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.migration;
+
+import java.util.Date;
+
+/**
+ * The state of an asynchronous migration of the process instances of a process definition, started with
+ * {@link ProcessInstanceMigrationBuilder#migrateProcessInstancesAsync(String)}.
+ *
+ * The process instances are split in chunks that are each migrated by one job. The state of every chunk is recorded in
+ * a {@link ProcessInstanceMigrationBatchPart}, see {@link org.flowable.engine.RuntimeService#getProcessInstanceMigrationBatchParts(String)}.
+ */
+public interface ProcessInstanceMigrationBatch {
+
+    String getId();
+
+    /**
+     * The id of the process definition of which the process instances are migrated.
+     */
+    String getSourceProcessDefinitionId();
+
+    /**
+     * The id of the process definition the process instances are migrated to.
+     */
+    String getTargetProcessDefinitionId();
+
+    Date getCreateTime();
+
+    /**
+     * Whether all process instances of the process definition have been split into chunks.
+     */
+    boolean isFanOutCompleted();
+
+    /**
+     * The number of chunks created so far.
+     */
+    int getChunkCount();
+
+    /**
+     * The number of process instances in the chunks created so far.
+     */
+    int getProcessInstanceCount();
+
+    /**
+     * The number of chunks that still have to be migrated, including the chunks waiting to be retried after a failure.
+     */
+    long getPendingChunkCount();
+
+    long getCompletedChunkCount();
+
+    /**
+     * The number of chunks that failed and have no retries left. These chunks are migrated again when the batch is resumed.
+     */
+    long getFailedChunkCount();
+
+    /**
+     * The number of process instances migrated by the completed chunks.
+     */
+    long getMigratedProcessInstanceCount();
+
+    /**
+     * Whether all process instances of the batch have been migrated.
+     */
+    boolean isCompleted();
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.migration;
+
+import java.util.Date;
+
+/**
+ * A chunk of the process instances of a {@link ProcessInstanceMigrationBatch}, migrated by one job in one transaction.
+ */
+public interface ProcessInstanceMigrationBatchPart {
+
+    String STATUS_WAITING = "waiting";
+    String STATUS_COMPLETED = "completed";
+    String STATUS_FAILED = "failed";
+
+    String getId();
+
+    String getBatchId();
+
+    /**
+     * One of {@link #STATUS_WAITING}, {@link #STATUS_COMPLETED} or {@link #STATUS_FAILED}.
+     */
+    String getStatus();
+
+    /**
+     * The number of process instances of the chunk when it was created. Once the chunk is completed, the number of process instances that were migrated.
+     */
+    int getProcessInstanceCount();
+
+    Date getCreateTime();
+
+    Date getCompleteTime();
+
+    /**
+     * The message of the exception the chunk failed with when its last retry failed.
+     */
+    String getExceptionMessage();
+
+}
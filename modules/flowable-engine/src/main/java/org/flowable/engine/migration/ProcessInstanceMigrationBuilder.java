@@ -155,4 +155,26 @@ public interface ProcessInstanceMigrationBuilder {
      */
     ProcessInstanceMigrationValidationResult validateMigrationOfProcessInstances(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId);
 
+    /**
+     * Submits the process instance migration for all process instances of a given process definition identified by the process definition id, to be executed
+     * asynchronously in chunks of process instances that are each migrated by one job.
+     *
+     * @param processDefinitionId
+     * @return the id of the migration batch
+     * @see ProcessInstanceMigrationBatch
+     */
+    String migrateProcessInstancesAsync(String processDefinitionId);
+
+    /**
+     * Submits the process instance migration for all process instances of a given process definition identified by the process definition key and version (optional tenantId),
+     * to be executed asynchronously in chunks of process instances that are each migrated by one job.
+     *
+     * @param processDefinitionKey
+     * @param processDefinitionVersion
+     * @param processDefinitionTenantId
+     * @return the id of the migration batch
+     * @see ProcessInstanceMigrationBatch
+     */
+    String migrateProcessInstancesAsync(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId);
+
 }
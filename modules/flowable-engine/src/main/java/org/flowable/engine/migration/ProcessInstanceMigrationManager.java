@@ -32,4 +32,8 @@ public interface ProcessInstanceMigrationManager {
     void migrateProcessInstancesOfProcessDefinition(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
 
     void migrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
+
+    String migrateProcessInstancesOfProcessDefinitionAsync(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
+
+    String migrateProcessInstancesOfProcessDefinitionAsync(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
 }
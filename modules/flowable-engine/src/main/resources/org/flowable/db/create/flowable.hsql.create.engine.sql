@@ -323,8 +323,50 @@ alter table ACT_PROCDEF_INFO
     add constraint ACT_UNIQ_INFO_PROCDEF
     unique (PROC_DEF_ID_);
 
+create table ACT_RU_BATCH (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    TYPE_ varchar(64) not null,
+    SEARCH_KEY_ varchar(255),
+    SEARCH_KEY2_ varchar(255),
+    CREATE_TIME_ timestamp not null,
+    STATUS_ varchar(255),
+    PART_COUNT_ integer,
+    ITEM_COUNT_ integer,
+    BATCH_DOC_ID_ varchar(64),
+    TENANT_ID_ varchar(255) default '',
+    primary key (ID_)
+);
+
+create table ACT_RU_BATCH_PART (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    BATCH_ID_ varchar(64) not null,
+    STATUS_ varchar(255),
+    AFTER_ID_ varchar(64),
+    LAST_ID_ varchar(64),
+    ITEM_COUNT_ integer,
+    CREATE_TIME_ timestamp not null,
+    COMPLETE_TIME_ timestamp,
+    EXCEPTION_MSG_ varchar(4000),
+    TENANT_ID_ varchar(255) default '',
+    primary key (ID_)
+);
+
+create index ACT_IDX_BATCH_PART on ACT_RU_BATCH_PART(BATCH_ID_);
+
+alter table ACT_RU_BATCH
+    add constraint ACT_FK_BATCH_DOC
+    foreign key (BATCH_DOC_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+alter table ACT_RU_BATCH_PART
+    add constraint ACT_FK_BATCH_PART_BATCH
+    foreign key (BATCH_ID_)
+    references ACT_RU_BATCH (ID_);
+
 insert into ACT_GE_PROPERTY
-values ('schema.version', '6.4.1.3', 1);
+values ('schema.version', '6.4.1.4', 1);
 
 insert into ACT_GE_PROPERTY
-values ('schema.history', 'create(6.4.1.3)', 1);
+values ('schema.history', 'create(6.4.1.4)', 1);
@@ -355,8 +355,51 @@ alter table ACT_PROCDEF_INFO
     add constraint ACT_UNIQ_INFO_PROCDEF
     unique (PROC_DEF_ID_);
 
+create table ACT_RU_BATCH (
+    ID_ NVARCHAR2(64) not null,
+    REV_ integer,
+    TYPE_ NVARCHAR2(64) not null,
+    SEARCH_KEY_ NVARCHAR2(255),
+    SEARCH_KEY2_ NVARCHAR2(255),
+    CREATE_TIME_ TIMESTAMP(6) not null,
+    STATUS_ NVARCHAR2(255),
+    PART_COUNT_ integer,
+    ITEM_COUNT_ integer,
+    BATCH_DOC_ID_ NVARCHAR2(64),
+    TENANT_ID_ NVARCHAR2(255) DEFAULT '',
+    primary key (ID_)
+);
+
+create table ACT_RU_BATCH_PART (
+    ID_ NVARCHAR2(64) not null,
+    REV_ integer,
+    BATCH_ID_ NVARCHAR2(64) not null,
+    STATUS_ NVARCHAR2(255),
+    AFTER_ID_ NVARCHAR2(64),
+    LAST_ID_ NVARCHAR2(64),
+    ITEM_COUNT_ integer,
+    CREATE_TIME_ TIMESTAMP(6) not null,
+    COMPLETE_TIME_ TIMESTAMP(6),
+    EXCEPTION_MSG_ NVARCHAR2(2000),
+    TENANT_ID_ NVARCHAR2(255) DEFAULT '',
+    primary key (ID_)
+);
+
+create index ACT_IDX_BATCH_PART on ACT_RU_BATCH_PART(BATCH_ID_);
+create index ACT_IDX_BATCH_DOC on ACT_RU_BATCH(BATCH_DOC_ID_);
+
+alter table ACT_RU_BATCH
+    add constraint ACT_FK_BATCH_DOC
+    foreign key (BATCH_DOC_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+alter table ACT_RU_BATCH_PART
+    add constraint ACT_FK_BATCH_PART_BATCH
+    foreign key (BATCH_ID_)
+    references ACT_RU_BATCH (ID_);
+
 insert into ACT_GE_PROPERTY
-values ('schema.version', '6.4.1.3', 1);
+values ('schema.version', '6.4.1.4', 1);
 
 insert into ACT_GE_PROPERTY
-values ('schema.history', 'create(6.4.1.3)', 1);
+values ('schema.history', 'create(6.4.1.4)', 1);
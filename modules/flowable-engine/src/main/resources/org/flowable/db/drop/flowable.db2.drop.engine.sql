@@ -94,6 +94,14 @@ alter table ACT_PROCDEF_INFO
 alter table ACT_PROCDEF_INFO 
 	drop foreign key ACT_FK_INFO_PROCDEF;
 
+alter table ACT_RU_BATCH
+    drop foreign key ACT_FK_BATCH_DOC;
+
+alter table ACT_RU_BATCH_PART
+    drop foreign key ACT_FK_BATCH_PART_BATCH;
+
+drop index ACT_IDX_BATCH_PART;
+
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
 
@@ -112,3 +120,5 @@ drop table ACT_RU_EXECUTION;
 drop table ACT_RU_EVENT_SUBSCR;
 drop table ACT_EVT_LOG;
 drop table ACT_PROCDEF_INFO;
+drop table ACT_RU_BATCH_PART;
+drop table ACT_RU_BATCH;
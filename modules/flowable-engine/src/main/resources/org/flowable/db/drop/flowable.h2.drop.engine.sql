@@ -6,6 +6,8 @@ drop table if exists ACT_RE_PROCDEF cascade constraints;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade constraints;
 drop table if exists ACT_EVT_LOG cascade constraints;
 drop table if exists ACT_PROCDEF_INFO cascade constraints;
+drop table if exists ACT_RU_BATCH_PART cascade constraints;
+drop table if exists ACT_RU_BATCH cascade constraints;
 
 drop index if exists ACT_IDX_EXEC_BUSKEY;
 drop index if exists ACT_IDX_VARIABLE_TASK_ID;
@@ -95,6 +95,14 @@ alter table ACT_PROCDEF_INFO
 alter table ACT_PROCDEF_INFO 
     drop FOREIGN KEY ACT_FK_INFO_PROCDEF;
 
+alter table ACT_RU_BATCH
+    drop FOREIGN KEY ACT_FK_BATCH_DOC;
+
+alter table ACT_RU_BATCH_PART
+    drop FOREIGN KEY ACT_FK_BATCH_PART_BATCH;
+
+drop index ACT_IDX_BATCH_PART on ACT_RU_BATCH_PART;
+
 drop index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK;
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR;
 
@@ -112,4 +120,6 @@ drop table if exists ACT_RE_PROCDEF;
 drop table if exists ACT_RU_EXECUTION;
 drop table if exists ACT_RU_EVENT_SUBSCR;
 drop table if exists ACT_EVT_LOG;
-drop table if exists ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table if exists ACT_PROCDEF_INFO;
+drop table if exists ACT_RU_BATCH_PART;
+drop table if exists ACT_RU_BATCH;
\ No newline at end of file
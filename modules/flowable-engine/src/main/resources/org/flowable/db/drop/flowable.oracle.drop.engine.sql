@@ -139,6 +139,15 @@ drop index ACT_IDX_EVENT_SUBSCR;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
 drop index ACT_IDX_PROCDEF_INFO_PROC;
 
+alter table ACT_RU_BATCH
+    drop CONSTRAINT ACT_FK_BATCH_DOC;
+
+alter table ACT_RU_BATCH_PART
+    drop CONSTRAINT ACT_FK_BATCH_PART_BATCH;
+
+drop index ACT_IDX_BATCH_DOC;
+drop index ACT_IDX_BATCH_PART;
+
 drop table ACT_RU_ACTINST;
 drop table ACT_RE_DEPLOYMENT;
 drop table ACT_RE_MODEL;
@@ -148,4 +157,6 @@ drop table ACT_RU_EVENT_SUBSCR;
 
 drop sequence act_evt_log_seq;
 drop table ACT_EVT_LOG;
-drop table ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table ACT_PROCDEF_INFO;
+drop table ACT_RU_BATCH_PART;
+drop table ACT_RU_BATCH;
\ No newline at end of file
@@ -5,4 +5,6 @@ drop table if exists ACT_RE_PROCDEF cascade;
 drop table if exists ACT_RU_EXECUTION cascade;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade;
 drop table if exists ACT_EVT_LOG cascade;
-drop table if exists ACT_PROCDEF_INFO cascade;
\ No newline at end of file
+drop table if exists ACT_PROCDEF_INFO cascade;
+drop table if exists ACT_RU_BATCH_PART cascade;
+drop table if exists ACT_RU_BATCH cascade;
\ No newline at end of file
@@ -0,0 +1,41 @@
+create table ACT_RU_BATCH (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    TYPE_ nvarchar(64) not null,
+    SEARCH_KEY_ nvarchar(255),
+    SEARCH_KEY2_ nvarchar(255),
+    CREATE_TIME_ datetime not null,
+    STATUS_ nvarchar(255),
+    PART_COUNT_ int,
+    ITEM_COUNT_ int,
+    BATCH_DOC_ID_ nvarchar(64),
+    TENANT_ID_ nvarchar(255) default '',
+    primary key (ID_)
+);
+
+create table ACT_RU_BATCH_PART (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    BATCH_ID_ nvarchar(64) not null,
+    STATUS_ nvarchar(255),
+    AFTER_ID_ nvarchar(64),
+    LAST_ID_ nvarchar(64),
+    ITEM_COUNT_ int,
+    CREATE_TIME_ datetime not null,
+    COMPLETE_TIME_ datetime,
+    EXCEPTION_MSG_ nvarchar(4000),
+    TENANT_ID_ nvarchar(255) default '',
+    primary key (ID_)
+);
+
+create index ACT_IDX_BATCH_PART on ACT_RU_BATCH_PART(BATCH_ID_);
+
+alter table ACT_RU_BATCH
+    add constraint ACT_FK_BATCH_DOC
+    foreign key (BATCH_DOC_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+alter table ACT_RU_BATCH_PART
+    add constraint ACT_FK_BATCH_PART_BATCH
+    foreign key (BATCH_ID_)
+    references ACT_RU_BATCH (ID_);
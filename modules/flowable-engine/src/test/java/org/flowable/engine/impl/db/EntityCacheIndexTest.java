@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionByProcessInstanceMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByRootProcessInstanceMatcher;
+import org.junit.jupiter.api.Test;
+
+public class EntityCacheIndexTest {
+
+    protected EntityCacheImpl entityCache = new EntityCacheImpl();
+    protected ExecutionByProcessInstanceMatcher processInstanceMatcher = new ExecutionByProcessInstanceMatcher();
+
+    @Test
+    public void testFindByIndex() {
+        assertNull(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi1"));
+
+        entityCache.put(createExecution("pi1", "pi1"), true);
+        entityCache.put(createExecution("e1", "pi1"), true);
+        entityCache.put(createExecution("pi2", "pi2"), true);
+
+        assertEquals(ids("pi1", "e1"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi1")));
+        assertEquals(ids("pi2"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi2")));
+        assertTrue(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi3").isEmpty());
+
+        // Entities put in the cache after the index was created are indexed too
+        entityCache.put(createExecution("e2", "pi2"), true);
+        assertEquals(ids("pi2", "e2"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi2")));
+
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "pi2");
+        assertEquals(ids("e2"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi2")));
+    }
+
+    @Test
+    public void testIndexValueSetAfterPut() {
+        // A process instance only gets its process instance id after it is inserted
+        ExecutionEntityImpl processInstance = createExecution("pi1", null);
+        entityCache.put(processInstance, false);
+        assertTrue(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi1").isEmpty());
+
+        processInstance.setProcessInstanceId("pi1");
+        assertEquals(ids("pi1"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi1")));
+    }
+
+    @Test
+    public void testMultipleIndexes() {
+        ExecutionEntityImpl execution = createExecution("e1", "pi1");
+        execution.setRootProcessInstanceId("root");
+        entityCache.put(execution, true);
+
+        ExecutionsByRootProcessInstanceMatcher rootProcessInstanceMatcher = new ExecutionsByRootProcessInstanceMatcher();
+        assertEquals(ids("e1"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, rootProcessInstanceMatcher, "root")));
+        assertEquals(ids("e1"), ids(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, processInstanceMatcher, "pi1")));
+
+        // Replacing the cached entity updates all indexes
+        ExecutionEntityImpl replacement = createExecution("e1", "pi1");
+        replacement.setRootProcessInstanceId("root");
+        entityCache.put(replacement, true);
+        Collection<CachedEntity> cachedEntities = entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, rootProcessInstanceMatcher, "root");
+        assertEquals(1, cachedEntities.size());
+        assertTrue(cachedEntities.iterator().next().getEntity() == replacement);
+    }
+
+    protected ExecutionEntityImpl createExecution(String id, String processInstanceId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setProcessInstanceId(processInstanceId);
+        return execution;
+    }
+
+    protected Set<String> ids(String... ids) {
+        Set<String> result = new HashSet<>();
+        for (String id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    protected Set<String> ids(Collection<CachedEntity> cachedEntities) {
+        Set<String> result = new HashSet<>();
+        for (CachedEntity cachedEntity : cachedEntities) {
+            result.add(cachedEntity.getEntity().getId());
+        }
+        return result;
+    }
+
+}
@@ -22,6 +22,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.event.logger.handler.Fields;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -565,4 +566,43 @@ public class DatabaseEventLoggerTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    public void testAsyncDatabaseEvents() throws IOException {
+        runtimeService.removeEventListener(databaseEventLogger);
+        AsyncEventLogWriter eventLogWriter = new AsyncEventLogWriter(processEngineConfiguration.getCommandExecutor(), 100, 10, 100, 100);
+        databaseEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper(), eventLogWriter);
+        runtimeService.addEventListener(databaseEventLogger);
+
+        org.flowable.task.api.Task task = taskService.newTask();
+        task.setAssignee("kermit");
+        taskService.saveTask(task);
+
+        // The entries are only handed over to the writer after the transaction
+        assertEquals(0, managementService.getEventLogEntries(null, null).size());
+        assertEquals(2, eventLogWriter.getQueuedEntryCount());
+
+        eventLogWriter.flush();
+        assertEquals(0, eventLogWriter.getQueuedEntryCount());
+
+        List<EventLogEntry> events = managementService.getEventLogEntries(null, null);
+        assertEquals(2, events.size());
+        assertEquals("TASK_ASSIGNED", events.get(0).getType());
+        assertEquals("TASK_CREATED", events.get(1).getType());
+
+        // The writer thread writes the entries of the next transactions, and the remaining ones when it is shut down
+        eventLogWriter.start();
+        taskService.setAssignee(task.getId(), "fozzie");
+        eventLogWriter.shutdown();
+        assertEquals(0, eventLogWriter.getQueuedEntryCount());
+        assertEquals(0, eventLogWriter.getLostEntryCount());
+        assertEquals(3, managementService.getEventLogEntries(null, null).size());
+
+        // Cleanup
+        runtimeService.removeEventListener(databaseEventLogger);
+        taskService.deleteTask(task.getId(), true);
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
 }
@@ -12,12 +12,16 @@
  */
 package org.flowable.engine.test.api.history;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.junit.jupiter.api.Test;
@@ -96,5 +100,39 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
             assertEquals(1, historyService.createHistoricProcessInstanceQuery().deploymentId(deploymentId).count());
         }
     }
-    
+
+    @Test
+    public void testForEach() {
+        deployOneTaskTestProcess();
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> expectedIds = new ArrayList<>();
+            for (HistoricProcessInstance processInstance : historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list()) {
+                expectedIds.add(processInstance.getId());
+            }
+            assertEquals(5, expectedIds.size());
+
+            List<String> ids = new ArrayList<>();
+            historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().forEach(processInstance -> ids.add(processInstance.getId()));
+            assertEquals(expectedIds, ids);
+
+            // The streamed process instances are not kept in the entity cache
+            int cachedCount = managementService.executeCommand((CommandContext commandContext) -> {
+                List<String> streamedIds = new ArrayList<>();
+                historyService.createHistoricProcessInstanceQuery().forEach(processInstance -> streamedIds.add(processInstance.getId()));
+                assertEquals(5, streamedIds.size());
+                return CommandContextUtil.getEntityCache(commandContext).findInCache(HistoricProcessInstanceEntityImpl.class).size();
+            });
+            assertEquals(0, cachedCount);
+
+            ids.clear();
+            historyService.createHistoricProcessInstanceQuery().includeProcessVariables().orderByProcessInstanceId().asc()
+                    .forEach(processInstance -> ids.add(processInstance.getId()));
+            assertEquals(expectedIds, ids);
+        }
+    }
+
 }
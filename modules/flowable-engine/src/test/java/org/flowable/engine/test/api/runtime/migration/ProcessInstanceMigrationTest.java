@@ -14,6 +14,7 @@
 package org.flowable.engine.test.api.runtime.migration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertNotEquals;
 
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
@@ -31,10 +34,15 @@ import org.flowable.engine.delegate.event.FlowableMessageEvent;
 import org.flowable.engine.delegate.event.FlowableSignalEvent;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationFanOutJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.migration.ActivityMigrationMapping;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocumentConverter;
@@ -141,6 +149,170 @@ public class ProcessInstanceMigrationTest extends AbstractProcessInstanceMigrati
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    public void testAsyncMigrationOfProcessInstancesOfProcessDefinition() {
+        int originalBatchSize = processEngineConfiguration.getProcessInstanceMigrationBatchSize();
+        try {
+            processEngineConfiguration.setProcessInstanceMigrationBatchSize(2);
+
+            ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("MP");
+            }
+            ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+            String batchId = runtimeService.createProcessInstanceMigrationBuilder()
+                .migrateToProcessDefinition(version2ProcessDef.getId())
+                .migrateProcessInstancesAsync(version1ProcessDef.getId());
+
+            // Nothing is migrated when the batch is submitted
+            assertEquals(5, runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).count());
+            ProcessInstanceMigrationBatch batch = runtimeService.getProcessInstanceMigrationBatch(batchId);
+            assertThat(batch.getSourceProcessDefinitionId()).isEqualTo(version1ProcessDef.getId());
+            assertThat(batch.getTargetProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+            assertThat(batch.getCreateTime()).isNotNull();
+            assertThat(batch.isFanOutCompleted()).isFalse();
+            assertThat(batch.getChunkCount()).isZero();
+            assertThat(batch.isCompleted()).isFalse();
+
+            // Every fan-out job schedules one chunk job and the fan-out job for the next page
+            assertEquals(3, JobTestHelper.executeFanOutJobs(managementService, ProcessInstanceMigrationFanOutJobHandler.TYPE,
+                ProcessInstanceMigrationChunkJobHandler.TYPE));
+
+            batch = runtimeService.getProcessInstanceMigrationBatch(batchId);
+            assertThat(batch.isFanOutCompleted()).isTrue();
+            assertThat(batch.getChunkCount()).isEqualTo(3);
+            assertThat(batch.getProcessInstanceCount()).isEqualTo(5);
+            assertThat(batch.getPendingChunkCount()).isEqualTo(3);
+            assertThat(runtimeService.getProcessInstanceMigrationBatchParts(batchId))
+                .extracting(ProcessInstanceMigrationBatchPart::getStatus)
+                .containsOnly(ProcessInstanceMigrationBatchPart.STATUS_WAITING);
+
+            for (Job chunkJob : managementService.createJobQuery().scopeId(batchId).list()) {
+                assertEquals(ProcessInstanceMigrationChunkJobHandler.TYPE, chunkJob.getJobHandlerType());
+                managementService.executeJob(chunkJob.getId());
+            }
+
+            batch = runtimeService.getProcessInstanceMigrationBatch(batchId);
+            assertThat(batch.getPendingChunkCount()).isZero();
+            assertThat(batch.getCompletedChunkCount()).isEqualTo(3);
+            assertThat(batch.getFailedChunkCount()).isZero();
+            assertThat(batch.getMigratedProcessInstanceCount()).isEqualTo(5);
+            assertThat(batch.isCompleted()).isTrue();
+            assertThat(runtimeService.getProcessInstanceMigrationBatchParts(batchId))
+                .allSatisfy(batchPart -> {
+                    assertThat(batchPart.getStatus()).isEqualTo(ProcessInstanceMigrationBatchPart.STATUS_COMPLETED);
+                    assertThat(batchPart.getCompleteTime()).isNotNull();
+                    assertThat(batchPart.getExceptionMessage()).isNull();
+                });
+            assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).count());
+            assertEquals(5, runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count());
+
+            List<Task> tasks = taskService.createTaskQuery().list();
+            assertEquals(5, tasks.size());
+            for (Task task : tasks) {
+                assertEquals(version2ProcessDef.getId(), task.getProcessDefinitionId());
+                assertEquals("userTask1Id", task.getTaskDefinitionKey());
+            }
+
+            runtimeService.deleteProcessInstanceMigrationBatch(batchId);
+            assertThatThrownBy(() -> runtimeService.getProcessInstanceMigrationBatch(batchId)).isInstanceOf(FlowableObjectNotFoundException.class);
+
+        } finally {
+            processEngineConfiguration.setProcessInstanceMigrationBatchSize(originalBatchSize);
+        }
+    }
+
+    @Test
+    public void testAsyncMigrationOfProcessInstancesOfProcessDefinitionWithFailingChunk() {
+        int originalBatchSize = processEngineConfiguration.getProcessInstanceMigrationBatchSize();
+        try {
+            processEngineConfiguration.setProcessInstanceMigrationBatchSize(1);
+
+            ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+            for (int i = 0; i < 3; i++) {
+                runtimeService.startProcessInstanceByKey("MP");
+            }
+            // userTask2Id doesn't exist in the new version, so this process instance can't be migrated without a mapping
+            Task taskToComplete = taskService.createTaskQuery().list().get(0);
+            String failingProcessInstanceId = taskToComplete.getProcessInstanceId();
+            taskService.complete(taskToComplete.getId());
+            ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+            String batchId = runtimeService.createProcessInstanceMigrationBuilder()
+                .migrateToProcessDefinition(version2ProcessDef.getId())
+                .migrateProcessInstancesAsync(version1ProcessDef.getId());
+            assertEquals(3, JobTestHelper.executeFanOutJobs(managementService, ProcessInstanceMigrationFanOutJobHandler.TYPE,
+                ProcessInstanceMigrationChunkJobHandler.TYPE));
+
+            // A chunk that fails its last retry is marked as failed
+            for (Job chunkJob : managementService.createJobQuery().scopeId(batchId).list()) {
+                managementService.setJobRetries(chunkJob.getId(), 1);
+                try {
+                    managementService.executeJob(chunkJob.getId());
+                } catch (FlowableException e) {
+                    assertThat(e).hasStackTraceContaining("userTask2Id");
+                }
+            }
+
+            ProcessInstanceMigrationBatch batch = runtimeService.getProcessInstanceMigrationBatch(batchId);
+            assertThat(batch.getPendingChunkCount()).isZero();
+            assertThat(batch.getCompletedChunkCount()).isEqualTo(2);
+            assertThat(batch.getFailedChunkCount()).isEqualTo(1);
+            assertThat(batch.getMigratedProcessInstanceCount()).isEqualTo(2);
+            assertThat(batch.isCompleted()).isFalse();
+            assertThat(runtimeService.getProcessInstanceMigrationBatchParts(batchId))
+                .filteredOn(batchPart -> ProcessInstanceMigrationBatchPart.STATUS_FAILED.equals(batchPart.getStatus()))
+                .extracting(ProcessInstanceMigrationBatchPart::getExceptionMessage)
+                .hasSize(1)
+                .allMatch(exceptionMessage -> exceptionMessage.contains("userTask2Id"));
+            assertEquals(1, managementService.createDeadLetterJobQuery().scopeId(batchId).count());
+            assertEquals(failingProcessInstanceId, runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).singleResult().getId());
+
+            // Once the cause of the failure is gone, the resumed chunk completes
+            runtimeService.deleteProcessInstance(failingProcessInstanceId, "cannot be migrated");
+            runtimeService.resumeProcessInstanceMigrationBatch(batchId);
+            batch = runtimeService.getProcessInstanceMigrationBatch(batchId);
+            assertThat(batch.getPendingChunkCount()).isEqualTo(1);
+            assertThat(batch.getFailedChunkCount()).isZero();
+
+            managementService.executeJob(managementService.createJobQuery().scopeId(batchId).singleResult().getId());
+
+            batch = runtimeService.getProcessInstanceMigrationBatch(batchId);
+            assertThat(batch.isCompleted()).isTrue();
+            assertThat(batch.getMigratedProcessInstanceCount()).isEqualTo(2);
+            assertEquals(2, runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count());
+
+            runtimeService.deleteProcessInstanceMigrationBatch(batchId);
+
+        } finally {
+            processEngineConfiguration.setProcessInstanceMigrationBatchSize(originalBatchSize);
+        }
+    }
+
+    @Test
+    public void testGetUnknownProcessInstanceMigrationBatch() {
+        assertThatThrownBy(() -> runtimeService.getProcessInstanceMigrationBatch("unknown"))
+            .isInstanceOf(FlowableObjectNotFoundException.class)
+            .hasMessageContaining("unknown");
+        assertThatThrownBy(() -> runtimeService.resumeProcessInstanceMigrationBatch("unknown"))
+            .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
+    @Test
+    public void testAsyncMigrationToUnknownProcessDefinition() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        runtimeService.startProcessInstanceByKey("MP");
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition("unknown")
+            .migrateProcessInstancesAsync(version1ProcessDef.getId()))
+            .isInstanceOf(FlowableException.class)
+            .hasMessageContaining("Cannot find the process definition to migrate to");
+
+        assertEquals(0, managementService.createJobQuery().count());
+    }
+
     @Test
     public void testSimpleMigrationWithTaskMapping() {
         //Deploy first version of the process
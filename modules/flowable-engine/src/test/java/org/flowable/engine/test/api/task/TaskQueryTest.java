@@ -21,6 +21,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -100,6 +101,84 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testForEach() {
+        List<String> expectedIds = new ArrayList<>();
+        for (Task task : taskService.createTaskQuery().orderByTaskId().asc().list()) {
+            expectedIds.add(task.getId());
+        }
+        assertEquals(12, expectedIds.size());
+
+        List<String> ids = new ArrayList<>();
+        taskService.createTaskQuery().orderByTaskId().asc().forEach(task -> ids.add(task.getId()));
+        assertEquals(expectedIds, ids);
+
+        // The cursor is read with the streaming fetch size
+        assertEquals(Integer.valueOf(processEngineConfiguration.getStreamingFetchSize()), processEngineConfiguration.getSqlSessionFactory().getConfiguration()
+                .getMappedStatement("selectTaskByQueryCriteria_streaming").getFetchSize());
+
+        ids.clear();
+        taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskId().asc().forEach(task -> ids.add(task.getId()));
+        assertEquals(taskService.createTaskQuery().taskCandidateUser("kermit").count(), ids.size());
+
+        ids.clear();
+        taskService.createTaskQuery().includeIdentityLinks().orderByTaskId().asc().forEach(task -> ids.add(task.getId()));
+        assertEquals(expectedIds, ids);
+    }
+
+    @Test
+    public void testKeysetPagination() {
+        assertEquals(ids(taskService.createTaskQuery().orderByTaskId().asc().list()),
+                keysetPaginatedIds(() -> taskService.createTaskQuery(), 5));
+        assertEquals(ids(taskService.createTaskQuery().orderByTaskCreateTime().desc().orderByTaskId().desc().list()),
+                keysetPaginatedIds(() -> taskService.createTaskQuery().orderByTaskCreateTime().desc(), 5));
+        assertEquals(ids(taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskId().asc().list()),
+                keysetPaginatedIds(() -> taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskId().asc(), 4));
+        assertEquals(ids(taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskCreateTime().asc().orderByTaskId().asc().list()),
+                keysetPaginatedIds(() -> taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskCreateTime().asc(), 2));
+
+        Task firstTask = taskService.createTaskQuery().orderByTaskCreateTime().asc().continueAfter(null).listPage(0, 1).get(0);
+        String continuationToken = taskService.createTaskQuery().orderByTaskCreateTime().asc().createContinuationToken(firstTask);
+        assertEquals(11, taskService.createTaskQuery().orderByTaskCreateTime().asc().continueAfter(continuationToken).count());
+
+        try {
+            taskService.createTaskQuery().orderByTaskPriority().asc().continueAfter(continuationToken).list();
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK, token created for a different order
+        }
+
+        try {
+            taskService.createTaskQuery().orderByTaskName().asc().continueAfter(null).list();
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK, order not supported
+        }
+    }
+
+    protected List<String> keysetPaginatedIds(Supplier<TaskQuery> querySupplier, int pageSize) {
+        List<String> ids = new ArrayList<>();
+        String continuationToken = null;
+        List<Task> page;
+        do {
+            TaskQuery query = querySupplier.get().continueAfter(continuationToken);
+            page = query.listPage(0, pageSize);
+            ids.addAll(ids(page));
+            if (!page.isEmpty()) {
+                continuationToken = query.createContinuationToken(page.get(page.size() - 1));
+            }
+        } while (page.size() == pageSize);
+        return ids;
+    }
+
+    protected List<String> ids(List<Task> tasks) {
+        List<String> ids = new ArrayList<>();
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
     @Test
     public void testQueryByTaskId() {
         TaskQuery query = taskService.createTaskQuery().taskId(taskIds.get(0));
@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.io.InputStream;
 import java.util.List;
 
+import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.StartEvent;
@@ -28,6 +29,8 @@ import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.flowable.engine.impl.RepositoryServiceImpl;
+import org.flowable.engine.impl.bpmn.deployer.DeploymentParseExecutor;
+import org.flowable.engine.impl.bpmn.deployer.ParsedDeploymentBuilderFactory;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.DeploymentProperties;
@@ -265,6 +268,46 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testDeployWithParallelParsing() {
+        ParsedDeploymentBuilderFactory parsedDeploymentBuilderFactory = processEngineConfiguration.getParsedDeploymentBuilderFactory();
+        DeploymentParseExecutor originalParseExecutor = parsedDeploymentBuilderFactory.getParseExecutor();
+        DeploymentParseExecutor parseExecutor = new DeploymentParseExecutor(4);
+        parsedDeploymentBuilderFactory.setParseExecutor(parseExecutor);
+
+        try {
+            String deploymentId = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml")
+                    .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml")
+                    .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testMultipleDiagramResourcesProvided.bpmn20.xml")
+                    .deploy()
+                    .getId();
+
+            List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().orderByProcessDefinitionKey().asc().list();
+            assertEquals(5, processDefinitions.size());
+            assertEquals("a", processDefinitions.get(0).getKey());
+            assertEquals("emptyProcess", processDefinitions.get(3).getKey());
+            assertEquals("myProcess", processDefinitions.get(4).getKey());
+            assertEquals("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.myProcess.png",
+                    processDefinitions.get(4).getDiagramResourceName());
+            assertEquals(4, repositoryService.getDeploymentResourceNames(deploymentId).size());
+
+            repositoryService.deleteDeployment(deploymentId, true);
+
+            // a resource that can't be parsed fails the whole deployment
+            assertThatThrownBy(() -> repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testInvalidProcessDefinition.bpmn20.xml")
+                    .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml")
+                    .deploy())
+                    .isInstanceOf(XMLException.class);
+            assertEquals(0, repositoryService.createDeploymentQuery().count());
+
+        } finally {
+            parsedDeploymentBuilderFactory.setParseExecutor(originalParseExecutor);
+            parseExecutor.shutdown();
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml",
             "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg" })
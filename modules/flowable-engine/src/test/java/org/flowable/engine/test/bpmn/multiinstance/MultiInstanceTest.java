@@ -252,6 +252,111 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment
+    public void testParallelUserTasksAsyncAggregation() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksAsyncAggregation").getId();
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().taskDefinitionKey("miTasks").list();
+        assertEquals(3, tasks.size());
+
+        Job aggregationJob = managementService.createTimerJobQuery().processInstanceId(procId).singleResult();
+        assertNotNull(aggregationJob);
+        String miRootExecutionId = aggregationJob.getExecutionId();
+
+        // Completing the instances doesn't update the loop variables of the multi instance root execution
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+        assertEquals(0, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+        assertEquals(3, runtimeService.getVariableLocal(miRootExecutionId, "nrOfActiveInstances"));
+
+        // The aggregation updates them and schedules the next aggregation
+        executeAggregationJob(procId);
+        assertEquals(2, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+        assertEquals(1, runtimeService.getVariableLocal(miRootExecutionId, "nrOfActiveInstances"));
+        int interval = processEngineConfiguration.getMultiInstanceAsyncAggregationInterval();
+        assertEquals(Integer.toString(interval), getAggregationJobConfiguration(procId));
+
+        // The aggregations back off while no instances complete
+        executeAggregationJob(procId);
+        assertEquals(Integer.toString(2 * interval), getAggregationJobConfiguration(procId));
+        executeAggregationJob(procId);
+        assertEquals(Integer.toString(4 * interval), getAggregationJobConfiguration(procId));
+        assertEquals(2, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+
+        taskService.complete(tasks.get(2).getId());
+        assertEquals(0, taskService.createTaskQuery().taskDefinitionKey("taskAfterMi").count());
+
+        executeAggregationJob(procId);
+        assertEquals(0, managementService.createTimerJobQuery().processInstanceId(procId).count());
+        org.flowable.task.api.Task taskAfterMi = taskService.createTaskQuery().singleResult();
+        assertEquals("taskAfterMi", taskAfterMi.getTaskDefinitionKey());
+
+        taskService.complete(taskAfterMi.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testParallelUserTasksAsyncAggregationCompletionCondition() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksAsyncAggregationCompletionCondition").getId();
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().list();
+        assertEquals(5, tasks.size());
+
+        for (int i = 0; i < 3; i++) {
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertEquals(2, taskService.createTaskQuery().taskDefinitionKey("miTasks").count());
+
+        executeAggregationJob(procId);
+        assertEquals(0, taskService.createTaskQuery().taskDefinitionKey("miTasks").count());
+        assertEquals(1, taskService.createTaskQuery().taskDefinitionKey("taskAfterMi").count());
+        assertEquals(0, managementService.createTimerJobQuery().processInstanceId(procId).count());
+    }
+
+    @Test
+    @Deployment
+    public void testParallelSubProcessAsyncAggregation() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelSubProcessAsyncAggregation").getId();
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().taskDefinitionKey("subProcessTask").list();
+        assertEquals(3, tasks.size());
+
+        taskService.complete(tasks.get(0).getId());
+        executeAggregationJob(procId);
+        assertEquals(0, taskService.createTaskQuery().taskDefinitionKey("taskAfterMi").count());
+
+        taskService.complete(tasks.get(1).getId());
+        taskService.complete(tasks.get(2).getId());
+        executeAggregationJob(procId);
+
+        org.flowable.task.api.Task taskAfterMi = taskService.createTaskQuery().singleResult();
+        assertEquals("taskAfterMi", taskAfterMi.getTaskDefinitionKey());
+        assertEquals(0, managementService.createTimerJobQuery().processInstanceId(procId).count());
+
+        taskService.complete(taskAfterMi.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testParallelServiceTasksAsyncAggregation() {
+        // All instances complete in the transaction that creates them, so there is nothing to aggregate afterwards
+        String procId = runtimeService.startProcessInstanceByKey("miParallelServiceTasksAsyncAggregation").getId();
+        assertEquals("taskAfterMi", taskService.createTaskQuery().processInstanceId(procId).singleResult().getTaskDefinitionKey());
+        assertEquals(0, managementService.createTimerJobQuery().processInstanceId(procId).count());
+    }
+
+    protected String getAggregationJobConfiguration(String processInstanceId) {
+        Job aggregationJob = managementService.createTimerJobQuery().processInstanceId(processInstanceId).singleResult();
+        assertNotNull(aggregationJob);
+        return aggregationJob.getJobHandlerConfiguration();
+    }
+
+    protected void executeAggregationJob(String processInstanceId) {
+        Job aggregationJob = managementService.createTimerJobQuery().processInstanceId(processInstanceId).singleResult();
+        managementService.moveTimerToExecutableJob(aggregationJob.getId());
+        managementService.executeJob(aggregationJob.getId());
+    }
+
     @Test
     @Deployment
     public void testParallelUserTasksBasedOnCollection() {
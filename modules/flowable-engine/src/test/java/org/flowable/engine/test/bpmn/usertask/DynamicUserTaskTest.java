@@ -13,11 +13,17 @@
 
 package org.flowable.engine.test.bpmn.usertask;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.impl.persistence.deploy.PollingProcessDefinitionInfoChangeNotifier;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.IdentityLink;
@@ -392,6 +398,53 @@ public class DynamicUserTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.testChangeFormKey.bpmn20.xml" })
+    public void testChangeFormKeyWithoutRevisionCheck() {
+        ProcessDefinitionInfoCache processDefinitionInfoCache = processEngineConfiguration.getProcessDefinitionInfoCache();
+        PollingProcessDefinitionInfoChangeNotifier changeNotifier = new PollingProcessDefinitionInfoChangeNotifier(
+                processEngineConfiguration.getCommandExecutor(), 3600000L);
+        processDefinitionInfoCache.setRevisionCheckEnabled(false);
+        processDefinitionInfoCache.setChangeNotifier(changeNotifier);
+        changeNotifier.start(processDefinitionInfoCache);
+
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("dynamicUserTask").singleResult().getId();
+            assertEquals("test", startProcessAndGetFormKey());
+
+            // a change made by this engine is visible immediately
+            dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, dynamicBpmnService.changeUserTaskFormKey("task1", "test2"));
+            assertEquals("test2", startProcessAndGetFormKey());
+
+            // a change made by another engine is only visible after the next poll
+            ObjectNode infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test3");
+            managementService.executeCommand(commandContext -> {
+                ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+                ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+                infoEntityManager.updateInfoJson(infoEntity.getId(), infoNode.toString().getBytes(StandardCharsets.UTF_8));
+                infoEntityManager.updateProcessDefinitionInfo(infoEntity);
+                return null;
+            });
+            assertEquals("test2", startProcessAndGetFormKey());
+
+            changeNotifier.poll();
+            assertEquals("test3", startProcessAndGetFormKey());
+
+        } finally {
+            changeNotifier.stop();
+            processDefinitionInfoCache.setChangeNotifier(null);
+            processDefinitionInfoCache.setRevisionCheckEnabled(true);
+        }
+    }
+
+    protected String startProcessAndGetFormKey() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+        return task.getFormKey();
+    }
+
     @Test
     @Deployment
     public void testChangeFormKeyWithExpression() {
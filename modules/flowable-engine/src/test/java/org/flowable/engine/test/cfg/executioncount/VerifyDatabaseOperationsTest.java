@@ -47,6 +47,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
 
     protected boolean oldIsBulkInsertableValue;
     protected boolean oldExecutionTreeFetchValue;
+    protected boolean oldProcessInstancePrefetchValue;
     protected boolean oldExecutionRelationshipCountValue;
     protected boolean oldTaskRelationshipCountValue;
     protected boolean oldenableProcessDefinitionInfoCacheValue;
@@ -60,6 +61,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         // Enable flags
         this.oldIsBulkInsertableValue = processEngineConfiguration.isBulkInsertEnabled();
         this.oldExecutionTreeFetchValue = processEngineConfiguration.getPerformanceSettings().isEnableEagerExecutionTreeFetching();
+        this.oldProcessInstancePrefetchValue = processEngineConfiguration.getPerformanceSettings().isEnableProcessInstancePrefetching();
         this.oldExecutionRelationshipCountValue = processEngineConfiguration.getPerformanceSettings().isEnableExecutionRelationshipCounts();
         this.oldTaskRelationshipCountValue = processEngineConfiguration.getPerformanceSettings().isEnableTaskRelationshipCounts();
         this.oldenableProcessDefinitionInfoCacheValue = processEngineConfiguration.isEnableProcessDefinitionInfoCache();
@@ -108,6 +110,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
 
         processEngineConfiguration.setBulkInsertEnabled(oldIsBulkInsertableValue);
         processEngineConfiguration.getPerformanceSettings().setEnableEagerExecutionTreeFetching(oldExecutionTreeFetchValue);
+        processEngineConfiguration.getPerformanceSettings().setEnableProcessInstancePrefetching(oldProcessInstancePrefetchValue);
         processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelationshipCounts(oldExecutionRelationshipCountValue);
         processEngineConfiguration.getPerformanceSettings().setEnableTaskRelationshipCounts(oldTaskRelationshipCountValue);
 
@@ -371,6 +374,48 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testOneTaskProcessWithProcessInstancePrefetching() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            processEngineConfiguration.getPerformanceSettings().setEnableProcessInstancePrefetching(true);
+
+            deployStartProcessInstanceAndProfile("process-usertask-01.bpmn20.xml", "process-usertask-01", false);
+            org.flowable.task.api.Task task = taskService.createTaskQuery().singleResult();
+            taskService.complete(task.getId());
+            stopProfiling();
+
+            assertExecutedCommands("StartProcessInstanceCmd", "org.flowable.task.service.impl.TaskQueryImpl", "CompleteTaskCmd");
+
+            // The lookups by execution are answered from the prefetched data
+            assertDatabaseSelects("CompleteTaskCmd",
+                    "selectById org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl", 1L,
+                    "selectById org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntityImpl", 1L,
+                    "selectById org.flowable.task.service.impl.persistence.entity.TaskEntityImpl", 1L,
+                    "selectById org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityImpl", 1L,
+                    "selectUnfinishedActivityInstanceExecutionIdAndActivityId", 2L,
+                    "selectExecutionsWithSameRootProcessInstanceId", 1L,
+                    "selectVariablesByExecutionIds", 1L,
+                    "selectTasksByProcessInstanceId", 1L,
+                    "selectVariablesByTaskIds", 1L,
+                    "selectEventSubscriptionsByProcessInstance", 1L,
+                    "selectJobsByProcessInstanceId", 1L,
+                    "selectTimerJobsByProcessInstanceId", 1L,
+                    "selectSuspendedJobsByProcessInstanceId", 1L,
+                    "selectDeadLetterJobsByProcessInstanceId", 1L,
+                    "selectIdentityLinksByProcessInstance", 1L,
+                    "selectEntityLinksByScopeIdAndType", 1L);
+
+            assertDatabaseDeletes("CompleteTaskCmd",
+                    "TaskEntityImpl", 1L,
+                    "ExecutionEntityImpl", 2L,
+                    "Bulk-delete-deleteTasksByExecutionId", 1L,
+                    "Bulk-delete-deleteEntityLinksByScopeIdAndScopeType", 1L,
+                    "Bulk-delete-deleteActivityInstancesByProcessInstanceId", 1L);
+
+            assertProcessEnded(task.getProcessInstanceId());
+        }
+    }
+
     @Test
     public void testOneTaskWithBoundaryTimerProcess() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
@@ -30,6 +30,7 @@ import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -802,6 +803,47 @@ public class HistoricTaskInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testKeysetPagination() {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            org.flowable.task.api.Task task = taskService.newTask();
+            task.setPriority(i % 3);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+
+        try {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            List<String> expectedIds = new ArrayList<>();
+            for (HistoricTaskInstance task : historyService.createHistoricTaskInstanceQuery().orderByTaskPriority().desc().orderByTaskId().desc().list()) {
+                expectedIds.add(task.getId());
+            }
+            assertEquals(7, expectedIds.size());
+
+            List<String> ids = new ArrayList<>();
+            String continuationToken = null;
+            List<HistoricTaskInstance> page;
+            do {
+                HistoricTaskInstanceQuery query = historyService.createHistoricTaskInstanceQuery().orderByTaskPriority().desc().continueAfter(continuationToken);
+                page = query.listPage(0, 3);
+                for (HistoricTaskInstance task : page) {
+                    ids.add(task.getId());
+                }
+                if (!page.isEmpty()) {
+                    continuationToken = query.createContinuationToken(page.get(page.size() - 1));
+                }
+            } while (page.size() == 3);
+            assertEquals(expectedIds, ids);
+
+        } finally {
+            for (String taskId : taskIds) {
+                taskService.deleteTask(taskId, true);
+            }
+        }
+    }
+
     @Test
     public void testInvalidSorting() {
         try {
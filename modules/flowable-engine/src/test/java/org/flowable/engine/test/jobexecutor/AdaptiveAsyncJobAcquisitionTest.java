@@ -0,0 +1,162 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.service.impl.asyncexecutor.AdaptiveAsyncJobAcquisition;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the adaptive async job acquisition of the {@link DefaultAsyncJobExecutor}.
+ */
+public class AdaptiveAsyncJobAcquisitionTest {
+
+    @Test
+    public void testBatchSizeGrowsOnFullBatches() {
+        TestAdaptiveAsyncJobAcquisition acquisition = new TestAdaptiveAsyncJobAcquisition(1, 8, 100L, 10000L);
+        Assert.assertEquals(1, acquisition.getBatchSize(100));
+
+        Assert.assertEquals(0L, acquisition.jobsAcquired(1, 1));
+        Assert.assertEquals(2, acquisition.getBatchSize(100));
+        Assert.assertEquals(0L, acquisition.jobsAcquired(2, 2));
+        Assert.assertEquals(0L, acquisition.jobsAcquired(4, 4));
+        Assert.assertEquals(0L, acquisition.jobsAcquired(8, 8));
+        Assert.assertEquals(8, acquisition.getBatchSize(100));
+
+        // The batch size is limited by the remaining capacity of the executor
+        Assert.assertEquals(3, acquisition.getBatchSize(3));
+
+        // A full batch that was limited by the remaining capacity doesn't make the batch size grow
+        acquisition = new TestAdaptiveAsyncJobAcquisition(4, 8, 100L, 10000L);
+        acquisition.jobsAcquired(2, 2);
+        Assert.assertEquals(4, acquisition.getBatchSize());
+    }
+
+    @Test
+    public void testBatchSizeShrinksOnOptimisticLockingCollision() {
+        TestAdaptiveAsyncJobAcquisition acquisition = new TestAdaptiveAsyncJobAcquisition(16, 16, 100L, 10000L);
+
+        long waitTime = acquisition.optimisticLockingCollision();
+        Assert.assertEquals(8, acquisition.getBatchSize());
+        Assert.assertTrue("Wait time was " + waitTime, waitTime >= 100L && waitTime <= 200L);
+
+        acquisition.optimisticLockingCollision();
+        acquisition.optimisticLockingCollision();
+        acquisition.optimisticLockingCollision();
+        acquisition.optimisticLockingCollision();
+        Assert.assertEquals(1, acquisition.getBatchSize());
+    }
+
+    @Test
+    public void testWaitTimeFollowsJobArrivalRate() {
+        TestAdaptiveAsyncJobAcquisition acquisition = new TestAdaptiveAsyncJobAcquisition(10, 10, 100L, 10000L);
+
+        // Nothing is known about the arrival rate yet
+        Assert.assertEquals(10000L, acquisition.jobsAcquired(10, 0));
+
+        // 5 jobs per second
+        acquisition.currentTime += 1000L;
+        acquisition.jobsAcquired(10, 5);
+        for (int i = 0; i < 20; i++) {
+            acquisition.currentTime += 1000L;
+            acquisition.jobsAcquired(10, 5);
+        }
+        Assert.assertEquals(5.0, acquisition.getJobArrivalRatePerSecond(), 0.1);
+        acquisition.currentTime += 1000L;
+        long waitTime = acquisition.jobsAcquired(10, 5);
+        Assert.assertTrue("Wait time was " + waitTime, waitTime >= 190L && waitTime <= 210L);
+
+        // When no jobs are found anymore, the wait time grows, but never beyond the maximum wait time
+        long previousWaitTime = waitTime;
+        for (int i = 0; i < 5; i++) {
+            acquisition.currentTime += previousWaitTime;
+            waitTime = acquisition.jobsAcquired(10, 0);
+            Assert.assertTrue("Wait time " + waitTime + " should be larger than " + previousWaitTime, waitTime > previousWaitTime);
+            previousWaitTime = waitTime;
+        }
+        for (int i = 0; i < 50; i++) {
+            acquisition.currentTime += waitTime;
+            waitTime = acquisition.jobsAcquired(10, 0);
+        }
+        Assert.assertEquals(10000L, waitTime);
+
+        // A burst of jobs brings the wait time down to the minimum
+        acquisition.currentTime += 10L;
+        acquisition.jobsAcquired(10, 9);
+        acquisition.currentTime += 10L;
+        Assert.assertEquals(100L, acquisition.jobsAcquired(10, 9));
+    }
+
+    @Test
+    public void testAdaptiveAcquisition() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AdaptiveAsyncJobAcquisitionTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncExecutorAdaptiveJobAcquisition(true);
+        processEngineConfiguration.setAsyncExecutorAdaptiveJobAcquisitionMaxBatchSize(16);
+        processEngineConfiguration.setAsyncExecutorAdaptiveJobAcquisitionMinWaitTime(10);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        try {
+            processEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/jobexecutor/AdaptiveAsyncJobAcquisitionTest.testAdaptiveAcquisition.bpmn20.xml")
+                    .deploy();
+
+            // The async executor isn't active, so all jobs need to be acquired from the database when it starts
+            for (int i = 0; i < 40; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("asyncExpressionTask");
+            }
+            Assert.assertEquals(40, processEngine.getManagementService().createJobQuery().count());
+
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+            asyncExecutor.start();
+
+            // With the fixed default wait time of 10 seconds and 1 job per acquisition, this would take much longer
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, processEngine.getManagementService(), 5000L, 100L, false);
+
+            Assert.assertEquals(40, processEngine.getTaskService().createTaskQuery().taskName("Task after async task").count());
+
+            AdaptiveAsyncJobAcquisition adaptiveAcquisition = asyncExecutor.getAsyncJobsDueRunnable().getAdaptiveAcquisition();
+            Assert.assertNotNull(adaptiveAcquisition);
+            Assert.assertTrue("Batch size was " + adaptiveAcquisition.getBatchSize(), adaptiveAcquisition.getBatchSize() > 1);
+
+        } finally {
+            processEngineConfiguration.getAsyncExecutor().shutdown();
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    protected static class TestAdaptiveAsyncJobAcquisition extends AdaptiveAsyncJobAcquisition {
+
+        protected long currentTime = 1000L;
+
+        public TestAdaptiveAsyncJobAcquisition(int initialBatchSize, int maxBatchSize, long minWaitTimeInMillis, long maxWaitTimeInMillis) {
+            super(initialBatchSize, maxBatchSize, minWaitTimeInMillis, maxWaitTimeInMillis);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return currentTime;
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the sharded job acquisition of the async executor (see {@link JobShardManager}).
+ */
+public class ShardedJobAcquisitionTest {
+
+    @Test
+    public void testShardedJobAcquisition() throws Exception {
+        ProcessEngine firstProcessEngine = null;
+        ProcessEngine secondProcessEngine = null;
+
+        try {
+            firstProcessEngine = createProcessEngine();
+            secondProcessEngine = createProcessEngine();
+            firstProcessEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/jobexecutor/ShardedJobAcquisitionTest.testShardedJobAcquisition.bpmn20.xml")
+                    .deploy();
+
+            // No async executor is active, so the jobs stay in the database
+            for (int i = 0; i < 20; i++) {
+                firstProcessEngine.getRuntimeService().startProcessInstanceByKey("asyncExpressionTask");
+            }
+            List<Job> jobs = firstProcessEngine.getManagementService().createJobQuery().list();
+            Assert.assertEquals(20, jobs.size());
+            for (Job job : jobs) {
+                Integer shard = ((JobEntity) job).getShard();
+                Assert.assertNotNull(shard);
+                Assert.assertTrue(shard >= 0 && shard < 4);
+            }
+
+            // Both nodes register, after which the first node needs a heartbeat to see the second one
+            JobShardManager firstJobShardManager = registerNode(firstProcessEngine);
+            JobShardManager secondJobShardManager = registerNode(secondProcessEngine);
+            Assert.assertEquals(2, secondJobShardManager.getActiveNodeCount());
+            Thread.sleep(60L);
+            firstJobShardManager.heartbeatIfDue();
+            Assert.assertEquals(2, firstJobShardManager.getActiveNodeCount());
+            assertShardsDistributed(firstJobShardManager, secondJobShardManager);
+
+            ShardRecordingAsyncExecutor firstAsyncExecutor = (ShardRecordingAsyncExecutor) firstProcessEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            ShardRecordingAsyncExecutor secondAsyncExecutor = (ShardRecordingAsyncExecutor) secondProcessEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            firstAsyncExecutor.start();
+            secondAsyncExecutor.start();
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(firstProcessEngine.getProcessEngineConfiguration(), firstProcessEngine.getManagementService(), 10000L, 100L, false);
+            Assert.assertEquals(20, firstProcessEngine.getTaskService().createTaskQuery().taskName("Task after async task").count());
+
+            // Every node only acquired jobs of its own shards
+            Assert.assertEquals(20, firstAsyncExecutor.getExecutedJobShards().size() + secondAsyncExecutor.getExecutedJobShards().size());
+            Assert.assertTrue(firstJobShardManager.getOwnedShards().containsAll(firstAsyncExecutor.getExecutedJobShards()));
+            Assert.assertTrue(secondJobShardManager.getOwnedShards().containsAll(secondAsyncExecutor.getExecutedJobShards()));
+
+            // When the second node leaves, the first one takes over all shards
+            secondAsyncExecutor.shutdown();
+            Assert.assertTrue(secondJobShardManager.getOwnedShards().isEmpty());
+            Thread.sleep(60L);
+            firstJobShardManager.heartbeatIfDue();
+            Assert.assertEquals(1, firstJobShardManager.getActiveNodeCount());
+            Assert.assertEquals(4, firstJobShardManager.getOwnedShards().size());
+            Assert.assertTrue(firstJobShardManager.isOwningUnshardedJobs());
+
+        } finally {
+            cleanup(firstProcessEngine);
+            cleanup(secondProcessEngine);
+        }
+    }
+
+    protected ProcessEngine createProcessEngine() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-ShardedJobAcquisitionTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncExecutorJobShardCount(4);
+
+        ShardRecordingAsyncExecutor asyncExecutor = new ShardRecordingAsyncExecutor();
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(5);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50);
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        processEngineConfiguration.getJobServiceConfiguration().getJobShardManager().setHeartbeatIntervalInMillis(50L);
+        return processEngine;
+    }
+
+    protected JobShardManager registerNode(ProcessEngine processEngine) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+        JobShardManager jobShardManager = processEngineConfiguration.getJobServiceConfiguration().getJobShardManager();
+        jobShardManager.register(processEngineConfiguration.getAsyncExecutor().getLockOwner(), null, processEngineConfiguration.getCommandExecutor());
+        return jobShardManager;
+    }
+
+    protected void assertShardsDistributed(JobShardManager firstJobShardManager, JobShardManager secondJobShardManager) {
+        Assert.assertEquals(2, firstJobShardManager.getOwnedShards().size());
+        Assert.assertEquals(2, secondJobShardManager.getOwnedShards().size());
+
+        Set<Integer> allShards = new HashSet<>(firstJobShardManager.getOwnedShards());
+        allShards.addAll(secondJobShardManager.getOwnedShards());
+        Assert.assertEquals(4, allShards.size());
+        Assert.assertTrue(firstJobShardManager.isOwningUnshardedJobs() != secondJobShardManager.isOwningUnshardedJobs());
+    }
+
+    protected void cleanup(ProcessEngine processEngine) {
+        if (processEngine == null) {
+            return;
+        }
+        processEngine.getProcessEngineConfiguration().getAsyncExecutor().shutdown();
+        for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    static class ShardRecordingAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected final List<Integer> executedJobShards = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public boolean executeAsyncJob(JobInfo job) {
+            boolean accepted = super.executeAsyncJob(job);
+            if (accepted && isActive && job instanceof JobEntity) {
+                executedJobShards.add(((JobEntity) job).getShard());
+            }
+            return accepted;
+        }
+
+        public List<Integer> getExecutedJobShards() {
+            return executedJobShards;
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the virtual thread mode of the {@link DefaultAsyncJobExecutor}.
+ */
+public class VirtualThreadAsyncExecutorTest {
+
+    @Test
+    public void testConcurrentJobsLimited() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-VirtualThreadAsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.setAsyncExecutorVirtualThreadMode(true);
+        processEngineConfiguration.setAsyncExecutorVirtualThreadMaxConcurrentJobs(2);
+        processEngineConfiguration.setAsyncExecutorMaxAsyncJobsDuePerAcquisition(10);
+        processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(50);
+        processEngineConfiguration.setAsyncExecutorDefaultQueueSizeFullWaitTime(50);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        try {
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+            Assert.assertTrue(asyncExecutor.isVirtualThreadMode());
+            Assert.assertEquals(2, asyncExecutor.getRemainingCapacity());
+
+            processEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/jobexecutor/VirtualThreadAsyncExecutorTest.testConcurrentJobsLimited.bpmn20.xml")
+                    .deploy();
+
+            BlockingDelegate.reset();
+            for (int i = 0; i < 6; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("blockingAsyncServiceTask");
+            }
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, processEngine.getManagementService(), 20000L, 100L, false);
+
+            Assert.assertEquals(6, BlockingDelegate.EXECUTIONS.get());
+            Assert.assertTrue("Max concurrent jobs was " + BlockingDelegate.MAX_CONCURRENT.get(), BlockingDelegate.MAX_CONCURRENT.get() <= 2);
+            Assert.assertEquals(6, processEngine.getTaskService().createTaskQuery().taskName("Task after blocking task").count());
+            Assert.assertEquals(2, asyncExecutor.getRemainingCapacity());
+
+        } finally {
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testDefaultConcurrentJobsLimit() {
+        // The limit of the connection pool created by the engine is used
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-VirtualThreadAsyncExecutorTest-pooled;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setJdbcMaxActiveConnections(5);
+        processEngineConfiguration.setAsyncExecutorVirtualThreadMode(true);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            Assert.assertEquals(5, ((DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor()).getVirtualThreadMaxConcurrentJobs());
+        } finally {
+            processEngine.close();
+        }
+
+        // The pool size of an external data source isn't known, so the max pool size of the async executor is used
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:flowable-VirtualThreadAsyncExecutorTest-external;DB_CLOSE_DELAY=1000");
+        dataSource.setUser("sa");
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setDataSource(dataSource);
+        processEngineConfiguration.setJdbcMaxActiveConnections(5);
+        processEngineConfiguration.setAsyncExecutorVirtualThreadMode(true);
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+            Assert.assertEquals(0, asyncExecutor.getVirtualThreadMaxConcurrentJobs());
+            Assert.assertEquals(asyncExecutor.getMaxPoolSize(), asyncExecutor.getRemainingCapacity());
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    public static class BlockingDelegate implements JavaDelegate {
+
+        static final AtomicInteger EXECUTIONS = new AtomicInteger();
+        static final AtomicInteger CONCURRENT = new AtomicInteger();
+        static final AtomicInteger MAX_CONCURRENT = new AtomicInteger();
+
+        static void reset() {
+            EXECUTIONS.set(0);
+            CONCURRENT.set(0);
+            MAX_CONCURRENT.set(0);
+        }
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            int concurrent = CONCURRENT.incrementAndGet();
+            MAX_CONCURRENT.accumulateAndGet(concurrent, Math::max);
+            try {
+                // Simulates a blocking call, e.g. an http request
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                CONCURRENT.decrementAndGet();
+            }
+            EXECUTIONS.incrementAndGet();
+        }
+    }
+
+}
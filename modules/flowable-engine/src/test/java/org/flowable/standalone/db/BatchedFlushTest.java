@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class BatchedFlushTest extends ResourceFlowableTestCase {
+
+    public BatchedFlushTest() throws Exception {
+        super("org/flowable/standalone/db/batchedflush.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBatchedUpdatesAndDeletes() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("counter", 0)).getId());
+        }
+
+        // All variable updates are flushed together
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            for (String processInstanceId : processInstanceIds) {
+                runtimeService.setVariable(processInstanceId, "counter", 1);
+            }
+            return null;
+        });
+        for (String processInstanceId : processInstanceIds) {
+            assertEquals(1, runtimeService.getVariable(processInstanceId, "counter"));
+        }
+
+        // All variable deletes are flushed together
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            for (String processInstanceId : processInstanceIds) {
+                runtimeService.removeVariable(processInstanceId, "counter");
+            }
+            return null;
+        });
+        for (String processInstanceId : processInstanceIds) {
+            assertNull(runtimeService.getVariable(processInstanceId, "counter"));
+        }
+
+        // Completing all tasks at once deletes the tasks and executions in batches
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            for (Task task : taskService.createTaskQuery().list()) {
+                taskService.complete(task.getId());
+            }
+            return null;
+        });
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(0, taskService.createTaskQuery().count());
+    }
+
+    @Test
+    public void testOptimisticLockingCheckedPerRow() {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = taskService.newTask();
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+
+        try {
+            managementService.executeCommand((Command<Void>) commandContext -> {
+                List<Task> tasks = new ArrayList<>();
+                for (String taskId : taskIds) {
+                    tasks.add(taskService.createTaskQuery().taskId(taskId).singleResult());
+                }
+
+                // Concurrent modification of the second task, in a separate transaction
+                processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), (Command<Void>) newCommandContext -> {
+                    Task task = taskService.createTaskQuery().taskId(taskIds.get(1)).singleResult();
+                    task.setDescription("concurrent modification");
+                    taskService.saveTask(task);
+                    return null;
+                });
+
+                for (Task task : tasks) {
+                    task.setDescription("batched modification");
+                }
+                return null;
+            });
+            fail("should get an exception here as the second task was modified by someone else.");
+        } catch (FlowableOptimisticLockingException expected) {
+            // exception was thrown as expected
+        }
+
+        assertNull(taskService.createTaskQuery().taskId(taskIds.get(0)).singleResult().getDescription());
+        assertEquals("concurrent modification", taskService.createTaskQuery().taskId(taskIds.get(1)).singleResult().getDescription());
+        assertNull(taskService.createTaskQuery().taskId(taskIds.get(2)).singleResult().getDescription());
+
+        for (String taskId : taskIds) {
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.db;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends ResourceFlowableTestCase {
+
+    public EntityDirtyTrackingTest() throws Exception {
+        super("org/flowable/standalone/db/entitydirtytracking.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyChangedEntitiesAreUpdated() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("changed", 1);
+        variables.put("unchanged", 2);
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+        int processInstanceRevision = getProcessInstanceRevision(processInstanceId);
+        int changedRevision = getVariableInstance(processInstanceId, "changed").getRevision();
+        int unchangedRevision = getVariableInstance(processInstanceId, "unchanged").getRevision();
+
+        // Loads the execution and both variables, but only changes one variable
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            runtimeService.getVariables(processInstanceId);
+            runtimeService.setVariable(processInstanceId, "changed", 3);
+            return null;
+        });
+
+        assertEquals(changedRevision + 1, getVariableInstance(processInstanceId, "changed").getRevision());
+        assertEquals(unchangedRevision, getVariableInstance(processInstanceId, "unchanged").getRevision());
+        assertEquals(3, runtimeService.getVariable(processInstanceId, "changed"));
+        assertEquals(2, runtimeService.getVariable(processInstanceId, "unchanged"));
+
+        // Setting a variable forces an update of the execution, but just reading it doesn't
+        processInstanceRevision = getProcessInstanceRevision(processInstanceId);
+        runtimeService.getVariables(processInstanceId);
+        assertEquals(processInstanceRevision, getProcessInstanceRevision(processInstanceId));
+
+        runtimeService.setProcessInstanceName(processInstanceId, "New name");
+        assertEquals(processInstanceRevision + 1, getProcessInstanceRevision(processInstanceId));
+        assertEquals("New name", runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getName());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testChangeToNullValueIsUpdated() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        runtimeService.setProcessInstanceName(processInstanceId, "New name");
+        runtimeService.setVariable(processInstanceId, "var", "value");
+
+        runtimeService.setProcessInstanceName(processInstanceId, null);
+        runtimeService.setVariable(processInstanceId, "var", null);
+
+        assertNull(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getName());
+        assertNull(runtimeService.getVariable(processInstanceId, "var"));
+        assertEquals(1, runtimeService.createProcessInstanceQuery().variableValueEquals("var", null).count());
+    }
+
+    protected VariableInstanceEntity getVariableInstance(String processInstanceId, String variableName) {
+        return (VariableInstanceEntity) runtimeService.getVariableInstance(processInstanceId, variableName);
+    }
+
+    protected int getProcessInstanceRevision(String processInstanceId) {
+        return ((ExecutionEntity) runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult()).getRevision();
+    }
+
+}
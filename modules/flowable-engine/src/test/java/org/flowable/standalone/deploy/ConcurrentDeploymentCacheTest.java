@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testEvictionByWeight() throws IOException {
+        // Every process definition has 5 flow elements, giving a weight of 6. With a max weight of 20, only 3 fit in the cache.
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+            assertEquals(Math.min(i, 3), processDefinitionCache.size());
+            assertEquals(6 * processDefinitionCache.size(), processDefinitionCache.getTotalWeight());
+        }
+        assertEquals(2, processDefinitionCache.getEvictionCount());
+
+        // The first process definition was evicted: a miss, after which it is cached again
+        long missCount = processDefinitionCache.getMissCount();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+        runtimeService.startProcessInstanceByKey("myProcess1");
+        assertTrue(processDefinitionCache.getMissCount() > missCount);
+        assertTrue(processDefinitionCache.contains(processDefinition.getId()));
+        assertEquals(3, processDefinitionCache.size());
+
+        // Starting it again is a hit
+        long hitCount = processDefinitionCache.getHitCount();
+        runtimeService.startProcessInstanceByKey("myProcess1");
+        assertTrue(processDefinitionCache.getHitCount() > hitCount);
+
+        // Cleanup
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvictedFirst() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "a");
+        cache.add("b", "b");
+        assertEquals("a", cache.get("a"));
+
+        cache.add("c", "c");
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalWeight());
+    }
+
+}
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the async history executor executing multiple history jobs in one transaction.
+ */
+public class BatchedAsyncHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    public BatchedAsyncHistoryTest() {
+        super("batchedAsyncHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(false);
+        processEngineConfiguration.setAsyncHistoryExecutorJobBatchSize(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testBatchSizeConfiguration() {
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        assertEquals(10, asyncHistoryExecutor.getHistoryJobBatchSize());
+        assertEquals(10, asyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition());
+    }
+
+    @Test
+    public void testOneTaskProcesses() {
+        deployOneTaskTestProcess();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+
+        // Without grouping, every history event is a separate job
+        assertTrue(managementService.createHistoryJobQuery().count() > 10);
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+        assertEquals(0, managementService.createHistoryJobQuery().count());
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicProcessInstance);
+            assertNotNull(historicProcessInstance.getEndTime());
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicTaskInstance.getEndTime());
+
+            List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+            assertEquals(5, historicActivityInstances.size());
+            for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+                assertNotNull(historicActivityInstance.getStartTime());
+                assertNotNull(historicActivityInstance.getEndTime());
+            }
+        }
+    }
+
+}
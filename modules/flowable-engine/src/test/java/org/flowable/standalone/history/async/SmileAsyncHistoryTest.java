@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.SmileAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests async history with the history data stored in the Smile format.
+ */
+public class SmileAsyncHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    public SmileAsyncHistoryTest() {
+        super("smileAsyncHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec());
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        jobServiceConfiguration.setAsyncHistoryPayloadCodec(processEngineConfiguration.getAsyncHistoryPayloadCodec());
+        jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(false);
+
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testOneTaskProcess() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        AsyncHistoryPayloadCodec payloadCodec = processEngineConfiguration.getAsyncHistoryPayloadCodec();
+        for (byte[] payload : getHistoryJobPayloads()) {
+            assertTrue(payloadCodec.canDecode(payload));
+        }
+
+        completeTaskAndAssertHistory(processInstanceId);
+    }
+
+    @Test
+    public void testJsonJobsCreatedBeforeCodecConfigured() {
+        deployOneTaskTestProcess();
+
+        // History jobs created without codec, as would be the case for jobs that existed before upgrading
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryPayloadCodec(null);
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryPayloadCodec(processEngineConfiguration.getAsyncHistoryPayloadCodec());
+
+        AsyncHistoryPayloadCodec payloadCodec = processEngineConfiguration.getAsyncHistoryPayloadCodec();
+        for (byte[] payload : getHistoryJobPayloads()) {
+            assertFalse(payloadCodec.canDecode(payload));
+        }
+
+        completeTaskAndAssertHistory(processInstanceId);
+    }
+
+    @Test
+    public void testGzipCompression() {
+        deployOneTaskTestProcess();
+
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryJsonGzipCompressionEnabled(true);
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        for (HistoryJob historyJob : managementService.createHistoryJobQuery().list()) {
+            assertEquals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED, historyJob.getJobHandlerType());
+        }
+
+        completeTaskAndAssertHistory(processInstanceId);
+    }
+
+    protected void completeTaskAndAssertHistory(String processInstanceId) {
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.complete(task.getId());
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertNotNull(historicProcessInstance);
+        assertNotNull(historicProcessInstance.getEndTime());
+        assertEquals(task.getName(), historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getName());
+        assertEquals(5, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count());
+    }
+
+    protected List<byte[]> getHistoryJobPayloads() {
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertFalse(historyJobs.isEmpty());
+        return managementService.executeCommand(new Command<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(CommandContext commandContext) {
+                List<byte[]> payloads = new ArrayList<>();
+                for (HistoryJob historyJob : historyJobs) {
+                    payloads.add(((HistoryJobEntity) historyJob).getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+                }
+                return payloads;
+            }
+        });
+    }
+
+}
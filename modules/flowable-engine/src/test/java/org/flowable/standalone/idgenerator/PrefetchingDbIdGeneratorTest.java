@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public PrefetchingDbIdGeneratorTest() throws Exception {
+        super("org/flowable/standalone/idgenerator/prefetchingdbidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testConcurrentIdGeneration() throws Exception {
+        PrefetchingDbIdGenerator idGenerator = (PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator();
+        long blockFetchCountBefore = idGenerator.getBlockFetchCount();
+
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 16; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    ids.add(idGenerator.getNextId());
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+
+        // All ids are unique
+        assertEquals(16000, ids.size());
+
+        // 16000 ids with a block size of 100 need at least 160 blocks, most of them prefetched
+        assertTrue(idGenerator.getBlockFetchCount() - blockFetchCountBefore >= 160);
+        assertTrue(idGenerator.getPrefetchedBlockCount() > 0);
+    }
+
+    @Test
+    public void testShutdown() {
+        PrefetchingDbIdGenerator idGenerator = (PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator();
+        idGenerator.shutdown();
+
+        // Ids are still handed out after a shutdown, the prefetch thread is started again when needed
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 500; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+        assertEquals(500, ids.size());
+        idGenerator.shutdown();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessUsingPrefetchingIdGenerator() {
+        for (int i = 0; i < 150; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            assertProcessEnded(processInstance.getId());
+        }
+    }
+
+}
@@ -0,0 +1 @@
+update ACT_GE_PROPERTY set VALUE_ = '6.4.1.4' where NAME_ = 'entitylink.schema.version';
@@ -29,6 +29,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpMessage;
 import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
@@ -36,6 +37,7 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -43,6 +45,11 @@ import org.apache.http.util.EntityUtils;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
@@ -72,11 +79,26 @@ public class HttpActivityExecutor {
 
     protected final Timer timer = new Timer(true);
     protected final HttpClientBuilder clientBuilder;
+    protected final SharedHttpClient sharedHttpClient;
     protected final ErrorPropagator errorPropagator;
     protected ObjectMapper objectMapper;
 
+    /**
+     * Creates an executor that builds (and closes) a new http client for every request.
+     */
     public HttpActivityExecutor(HttpClientBuilder clientBuilder, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
         this.clientBuilder = clientBuilder;
+        this.sharedHttpClient = null;
+        this.errorPropagator = errorPropagator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates an executor that sends all requests with the given pooled client.
+     */
+    public HttpActivityExecutor(SharedHttpClient sharedHttpClient, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
+        this.clientBuilder = null;
+        this.sharedHttpClient = sharedHttpClient;
         this.errorPropagator = errorPropagator;
         this.objectMapper = objectMapper;
     }
@@ -89,93 +111,203 @@ public class HttpActivityExecutor {
 
         CloseableHttpClient client = null;
         try {
-            client = clientBuilder.build();
+            client = sharedHttpClient != null ? sharedHttpClient.getHttpClient() : clientBuilder.build();
 
             HttpResponse response = perform(client, variableContainer, request, flowableHttpRequestHandler, flowableHttpResponseHandler,
                     socketTimeout,
                     connectTimeout,
                     connectionRequestTimeout);
-            // Save response fields
-            if (response != null) {
-                // Save response body only by default
-                if (request.isSaveResponse()) {
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    } else {
-                        variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    }
+            handleResponse(response, request, variableContainer, responseVariableName);
+
+        } catch (Exception e) {
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+
+        } finally {
+            if (sharedHttpClient == null && client != null) {
+                try {
+                    client.close();
+                    LOGGER.debug("HTTP client is closed");
+                } catch (Throwable e) {
+                    LOGGER.error("Could not close http client", e);
                 }
+            }
+        }
 
-                if (!response.isBodyResponseHandled()) {
-                    String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
-                    Object varValue = request.isSaveResponseAsJson() ? objectMapper.readTree(response.getBody()) : response.getBody();
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(varName, varValue);
-                    } else {
-                        variableContainer.setVariable(varName, varValue);
+    }
+
+    /**
+     * Sends the request with the non-blocking client of the shared http client once the current transaction is committed,
+     * so that the calling thread doesn't wait for the response. The callback is invoked with the response or the exception,
+     * which can then be processed with {@link #handleAsyncResult(HttpRequest, HttpResponse, Exception, VariableContainer, String, HttpResponseHandler, String, List)}.
+     *
+     * @return true when the request will be sent; false when the request was not sent because an error occurred that was
+     *         handled (ignored, mapped or propagated as BPMN error) and the caller should continue immediately.
+     */
+    public boolean executeAsync(HttpRequest request, VariableContainer variableContainer, String executionId,
+                        HttpRequestHandler flowableHttpRequestHandler, List<MapExceptionEntry> mapExceptions,
+                        int socketTimeout, int connectTimeout, int connectionRequestTimeout,
+                        final FutureCallback<HttpResponse> callback) {
+        validate(request);
+
+        if (sharedHttpClient == null) {
+            throw new FlowableException("Non-blocking execution of http tasks requires a shared http client");
+        }
+
+        try {
+            if (!invokeRequestHandler(variableContainer, request, flowableHttpRequestHandler, sharedHttpClient.getHttpClient())) {
+                return false;
+            }
+
+            final HttpRequestBase httpRequest = createRequest(request, socketTimeout, connectTimeout, connectionRequestTimeout);
+            final FutureCallback<org.apache.http.HttpResponse> responseCallback = new FutureCallback<org.apache.http.HttpResponse>() {
+
+                @Override
+                public void completed(org.apache.http.HttpResponse response) {
+                    HttpResponse responseInfo;
+                    try {
+                        responseInfo = createResponse(response);
+                    } catch (Exception e) {
+                        callback.failed(e);
+                        return;
                     }
+                    callback.completed(responseInfo);
                 }
 
-                // Handle http status codes
-                if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+                @Override
+                public void failed(Exception exception) {
+                    callback.failed(exception);
+                }
 
-                    String code = Integer.toString(response.statusCode);
+                @Override
+                public void cancelled() {
+                    callback.cancelled();
+                }
+            };
 
-                    Set<String> handleCodes = request.getHandleCodes();
-                    if (handleCodes != null && !handleCodes.isEmpty()) {
-                        if (handleCodes.contains(code)
-                                || (code.startsWith("5") && handleCodes.contains("5XX"))
-                                || (code.startsWith("4") && handleCodes.contains("4XX"))
-                                || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                // the response can only be processed when the waiting execution is committed
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
 
-                            errorPropagator.propagateError(variableContainer, code);
-                            return;
-                        }
+                    @Override
+                    public void execute(CommandContext commandContext) {
+                        sharedHttpClient.executeAsync(httpRequest, responseCallback);
                     }
+                });
+            } else {
+                sharedHttpClient.executeAsync(httpRequest, responseCallback);
+            }
+            return true;
+
+        } catch (Exception e) {
+            handleException(wrapException(e), request, variableContainer, executionId, mapExceptions);
+            return false;
+        }
+    }
 
-                    Set<String> failCodes = request.getFailCodes();
-                    if (failCodes != null && !failCodes.isEmpty()) {
-                        if (failCodes.contains(code)
-                                || (code.startsWith("5") && failCodes.contains("5XX"))
-                                || (code.startsWith("4") && failCodes.contains("4XX"))
-                                || (code.startsWith("3") && failCodes.contains("3XX"))) {
+    /**
+     * Processes the outcome of a request that was sent with {@link #executeAsync}, in the same way as {@link #execute} processes the response.
+     */
+    public void handleAsyncResult(HttpRequest request, HttpResponse response, Exception exception, VariableContainer variableContainer, String executionId,
+                        HttpResponseHandler flowableHttpResponseHandler, String responseVariableName, List<MapExceptionEntry> mapExceptions) {
+        try {
+            if (exception != null) {
+                throw wrapException(exception);
+            }
 
-                            throw new FlowableException("HTTP" + code);
-                        }
-                    }
-                }
+            if (invokeResponseHandler(variableContainer, response, flowableHttpResponseHandler)) {
+                handleResponse(response, request, variableContainer, responseVariableName);
             }
 
         } catch (Exception e) {
-            if (request.isIgnoreErrors()) {
-                LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
-                variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
-            } else {
-                if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
-                    if (e instanceof FlowableException) {
-                        throw (FlowableException) e;
-                    } else {
-                        throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
-                    }
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+        }
+    }
+
+    protected void handleResponse(HttpResponse response, HttpRequest request, VariableContainer variableContainer, String responseVariableName) throws IOException {
+        // Save response fields
+        if (response != null) {
+            // Save response body only by default
+            if (request.isSaveResponse()) {
+                if (request.isSaveResponseTransient()) {
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
+                } else {
+                    variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                    variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                    variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                    variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
                 }
             }
-        } finally {
-            try {
-                client.close();
-                LOGGER.debug("HTTP client is closed");
-            } catch (Throwable e) {
-                LOGGER.error("Could not close http client", e);
+
+            if (!response.isBodyResponseHandled()) {
+                String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
+                Object varValue = request.isSaveResponseAsJson() ? objectMapper.readTree(response.getBody()) : response.getBody();
+                if (request.isSaveResponseTransient()) {
+                    variableContainer.setTransientVariable(varName, varValue);
+                } else {
+                    variableContainer.setVariable(varName, varValue);
+                }
+            }
+
+            // Handle http status codes
+            if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+
+                String code = Integer.toString(response.statusCode);
+
+                Set<String> handleCodes = request.getHandleCodes();
+                if (handleCodes != null && !handleCodes.isEmpty()) {
+                    if (handleCodes.contains(code)
+                            || (code.startsWith("5") && handleCodes.contains("5XX"))
+                            || (code.startsWith("4") && handleCodes.contains("4XX"))
+                            || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+
+                        errorPropagator.propagateError(variableContainer, code);
+                        return;
+                    }
+                }
+
+                Set<String> failCodes = request.getFailCodes();
+                if (failCodes != null && !failCodes.isEmpty()) {
+                    if (failCodes.contains(code)
+                            || (code.startsWith("5") && failCodes.contains("5XX"))
+                            || (code.startsWith("4") && failCodes.contains("4XX"))
+                            || (code.startsWith("3") && failCodes.contains("3XX"))) {
+
+                        throw new FlowableException("HTTP" + code);
+                    }
+                }
             }
         }
+    }
 
+    protected void handleException(Exception e, HttpRequest request, VariableContainer variableContainer, String executionId, List<MapExceptionEntry> mapExceptions) {
+        if (request.isIgnoreErrors()) {
+            LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
+            variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+        } else {
+            if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
+                if (e instanceof FlowableException) {
+                    throw (FlowableException) e;
+                } else {
+                    throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
+                }
+            }
+        }
     }
 
+    protected Exception wrapException(Exception e) {
+        if (e instanceof ClientProtocolException) {
+            return new FlowableException("HTTP exception occurred", e);
+        } else if (e instanceof IOException) {
+            return new FlowableException("IO exception occurred", e);
+        } else if (e instanceof URISyntaxException) {
+            return new FlowableException("Invalid URL exception occurred", e);
+        }
+        return e;
+    }
 
     // HttpRequest validation
     public void validate(final HttpRequest request) throws FlowableException {
@@ -203,68 +335,14 @@ public class HttpActivityExecutor {
                                 HttpResponseHandler httpResponseHandler,
                                 int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
 
-        HttpRequestBase request;
         CloseableHttpResponse response = null;
 
-        try {
-            if (httpRequestHandler != null) {
-                httpRequestHandler.handleHttpRequest(execution, requestInfo, client);
-            }
-        } catch (Exception e) {
-            if (e instanceof BpmnError) {
-                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                return null;
-            }
-
-            throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
+        if (!invokeRequestHandler(execution, requestInfo, httpRequestHandler, client)) {
+            return null;
         }
 
         try {
-            URI uri = ensureUrlIsEncodedAndConvertToUri(new URL(requestInfo.getUrl()));
-            switch (requestInfo.getMethod()) {
-                case "GET": {
-                    request = new HttpGet(uri);
-                    break;
-                }
-                case "POST": {
-                    HttpPost post = new HttpPost(uri);
-                    if (requestInfo.getBody() != null) {
-                        if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
-                            post.setEntity(new StringEntity(requestInfo.getBody(), requestInfo.getBodyEncoding()));
-                        } else {
-                            post.setEntity(new StringEntity(requestInfo.getBody()));
-                        }
-                    }
-                    request = post;
-                    break;
-                }
-                case "PUT": {
-                    HttpPut put = new HttpPut(uri);
-                    if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
-                        put.setEntity(new StringEntity(requestInfo.getBody(), requestInfo.getBodyEncoding()));
-                    } else {
-                        put.setEntity(new StringEntity(requestInfo.getBody()));
-                    }
-                    request = put;
-                    break;
-                }
-                case "DELETE": {
-                    request = new HttpDelete(uri);
-                    break;
-                }
-                default: {
-                    throw new FlowableException(requestInfo.getMethod() + " HTTP method not supported");
-                }
-            }
-
-            if (requestInfo.getHeaders() != null) {
-                setHeaders(request, requestInfo.getHeaders());
-            }
-
-            setConfig(request, requestInfo,
-                    socketTimeout,
-                    connectTimeout,
-                    connectionRequestTimeout);
+            HttpRequestBase request = createRequest(requestInfo, socketTimeout, connectTimeout, connectionRequestTimeout);
 
             if (requestInfo.getTimeout() > 0) {
                 timer.schedule(new TimeoutTask(request), requestInfo.getTimeout());
@@ -272,33 +350,10 @@ public class HttpActivityExecutor {
 
             response = client.execute(request);
 
-            HttpResponse responseInfo = new HttpResponse();
-
-            if (response.getStatusLine() != null) {
-                responseInfo.setStatusCode(response.getStatusLine().getStatusCode());
-                responseInfo.setProtocol(response.getStatusLine().getProtocolVersion().toString());
-                responseInfo.setReason(response.getStatusLine().getReasonPhrase());
-            }
-
-            if (response.getAllHeaders() != null) {
-                responseInfo.setHeaders(getHeadersAsString(response.getAllHeaders()));
-            }
-
-            if (response.getEntity() != null) {
-                responseInfo.setBody(EntityUtils.toString(response.getEntity()));
-            }
-
-            try {
-                if ( httpResponseHandler!= null) {
-                    httpResponseHandler.handleHttpResponse(execution, responseInfo);
-                }
-            } catch (Exception e) {
-                if (e instanceof BpmnError) {
-                    ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                    return null;
-                }
+            HttpResponse responseInfo = createResponse(response);
 
-                throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+            if (!invokeResponseHandler(execution, responseInfo, httpResponseHandler)) {
+                return null;
             }
 
             return responseInfo;
@@ -320,6 +375,117 @@ public class HttpActivityExecutor {
         }
     }
 
+    /**
+     * @return false when the request handler threw a BPMN error, which is propagated to the execution.
+     */
+    protected boolean invokeRequestHandler(VariableContainer execution, HttpRequest requestInfo, HttpRequestHandler httpRequestHandler, HttpClient client) {
+        try {
+            if (httpRequestHandler != null) {
+                httpRequestHandler.handleHttpRequest(execution, requestInfo, client);
+            }
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * @return false when the response handler threw a BPMN error, which is propagated to the execution.
+     */
+    protected boolean invokeResponseHandler(VariableContainer execution, HttpResponse responseInfo, HttpResponseHandler httpResponseHandler) {
+        try {
+            if (httpResponseHandler != null) {
+                httpResponseHandler.handleHttpResponse(execution, responseInfo);
+            }
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+        }
+        return true;
+    }
+
+    protected HttpRequestBase createRequest(HttpRequest requestInfo, int socketTimeout, int connectTimeout, int connectionRequestTimeout)
+            throws IOException, URISyntaxException {
+
+        HttpRequestBase request;
+        URI uri = ensureUrlIsEncodedAndConvertToUri(new URL(requestInfo.getUrl()));
+        switch (requestInfo.getMethod()) {
+            case "GET": {
+                request = new HttpGet(uri);
+                break;
+            }
+            case "POST": {
+                HttpPost post = new HttpPost(uri);
+                if (requestInfo.getBody() != null) {
+                    if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
+                        post.setEntity(new StringEntity(requestInfo.getBody(), requestInfo.getBodyEncoding()));
+                    } else {
+                        post.setEntity(new StringEntity(requestInfo.getBody()));
+                    }
+                }
+                request = post;
+                break;
+            }
+            case "PUT": {
+                HttpPut put = new HttpPut(uri);
+                if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
+                    put.setEntity(new StringEntity(requestInfo.getBody(), requestInfo.getBodyEncoding()));
+                } else {
+                    put.setEntity(new StringEntity(requestInfo.getBody()));
+                }
+                request = put;
+                break;
+            }
+            case "DELETE": {
+                request = new HttpDelete(uri);
+                break;
+            }
+            default: {
+                throw new FlowableException(requestInfo.getMethod() + " HTTP method not supported");
+            }
+        }
+
+        if (requestInfo.getHeaders() != null) {
+            setHeaders(request, requestInfo.getHeaders());
+        }
+
+        setConfig(request, requestInfo,
+                socketTimeout,
+                connectTimeout,
+                connectionRequestTimeout);
+
+        return request;
+    }
+
+    protected HttpResponse createResponse(org.apache.http.HttpResponse response) throws IOException {
+        HttpResponse responseInfo = new HttpResponse();
+
+        if (response.getStatusLine() != null) {
+            responseInfo.setStatusCode(response.getStatusLine().getStatusCode());
+            responseInfo.setProtocol(response.getStatusLine().getProtocolVersion().toString());
+            responseInfo.setReason(response.getStatusLine().getReasonPhrase());
+        }
+
+        if (response.getAllHeaders() != null) {
+            responseInfo.setHeaders(getHeadersAsString(response.getAllHeaders()));
+        }
+
+        if (response.getEntity() != null) {
+            responseInfo.setBody(EntityUtils.toString(response.getEntity()));
+        }
+
+        return responseInfo;
+    }
+
     protected void setConfig(final HttpRequestBase base, final HttpRequest requestInfo, int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
         base.setConfig(RequestConfig.custom()
                 .setRedirectsEnabled(!requestInfo.isNoRedirects())
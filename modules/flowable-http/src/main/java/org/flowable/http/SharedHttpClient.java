@@ -0,0 +1,232 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pooled http client that is shared by all http tasks of an engine, so connections (and TLS sessions) are reused between requests.
+ *
+ * The blocking client is created immediately. The non-blocking client, used by http tasks that are triggered by the response,
+ * is only started when such a task is executed for the first time. Its callbacks are handed over to a separate thread pool,
+ * so that the I/O threads of the client are never blocked by the (transactional) processing of a response.
+ */
+public class SharedHttpClient implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedHttpClient.class);
+
+    protected final boolean disableCertVerify;
+    protected final int requestRetryLimit;
+    protected final int maxConnections;
+    protected final int maxConnectionsPerRoute;
+    protected final long connectionKeepAliveTime;
+
+    protected final CloseableHttpClient httpClient;
+    protected CloseableHttpAsyncClient asyncHttpClient;
+    protected ExecutorService callbackExecutorService;
+    protected boolean closed;
+
+    public SharedHttpClient(boolean disableCertVerify, int requestRetryLimit, int maxConnections, int maxConnectionsPerRoute, long connectionKeepAliveTime) {
+        this.disableCertVerify = disableCertVerify;
+        this.requestRetryLimit = requestRetryLimit;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.connectionKeepAliveTime = connectionKeepAliveTime;
+        this.httpClient = createHttpClient();
+    }
+
+    protected CloseableHttpClient createHttpClient() {
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setKeepAliveStrategy(createKeepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(connectionKeepAliveTime, TimeUnit.MILLISECONDS);
+
+        // https settings
+        SSLContext sslContext = createTrustSelfSignedSslContext();
+        if (sslContext != null) {
+            httpClientBuilder.setSSLSocketFactory(new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE));
+        }
+
+        // request retry settings
+        int retryCount = 0;
+        if (requestRetryLimit > 0) {
+            retryCount = requestRetryLimit;
+        }
+        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+
+        return httpClientBuilder.build();
+    }
+
+    protected CloseableHttpAsyncClient createAsyncHttpClient() {
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClientBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setKeepAliveStrategy(createKeepAliveStrategy());
+
+        SSLContext sslContext = createTrustSelfSignedSslContext();
+        if (sslContext != null) {
+            httpAsyncClientBuilder.setSSLContext(sslContext).setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+        }
+
+        return httpAsyncClientBuilder.build();
+    }
+
+    protected SSLContext createTrustSelfSignedSslContext() {
+        if (disableCertVerify) {
+            try {
+                SSLContextBuilder builder = new SSLContextBuilder();
+                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+                return builder.build();
+
+            } catch (Exception e) {
+                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+            }
+        }
+        return null;
+    }
+
+    protected ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        return new ConnectionKeepAliveStrategy() {
+
+            @Override
+            public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                long keepAliveDuration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                if (keepAliveDuration > 0 && keepAliveDuration < connectionKeepAliveTime) {
+                    return keepAliveDuration;
+                }
+                return connectionKeepAliveTime;
+            }
+        };
+    }
+
+    /**
+     * Sends the request without blocking the calling thread. The callback is invoked by a thread of the callback thread pool.
+     */
+    public void executeAsync(HttpUriRequest request, FutureCallback<HttpResponse> callback) {
+        getOrStartAsyncHttpClient().execute(request, new ExecutorFutureCallback(callback));
+    }
+
+    protected synchronized CloseableHttpAsyncClient getOrStartAsyncHttpClient() {
+        if (closed) {
+            throw new IllegalStateException("The shared http client is closed");
+        }
+
+        if (asyncHttpClient == null) {
+            callbackExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new CallbackThreadFactory());
+            asyncHttpClient = createAsyncHttpClient();
+            asyncHttpClient.start();
+        }
+        return asyncHttpClient;
+    }
+
+    public CloseableHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        try {
+            httpClient.close();
+
+        } finally {
+            if (asyncHttpClient != null) {
+                asyncHttpClient.close();
+                callbackExecutorService.shutdown();
+            }
+        }
+    }
+
+    protected class ExecutorFutureCallback implements FutureCallback<HttpResponse> {
+
+        protected final FutureCallback<HttpResponse> callback;
+
+        public ExecutorFutureCallback(FutureCallback<HttpResponse> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void completed(final HttpResponse response) {
+            callbackExecutorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    callback.completed(response);
+                }
+            });
+        }
+
+        @Override
+        public void failed(final Exception exception) {
+            callbackExecutorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    callback.failed(exception);
+                }
+            });
+        }
+
+        @Override
+        public void cancelled() {
+            callbackExecutorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    callback.cancelled();
+                }
+            });
+        }
+    }
+
+    protected static class CallbackThreadFactory implements ThreadFactory {
+
+        protected final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "flowable-http-callback-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -20,17 +20,12 @@ import static org.flowable.http.ExpressionUtils.getStringFromField;
 import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.concurrent.FutureCallback;
 import org.flowable.bpmn.model.FieldExtension;
 import org.flowable.bpmn.model.FlowableHttpRequestHandler;
 import org.flowable.bpmn.model.FlowableHttpResponseHandler;
@@ -39,16 +34,25 @@ import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.cfg.HttpClientConfig;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
+import org.flowable.http.HttpResponse;
+import org.flowable.http.SharedHttpClient;
 import org.flowable.http.bpmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.bpmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
@@ -66,6 +70,11 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
 
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
+    // Local variables used to pass the outcome of a non-blocking request to the triggered execution
+    public static final String HTTP_TASK_TRIGGER_REQUEST_VARIABLE = "_flowableHttpTaskRequest";
+    public static final String HTTP_TASK_TRIGGER_RESPONSE_VARIABLE = "_flowableHttpTaskResponse";
+    public static final String HTTP_TASK_TRIGGER_EXCEPTION_VARIABLE = "_flowableHttpTaskException";
+
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpActivityBehaviorImpl.class);
 
@@ -108,36 +117,19 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     protected HttpActivityExecutor httpActivityExecutor;
 
     public HttpActivityBehaviorImpl() {
-        HttpClientConfig config = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
-
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
-            }
-        }
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        final HttpClientConfig config = processEngineConfiguration.getHttpClientConfig();
+        SharedHttpClient sharedHttpClient = (SharedHttpClient) config.getOrCreateHttpClient(new Supplier<SharedHttpClient>() {
 
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+            @Override
+            public SharedHttpClient get() {
+                return new SharedHttpClient(config.isDisableCertVerify(), config.getRequestRetryLimit(),
+                        config.getMaxConnections(), config.getMaxConnectionsPerRoute(), config.getConnectionKeepAliveTime());
+            }
+        });
 
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new ProcessErrorPropagator(), 
-                CommandContextUtil.getProcessEngineConfiguration().getObjectMapper());
+        this.httpActivityExecutor = new HttpActivityExecutor(sharedHttpClient, new ProcessErrorPropagator(),
+                processEngineConfiguration.getObjectMapper());
     }
 
     @Override
@@ -203,6 +195,25 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         HttpClientConfig httpClientConfig = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
 
+        if (httpServiceTask.isTriggerable()) {
+            // the execution waits in the http task until it is triggered with the response
+            boolean requestSent = httpActivityExecutor.executeAsync(
+                    request,
+                    execution,
+                    execution.getId(),
+                    createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
+                    mapExceptions,
+                    httpClientConfig.getSocketTimeout(),
+                    httpClientConfig.getConnectTimeout(),
+                    httpClientConfig.getConnectionRequestTimeout(),
+                    new TriggerExecutionCallback(processEngineConfiguration.getCommandExecutor(), execution.getId(), request));
+
+            if (!requestSent) {
+                leave(execution);
+            }
+            return;
+        }
+
         httpActivityExecutor.execute(
                 request,
                 execution,
@@ -218,6 +229,29 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
         leave(execution);
     }
 
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        HttpRequest request = (HttpRequest) execution.getVariableLocal(HTTP_TASK_TRIGGER_REQUEST_VARIABLE);
+        if (request != null) {
+            HttpResponse response = (HttpResponse) execution.getVariableLocal(HTTP_TASK_TRIGGER_RESPONSE_VARIABLE);
+            Exception exception = (Exception) execution.getVariableLocal(HTTP_TASK_TRIGGER_EXCEPTION_VARIABLE);
+            execution.removeVariablesLocal(Arrays.asList(HTTP_TASK_TRIGGER_REQUEST_VARIABLE, HTTP_TASK_TRIGGER_RESPONSE_VARIABLE, HTTP_TASK_TRIGGER_EXCEPTION_VARIABLE));
+
+            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+            httpActivityExecutor.handleAsyncResult(
+                    request,
+                    response,
+                    exception,
+                    execution,
+                    execution.getId(),
+                    createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
+                    getStringFromField(responseVariableName, execution),
+                    mapExceptions);
+        }
+
+        leave(execution);
+    }
+
     protected HttpRequestHandler createHttpRequestHandler(FlowableHttpRequestHandler handler, ProcessEngineConfigurationImpl processEngineConfiguration) {
         HttpRequestHandler requestHandler = null;
 
@@ -272,4 +306,92 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
         this.httpServiceTask = (HttpServiceTask) serviceTask;
     }
 
+    /**
+     * Hands the outcome of a non-blocking request over to the job executor: the outcome is stored in local variables of the waiting execution
+     * and an async trigger job is created for it, so the callback thread only needs a short transaction. The response is processed when
+     * the job triggers the execution. When that fails, the job is retried and ends up as a dead letter job with the exception,
+     * as for any other failing async job.
+     */
+    protected static class TriggerExecutionCallback implements FutureCallback<HttpResponse> {
+
+        protected static final int MAX_SCHEDULE_ATTEMPTS = 3;
+
+        protected final CommandExecutor commandExecutor;
+        protected final String executionId;
+        protected final HttpRequest request;
+
+        public TriggerExecutionCallback(CommandExecutor commandExecutor, String executionId, HttpRequest request) {
+            this.commandExecutor = commandExecutor;
+            this.executionId = executionId;
+            this.request = request;
+        }
+
+        @Override
+        public void completed(HttpResponse response) {
+            scheduleTrigger(response, null);
+        }
+
+        @Override
+        public void failed(Exception exception) {
+            scheduleTrigger(null, exception);
+        }
+
+        @Override
+        public void cancelled() {
+            scheduleTrigger(null, new FlowableException("HTTP request was cancelled"));
+        }
+
+        protected void scheduleTrigger(HttpResponse response, Exception exception) {
+            for (int attempt = 1; attempt <= MAX_SCHEDULE_ATTEMPTS; attempt++) {
+                try {
+                    commandExecutor.execute(new ScheduleTriggerCmd(executionId, request, response, exception));
+                    return;
+
+                } catch (FlowableOptimisticLockingException e) {
+                    LOGGER.debug("Optimistic locking exception while scheduling the trigger of execution {}, attempt {}", executionId, attempt, e);
+
+                } catch (Exception e) {
+                    // e.g. the execution was deleted in the meantime or the engine is closing
+                    LOGGER.error("Could not schedule the trigger of execution {} with the response of the http task", executionId, e);
+                    return;
+                }
+            }
+            LOGGER.error("Could not schedule the trigger of execution {} with the response of the http task after {} attempts", executionId, MAX_SCHEDULE_ATTEMPTS);
+        }
+    }
+
+    protected static class ScheduleTriggerCmd implements Command<Void> {
+
+        protected final String executionId;
+        protected final HttpRequest request;
+        protected final HttpResponse response;
+        protected final Exception exception;
+
+        public ScheduleTriggerCmd(String executionId, HttpRequest request, HttpResponse response, Exception exception) {
+            this.executionId = executionId;
+            this.request = request;
+            this.response = response;
+            this.exception = exception;
+        }
+
+        @Override
+        public Void execute(CommandContext commandContext) {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
+            if (execution == null) {
+                throw new FlowableObjectNotFoundException("Cannot find execution " + executionId, Execution.class);
+            }
+
+            execution.setVariableLocal(HTTP_TASK_TRIGGER_REQUEST_VARIABLE, request);
+            if (response != null) {
+                execution.setVariableLocal(HTTP_TASK_TRIGGER_RESPONSE_VARIABLE, response);
+            }
+            if (exception != null) {
+                execution.setVariableLocal(HTTP_TASK_TRIGGER_EXCEPTION_VARIABLE, exception);
+            }
+
+            CommandContextUtil.getAgenda(commandContext).planAsyncTriggerExecutionOperation(execution);
+            return null;
+        }
+    }
+
 }
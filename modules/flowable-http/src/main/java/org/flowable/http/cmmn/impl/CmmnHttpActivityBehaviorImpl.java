@@ -18,16 +18,9 @@ import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 import static org.flowable.http.HttpActivityExecutor.HTTP_TASK_REQUEST_FIELD_INVALID;
 
 import java.util.Collections;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.HttpClientConfig;
@@ -45,12 +38,11 @@ import org.flowable.http.ExpressionUtils;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
 import org.flowable.http.NopErrorPropagator;
+import org.flowable.http.SharedHttpClient;
 import org.flowable.http.cmmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.cmmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * This class provides http task for cmmn models
@@ -59,8 +51,6 @@ import org.slf4j.LoggerFactory;
  */
 public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHttpActivityBehaviorImpl.class);
-
     // HttpRequest method (GET,POST,PUT etc)
     protected String requestMethod;
     // HttpRequest URL (http://flowable.org)
@@ -98,39 +88,21 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
     protected HttpActivityExecutor httpActivityExecutor;
 
     public CmmnHttpActivityBehaviorImpl() {
-        org.flowable.cmmn.engine.HttpClientConfig config = CommandContextUtil.getCmmnEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        final HttpClientConfig config = cmmnEngineConfiguration.getHttpClientConfig();
+        SharedHttpClient sharedHttpClient = (SharedHttpClient) config.getOrCreateHttpClient(new Supplier<SharedHttpClient>() {
 
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+            @Override
+            public SharedHttpClient get() {
+                return new SharedHttpClient(config.isDisableCertVerify(), config.getRequestRetryLimit(),
+                        config.getMaxConnections(), config.getMaxConnectionsPerRoute(), config.getConnectionKeepAliveTime());
             }
-        }
-
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+        });
 
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new NopErrorPropagator(), 
-                CommandContextUtil.getCmmnEngineConfiguration().getObjectMapper());
+        this.httpActivityExecutor = new HttpActivityExecutor(sharedHttpClient, new NopErrorPropagator(),
+                cmmnEngineConfiguration.getObjectMapper());
     }
 
-
     @Override
     public void execute(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         HttpRequest request = new HttpRequest();
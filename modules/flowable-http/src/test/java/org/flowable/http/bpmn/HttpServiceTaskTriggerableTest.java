@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.bpmn;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.test.Deployment;
+import org.flowable.http.bpmn.impl.HttpActivityBehaviorImpl;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for http tasks with flowable:triggerable="true", which wait for the response without blocking the calling thread.
+ */
+public class HttpServiceTaskTriggerableTest extends HttpServiceTaskTestCase {
+
+    @Test
+    @Deployment
+    public void testTriggerableGet() {
+        String procId = runtimeService.startProcessInstanceByKey("triggerableGet").getId();
+
+        Job job = waitForTriggerJob(procId);
+        assertTrue(runtimeService.hasVariableLocal(job.getExecutionId(), HttpActivityBehaviorImpl.HTTP_TASK_TRIGGER_RESPONSE_VARIABLE));
+        managementService.executeJob(job.getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(procId).singleResult();
+        assertEquals("afterHttpGet", task.getTaskDefinitionKey());
+
+        String variableValue = runtimeService.getVariable(procId, "test").toString();
+        assertTrue(variableValue.contains("firstName") && variableValue.contains("John"));
+
+        // the outcome of the request is removed once the execution has been triggered
+        assertFalse(runtimeService.hasVariable(procId, HttpActivityBehaviorImpl.HTTP_TASK_TRIGGER_REQUEST_VARIABLE));
+        assertFalse(runtimeService.hasVariable(procId, HttpActivityBehaviorImpl.HTTP_TASK_TRIGGER_RESPONSE_VARIABLE));
+
+        taskService.complete(task.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testTriggerableIgnoreException() {
+        String procId = runtimeService.startProcessInstanceByKey("triggerableIgnoreException").getId();
+
+        managementService.executeJob(waitForTriggerJob(procId).getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(procId).singleResult();
+        assertEquals("afterIgnoreTask", task.getTaskDefinitionKey());
+        assertNotNull(runtimeService.getVariable(procId, "ignoreTaskErrorMessage"));
+
+        taskService.complete(task.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testTriggerableFailStatusCode() {
+        String procId = runtimeService.startProcessInstanceByKey("triggerableFailStatusCode").getId();
+
+        Job job = waitForTriggerJob(procId);
+        try {
+            managementService.executeJob(job.getId());
+            fail("FlowableException expected");
+        } catch (FlowableException e) {
+            assertEquals("HTTP404", e.getMessage());
+        }
+
+        // the failing trigger is retried like any other async job
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(procId).singleResult();
+        assertNotNull(timerJob);
+        assertEquals(2, timerJob.getRetries());
+        assertEquals("HTTP404", timerJob.getExceptionMessage());
+
+        while (timerJob != null) {
+            Job retryJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+            try {
+                managementService.executeJob(retryJob.getId());
+                fail("FlowableException expected");
+            } catch (FlowableException e) {
+                assertEquals("HTTP404", e.getMessage());
+            }
+            timerJob = managementService.createTimerJobQuery().processInstanceId(procId).singleResult();
+        }
+
+        Job deadLetterJob = managementService.createDeadLetterJobQuery().processInstanceId(procId).singleResult();
+        assertNotNull(deadLetterJob);
+        assertEquals("HTTP404", deadLetterJob.getExceptionMessage());
+        assertEquals(0, taskService.createTaskQuery().processInstanceId(procId).count());
+    }
+
+    protected Job waitForTriggerJob(String processInstanceId) {
+        long maxWaitTime = System.currentTimeMillis() + 10000L;
+        while (System.currentTimeMillis() < maxWaitTime) {
+            Job job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+            if (job != null) {
+                return job;
+            }
+
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        fail("No trigger job was created for the response of the http task within 10 seconds");
+        return null;
+    }
+
+}
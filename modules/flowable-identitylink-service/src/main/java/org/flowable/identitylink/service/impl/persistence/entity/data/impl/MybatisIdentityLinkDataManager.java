@@ -62,7 +62,8 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+        // If all identity links of the process instance have been fetched before (e.g. when prefetching it), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId) || isFetchedScope(IdentityLinkEntity.class, "processInstance", processInstanceId)) {
             return getListFromCache(identityLinkByProcessInstanceMatcher, processInstanceId);
         }
         
@@ -0,0 +1 @@
+update ACT_ID_PROPERTY set VALUE_ = '6.4.1.4' where NAME_ = 'schema.version';
@@ -30,7 +30,9 @@ import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExcepti
 import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
@@ -111,6 +113,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
     
     protected String jobExecutionScope;
+    protected JobShardManager jobShardManager;
     protected Map<String, JobHandler> jobHandlers;
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
@@ -130,6 +133,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
 
     // init
     // /////////////////////////////////////////////////////////////////////
@@ -421,6 +425,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.jobExecutionScope = jobExecutionScope;
         return this;
     }
+
+    public JobShardManager getJobShardManager() {
+        return jobShardManager;
+    }
+
+    public JobServiceConfiguration setJobShardManager(JobShardManager jobShardManager) {
+        this.jobShardManager = jobShardManager;
+        return this;
+    }
     
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
@@ -619,6 +632,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncHistoryJsonGzipCompressionEnabled = asyncHistoryJsonGzipCompressionEnabled;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public void setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return asyncHistoryJsonGroupingEnabled;
     }
@@ -55,6 +55,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
 
+    // Adaptive acquisition: the async job batch size starts at maxAsyncJobsDuePerAcquisition and can grow up to adaptiveAsyncJobAcquisitionMaxBatchSize,
+    // the wait time between acquisitions varies between adaptiveAsyncJobAcquisitionMinWaitTimeInMillis and defaultAsyncJobAcquireWaitTimeInMillis
+    protected boolean isAdaptiveAsyncJobAcquisition;
+    protected int adaptiveAsyncJobAcquisitionMaxBatchSize = 64;
+    protected int adaptiveAsyncJobAcquisitionMinWaitTimeInMillis = 100;
+
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncJobLockTimeInMillis = 5 * 60 * 1000;
@@ -114,6 +120,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         LOGGER.info("Starting up the async job executor [{}].", getClass().getName());
 
         initializeJobEntityManager();
+        registerJobShardNode();
         initializeRunnables();
         startAdditionalComponents();
         executeTemporaryJobs();
@@ -125,6 +132,27 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
     }
 
+    protected void registerJobShardNode() {
+        JobShardManager jobShardManager = getJobShardManager();
+        if (jobShardManager != null) {
+            jobShardManager.register(lockOwner, jobServiceConfiguration.getJobExecutionScope(), jobServiceConfiguration.getCommandExecutor());
+        }
+    }
+
+    protected void unregisterJobShardNode() {
+        JobShardManager jobShardManager = getJobShardManager();
+        if (jobShardManager != null) {
+            jobShardManager.unregister();
+        }
+    }
+
+    /**
+     * @return the {@link JobShardManager} that determines which jobs this executor acquires, or null when job sharding is not enabled.
+     */
+    protected JobShardManager getJobShardManager() {
+        return jobServiceConfiguration.getJobShardManager();
+    }
+
     protected void initializeRunnables() {
         if (timerRunnableNeeded && timerJobRunnable == null) {
             timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager());
@@ -140,10 +168,18 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-async-jobs";
-            asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
+            asyncJobsDueRunnable = createAsyncJobsDueRunnable(acquireJobsRunnableName, jobEntityManagerToUse);
+            if (isAdaptiveAsyncJobAcquisition) {
+                asyncJobsDueRunnable.setAdaptiveAcquisition(new AdaptiveAsyncJobAcquisition(maxAsyncJobsDuePerAcquisition,
+                        adaptiveAsyncJobAcquisitionMaxBatchSize, adaptiveAsyncJobAcquisitionMinWaitTimeInMillis, defaultAsyncJobAcquireWaitTimeInMillis));
+            }
         }
     }
 
+    protected AcquireAsyncJobsDueRunnable createAsyncJobsDueRunnable(String acquireJobsRunnableName, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        return new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManager);
+    }
+
     protected abstract void startAdditionalComponents();
 
     protected void executeTemporaryJobs() {
@@ -163,6 +199,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
         stopRunnables();
         shutdownAdditionalComponents();
+        unregisterJobShardNode();
 
         isActive = false;
     }
@@ -220,6 +257,30 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.isMessageQueueMode = isMessageQueueMode;
     }
 
+    public boolean isAdaptiveAsyncJobAcquisition() {
+        return isAdaptiveAsyncJobAcquisition;
+    }
+
+    public void setAdaptiveAsyncJobAcquisition(boolean isAdaptiveAsyncJobAcquisition) {
+        this.isAdaptiveAsyncJobAcquisition = isAdaptiveAsyncJobAcquisition;
+    }
+
+    public int getAdaptiveAsyncJobAcquisitionMaxBatchSize() {
+        return adaptiveAsyncJobAcquisitionMaxBatchSize;
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionMaxBatchSize(int adaptiveAsyncJobAcquisitionMaxBatchSize) {
+        this.adaptiveAsyncJobAcquisitionMaxBatchSize = adaptiveAsyncJobAcquisitionMaxBatchSize;
+    }
+
+    public int getAdaptiveAsyncJobAcquisitionMinWaitTimeInMillis() {
+        return adaptiveAsyncJobAcquisitionMinWaitTimeInMillis;
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionMinWaitTimeInMillis(int adaptiveAsyncJobAcquisitionMinWaitTimeInMillis) {
+        this.adaptiveAsyncJobAcquisitionMinWaitTimeInMillis = adaptiveAsyncJobAcquisitionMinWaitTimeInMillis;
+    }
+
     @Override
     public String getLockOwner() {
         return lockOwner;
@@ -315,6 +376,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.acquireRunnableThreadName = acquireRunnableThreadName;
     }
 
+    public JobInfoEntityManager<? extends JobInfoEntity> getJobEntityManager() {
+        return jobEntityManager;
+    }
+
     public void setJobEntityManager(JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.jobEntityManager = jobEntityManager;
     }
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs and hands them over to the {@link DefaultAsyncHistoryJobExecutor} in batches of
+ * {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()} jobs, which are each executed in one transaction.
+ */
+public class AcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobsDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncHistoryExecutor, jobEntityManager);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        int batchSize = asyncHistoryExecutor.getHistoryJobBatchSize();
+        if (batchSize <= 1) {
+            return super.offerJobs(acquiredJobs);
+        }
+
+        // The acquired jobs are ordered by creation time, which is kept within a batch
+        List<JobInfoEntity> jobs = new ArrayList<>(acquiredJobs.getJobs());
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(jobs.subList(i, Math.min(jobs.size(), i + batchSize)));
+            if (!asyncHistoryExecutor.executeAsyncHistoryJobs(batch)) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+}
@@ -35,6 +35,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected String name;
     protected final AsyncExecutor asyncExecutor;
     protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AdaptiveAsyncJobAcquisition adaptiveAcquisition;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -57,6 +58,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         while (!isInterrupted) {
             final long millisToWait;
 
+            heartbeatJobShardManager();
+
             int remainingCapacity = asyncExecutor.getRemainingCapacity();
             if (remainingCapacity > 0) {
                 millisToWait = acquireAndExecuteJobs(commandExecutor, remainingCapacity);
@@ -81,7 +84,15 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            AcquireJobsCmd acquireJobsCmd;
+            int batchSize = 0;
+            if (adaptiveAcquisition != null) {
+                batchSize = adaptiveAcquisition.getBatchSize(remainingCapacity);
+                acquireJobsCmd = new AcquireJobsCmd(asyncExecutor, remainingCapacity, batchSize, jobEntityManager);
+            } else {
+                acquireJobsCmd = new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager);
+            }
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(acquireJobsCmd);
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
@@ -90,6 +101,9 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
+            if (adaptiveAcquisition != null) {
+                return adaptiveAcquisition.jobsAcquired(batchSize, acquiredJobs.size());
+            }
             if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
                 // the maximum amount of jobs were acquired, so we can expect more.
                 return 0L;
@@ -103,6 +117,9 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                         + "You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. " + "Exception message: {}",
                         optimisticLockingException.getMessage());
             }
+            if (adaptiveAcquisition != null) {
+                return adaptiveAcquisition.optimisticLockingCollision();
+            }
         } catch (Throwable e) {
             LOGGER.error("exception during async job acquisition: {}", e.getMessage(), e);
         }
@@ -121,6 +138,25 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    public AdaptiveAsyncJobAcquisition getAdaptiveAcquisition() {
+        return adaptiveAcquisition;
+    }
+
+    /**
+     * When set, the batch size and the wait time between acquisitions are calculated by the given {@link AdaptiveAsyncJobAcquisition}
+     * instead of using the fixed values of the async executor.
+     */
+    public void setAdaptiveAcquisition(AdaptiveAsyncJobAcquisition adaptiveAcquisition) {
+        this.adaptiveAcquisition = adaptiveAcquisition;
+    }
+
+    protected void heartbeatJobShardManager() {
+        JobShardManager jobShardManager = asyncExecutor.getJobServiceConfiguration().getJobShardManager();
+        if (jobShardManager != null) {
+            jobShardManager.heartbeatIfDue();
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
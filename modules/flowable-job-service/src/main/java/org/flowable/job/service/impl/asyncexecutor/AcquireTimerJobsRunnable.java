@@ -54,6 +54,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         while (!isInterrupted) {
 
+            heartbeatJobShardManager();
+
             try {
                 final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
@@ -116,6 +118,13 @@ public class AcquireTimerJobsRunnable implements Runnable {
         LOGGER.info("stopped async job due acquisition");
     }
 
+    protected void heartbeatJobShardManager() {
+        JobShardManager jobShardManager = asyncExecutor.getJobServiceConfiguration().getJobShardManager();
+        if (jobShardManager != null) {
+            jobShardManager.heartbeatIfDue();
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -13,7 +13,7 @@
 package org.flowable.job.service.impl.asyncexecutor;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
@@ -23,7 +23,7 @@ import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
  */
 public class AcquiredJobEntities {
 
-    protected Map<String, JobInfoEntity> acquiredJobs = new HashMap<>();
+    protected Map<String, JobInfoEntity> acquiredJobs = new LinkedHashMap<>();
 
     public void addJob(JobInfoEntity job) {
         acquiredJobs.put(job.getId(), job);
@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Calculates the number of async jobs to acquire and the time to wait between two acquisitions,
+ * based on the outcome of the previous acquisitions, instead of using fixed values.
+ *
+ * <ul>
+ * <li>When a full batch of jobs is acquired (and accepted by the executor), the batch size is doubled (up to the maximum batch size)
+ * and the next acquisition happens immediately.</li>
+ * <li>When the acquisition fails with an optimistic locking exception, another node acquired (some of) the same jobs.
+ * The batch size is halved and the next acquisition is done after a short, random, wait time, so that the competing nodes get out of sync.</li>
+ * <li>Otherwise, the wait time is the expected time until the next job arrives, based on a moving average of the observed job arrival rate,
+ * bounded by the minimum and maximum wait time. When no jobs are found, the average decays and the wait time grows towards the maximum.</li>
+ * </ul>
+ *
+ * An instance is used by one acquisition thread only and is not thread-safe.
+ */
+public class AdaptiveAsyncJobAcquisition {
+
+    protected int minBatchSize = 1;
+    protected int maxBatchSize;
+    protected long minWaitTimeInMillis;
+    protected long maxWaitTimeInMillis;
+
+    /**
+     * The weight of the latest observation when calculating the moving average of the job arrival rate.
+     */
+    protected double arrivalRateSmoothingFactor = 0.3;
+
+    protected int batchSize;
+    protected double jobArrivalRatePerMillis;
+    protected long lastAcquisitionTime = -1L;
+
+    public AdaptiveAsyncJobAcquisition(int initialBatchSize, int maxBatchSize, long minWaitTimeInMillis, long maxWaitTimeInMillis) {
+        this.maxBatchSize = Math.max(minBatchSize, maxBatchSize);
+        this.batchSize = Math.min(this.maxBatchSize, Math.max(minBatchSize, initialBatchSize));
+        this.minWaitTimeInMillis = Math.max(0L, minWaitTimeInMillis);
+        this.maxWaitTimeInMillis = Math.max(this.minWaitTimeInMillis, maxWaitTimeInMillis);
+    }
+
+    /**
+     * @return the number of jobs that should be acquired, given the remaining capacity of the executor.
+     */
+    public int getBatchSize(int remainingCapacity) {
+        return Math.max(1, Math.min(batchSize, remainingCapacity));
+    }
+
+    /**
+     * To be called after a successful acquisition of which all jobs were accepted by the executor.
+     *
+     * @return the time to wait before the next acquisition
+     */
+    public long jobsAcquired(int requestedJobCount, int acquiredJobCount) {
+        updateJobArrivalRate(acquiredJobCount, currentTimeMillis());
+
+        if (acquiredJobCount > 0 && acquiredJobCount >= requestedJobCount) {
+            // A full batch means that more jobs are probably waiting, acquire a bigger batch immediately
+            if (requestedJobCount >= batchSize) {
+                batchSize = Math.min(maxBatchSize, batchSize * 2);
+            }
+            return 0L;
+        }
+
+        return calculateWaitTime();
+    }
+
+    /**
+     * To be called when the acquisition failed because another node acquired the same jobs.
+     *
+     * @return the time to wait before the next acquisition
+     */
+    public long optimisticLockingCollision() {
+        batchSize = Math.max(minBatchSize, batchSize / 2);
+
+        // A random wait time, so the nodes that collided don't try to acquire the same jobs at the same time again
+        return minWaitTimeInMillis + ThreadLocalRandom.current().nextLong(minWaitTimeInMillis + 1);
+    }
+
+    protected void updateJobArrivalRate(int acquiredJobCount, long now) {
+        if (lastAcquisitionTime >= 0L) {
+            long elapsedTime = Math.max(1L, now - lastAcquisitionTime);
+            double observedRate = (double) acquiredJobCount / elapsedTime;
+            jobArrivalRatePerMillis = arrivalRateSmoothingFactor * observedRate + (1 - arrivalRateSmoothingFactor) * jobArrivalRatePerMillis;
+        }
+        lastAcquisitionTime = now;
+    }
+
+    protected long calculateWaitTime() {
+        if (jobArrivalRatePerMillis <= 0) {
+            return maxWaitTimeInMillis;
+        }
+
+        double expectedTimeUntilNextJob = 1 / jobArrivalRatePerMillis;
+        return Math.max(minWaitTimeInMillis, Math.min(maxWaitTimeInMillis, (long) expectedTimeUntilNextJob));
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getMinWaitTimeInMillis() {
+        return minWaitTimeInMillis;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    /**
+     * @return the moving average of the number of jobs found per second.
+     */
+    public double getJobArrivalRatePerSecond() {
+        return jobArrivalRatePerMillis * 1000;
+    }
+
+    public double getArrivalRateSmoothingFactor() {
+        return arrivalRateSmoothingFactor;
+    }
+
+    public void setArrivalRateSmoothingFactor(double arrivalRateSmoothingFactor) {
+        this.arrivalRateSmoothingFactor = arrivalRateSmoothingFactor;
+    }
+
+}
@@ -12,7 +12,20 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
+
+    /**
+     * The number of history jobs that are executed in one transaction. The historic entities of all these jobs are inserted
+     * with multi-row bulk inserts, which reduces the transaction overhead per job when there's a history backlog.
+     * When 1 (the default), every history job is executed in its own transaction.
+     */
+    protected int historyJobBatchSize = 1;
     
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
@@ -29,4 +42,52 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected AcquireAsyncJobsDueRunnable createAsyncJobsDueRunnable(String acquireJobsRunnableName, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        return new AcquireAsyncHistoryJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManager);
+    }
+
+    /**
+     * Executes the given history jobs in one transaction.
+     *
+     * @return false when the jobs were rejected because the job queue is full, in which case they have been unacquired
+     */
+    public boolean executeAsyncHistoryJobs(List<? extends JobInfo> jobs) {
+        if (jobs.size() == 1 || isMessageQueueMode || !isActive) {
+            boolean allJobsOffered = true;
+            for (JobInfo job : jobs) {
+                allJobsOffered &= executeAsyncJob(job);
+            }
+            return allJobsOffered;
+        }
+
+        if (executeRunnable(new ExecuteAsyncHistoryJobsRunnable(jobs, this))) {
+            return true;
+        }
+
+        for (JobInfo job : jobs) {
+            unacquireJobAfterRejection(job);
+        }
+        return false;
+    }
+
+    @Override
+    public int getMaxAsyncJobsDuePerAcquisition() {
+        // Acquire at least enough jobs to fill a batch
+        return Math.max(super.getMaxAsyncJobsDuePerAcquisition(), historyJobBatchSize);
+    }
+
+    @Override
+    protected JobShardManager getJobShardManager() {
+        return null; // history jobs are not sharded
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
@@ -12,10 +12,13 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -101,15 +104,70 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, every job is executed on a new virtual thread (or on a new platform thread, when the JVM doesn't support virtual threads)
+     * instead of on the thread pool. The thread pool and queue settings are not used in this mode.
+     * Instead, the number of jobs that are executed at the same time is limited by {@link #virtualThreadMaxConcurrentJobs}.
+     */
+    protected boolean isVirtualThreadMode;
+
+    /**
+     * The maximum number of jobs that are executed at the same time in virtual thread mode.
+     * Every job execution needs a database connection, so this should not exceed the size of the connection pool.
+     * When 0 (the default), the max pool size is used.
+     */
+    protected int virtualThreadMaxConcurrentJobs;
+
+    /** The permits for executing a job in virtual thread mode */
+    protected Semaphore virtualThreadJobPermits;
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        if (executeRunnable(runnable)) {
+            return true;
+        }
+
+        unacquireJobAfterRejection(job);
+
+        // Job queue full (or max number of concurrent jobs reached), returning false so (if wanted) the acquiring can be throttled
+        return false;
+    }
+
+    /**
+     * Hands the runnable over to the thread pool, or to a new virtual thread in virtual thread mode.
+     *
+     * @return false when the runnable was rejected, as the job queue is full or the max number of concurrent jobs is reached
+     */
+    protected boolean executeRunnable(final Runnable runnable) {
+        if (isVirtualThreadMode) {
+            return executeRunnableOnVirtualThread(runnable);
+        }
+
         try {
             executorService.execute(runnable);
             return true;
         } catch (RejectedExecutionException e) {
-            unacquireJobAfterRejection(job);
+            return false;
+        }
+    }
 
-            // Job queue full, returning false so (if wanted) the acquiring can be throttled
+    protected boolean executeRunnableOnVirtualThread(final Runnable runnable) {
+        if (!virtualThreadJobPermits.tryAcquire()) {
+            return false;
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    virtualThreadJobPermits.release();
+                }
+            });
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            virtualThreadJobPermits.release();
             return false;
         }
     }
@@ -166,6 +224,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     }
 
     protected void initAsyncJobExecutionThreadPool() {
+        if (isVirtualThreadMode) {
+            initVirtualThreadJobExecution();
+            return;
+        }
+
         if (threadPoolQueue == null) {
             LOGGER.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
@@ -179,6 +242,34 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void initVirtualThreadJobExecution() {
+        int maxConcurrentJobs = virtualThreadMaxConcurrentJobs;
+        if (maxConcurrentJobs <= 0) {
+            maxConcurrentJobs = maxPoolSize;
+            LOGGER.warn("No maximum number of concurrently executed jobs set for virtual thread mode, using the max pool size {}. "
+                    + "Set it to (at most) the size of the database connection pool.", maxPoolSize);
+        }
+        virtualThreadJobPermits = new Semaphore(maxConcurrentJobs);
+
+        if (executorService == null) {
+            LOGGER.info("Creating virtual thread executor service with a maximum of {} concurrently executed jobs", maxConcurrentJobs);
+            executorService = createVirtualThreadExecutorService();
+        }
+    }
+
+    protected ExecutorService createVirtualThreadExecutorService() {
+        try {
+            // Looked up reflectively, as Executors.newVirtualThreadPerTaskExecutor() only exists as of Java 21
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not supported by this JVM, every job will be executed on a new (or idle) platform thread instead");
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -317,7 +408,9 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     public int getRemainingCapacity() {
-        if (threadPoolQueue != null) {
+        if (virtualThreadJobPermits != null && isVirtualThreadMode) {
+            return virtualThreadJobPermits.availablePermits();
+        } else if (threadPoolQueue != null) {
             return threadPoolQueue.remainingCapacity();
         } else {
             // return plenty of remaining capacity if there's no thread pool queue
@@ -392,5 +485,21 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
+
+    public boolean isVirtualThreadMode() {
+        return isVirtualThreadMode;
+    }
+
+    public void setVirtualThreadMode(boolean isVirtualThreadMode) {
+        this.isVirtualThreadMode = isVirtualThreadMode;
+    }
+
+    public int getVirtualThreadMaxConcurrentJobs() {
+        return virtualThreadMaxConcurrentJobs;
+    }
+
+    public void setVirtualThreadMaxConcurrentJobs(int virtualThreadMaxConcurrentJobs) {
+        this.virtualThreadMaxConcurrentJobs = virtualThreadMaxConcurrentJobs;
+    }
     
 }
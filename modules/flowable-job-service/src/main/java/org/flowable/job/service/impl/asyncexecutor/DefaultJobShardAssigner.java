@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+
+/**
+ * Exclusive jobs of the same process or case instance are put in the same shard, as only one of them can be executed at a time anyway:
+ * this way they are acquired by the same node instead of colliding on the exclusive lock of the instance.
+ * All other jobs are spread randomly over the shards.
+ */
+public class DefaultJobShardAssigner implements JobShardAssigner {
+
+    @Override
+    public int assignShard(AbstractRuntimeJobEntity job, int shardCount) {
+        if (job.isExclusive()) {
+            String instanceId = job.getProcessInstanceId() != null ? job.getProcessInstanceId() : job.getScopeId();
+            if (instanceId != null) {
+                return Math.floorMod(instanceId.hashCode(), shardCount);
+            }
+        }
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+
+}
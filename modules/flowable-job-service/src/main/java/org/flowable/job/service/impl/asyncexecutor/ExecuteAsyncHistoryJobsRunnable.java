@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncJobCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction, so that the historic entities created or updated by all the jobs
+ * are flushed together (using bulk inserts and, when enabled, JDBC batched updates and deletes).
+ *
+ * When the transaction fails (e.g. because one of the jobs isn't applicable yet), the jobs are executed one by one,
+ * in separate transactions, so that only the failing job is unacquired or retried.
+ */
+public class ExecuteAsyncHistoryJobsRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobsRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public ExecuteAsyncHistoryJobsRunnable(List<? extends JobInfo> jobs, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor) {
+        this.jobs = jobs;
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    public void run() {
+        try {
+            asyncHistoryExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new Command<Void>() {
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (JobInfo job : jobs) {
+                        new ExecuteAsyncJobCmd(job.getId(), asyncHistoryExecutor.getJobEntityManager()).execute(commandContext);
+                    }
+                    return null;
+                }
+            });
+
+        } catch (Throwable exception) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Could not execute {} history jobs in one transaction, executing them one by one. Caught exception: {}", jobs.size(), exception.getMessage());
+            }
+            executeJobsOneByOne();
+        }
+    }
+
+    protected void executeJobsOneByOne() {
+        for (JobInfo job : jobs) {
+            try {
+                asyncHistoryExecutor.createRunnableForJob(job).run();
+            } catch (Throwable exception) {
+                LOGGER.error("Error while executing history job {}", job.getId(), exception);
+            }
+        }
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+
+}
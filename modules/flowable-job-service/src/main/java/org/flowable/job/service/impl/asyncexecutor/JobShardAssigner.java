@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+
+/**
+ * Determines the shard of a new job when job sharding is enabled (see {@link JobShardManager}).
+ */
+public interface JobShardAssigner {
+
+    /**
+     * @return a shard between 0 (inclusive) and the given shard count (exclusive)
+     */
+    int assignShard(AbstractRuntimeJobEntity job, int shardCount);
+
+}
@@ -0,0 +1,208 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.cmd.DeleteJobShardNodeCmd;
+import org.flowable.job.service.impl.cmd.JobShardNodeHeartbeatCmd;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Partitions the acquisition of async and timer jobs over the nodes of a cluster, so that the acquisition threads of
+ * different nodes don't compete for the same rows in the job tables.
+ *
+ * Every new job gets a shard number (between 0 and the shard count), determined by the {@link JobShardAssigner}.
+ * The shards are divided between the nodes that are alive: each node periodically registers a heartbeat (stored in ACT_GE_PROPERTY)
+ * and gets the list of the other live nodes back. Sorted by name, the node at index i of n nodes owns the shards s for which s % n == i.
+ * When a node joins, leaves or stops sending heartbeats, the shards are redistributed on the next heartbeat of the other nodes.
+ * During such a rebalancing two nodes can briefly own the same shard, which is safe as job acquisition is still protected by optimistic locking.
+ *
+ * Jobs without a shard (e.g. created before sharding was enabled) are acquired by the owner of shard 0.
+ * Only the acquisition is sharded: any node can still execute, reset or move any job.
+ */
+public class JobShardManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobShardManager.class);
+
+    public static final String NODE_NAME_PREFIX = "job.shard.node.";
+
+    // NAME_ column of ACT_GE_PROPERTY
+    protected static final int MAX_NODE_NAME_LENGTH = 64;
+
+    protected final int shardCount;
+    protected JobShardAssigner jobShardAssigner = new DefaultJobShardAssigner();
+    protected long heartbeatIntervalInMillis = 10 * 1000L;
+    protected long nodeExpirationTimeInMillis = 60 * 1000L;
+
+    protected String nodeGroupPrefix;
+    protected String nodeName;
+    protected CommandExecutor commandExecutor;
+    protected long lastHeartbeatTime = -1L;
+
+    protected volatile List<Integer> ownedShards = Collections.emptyList();
+    protected volatile boolean isOwningUnshardedJobs;
+    protected volatile int activeNodeCount;
+
+    public JobShardManager(int shardCount) {
+        if (shardCount < 1) {
+            throw new FlowableIllegalArgumentException("The shard count should be at least 1, but was " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int assignShard(AbstractRuntimeJobEntity job) {
+        return jobShardAssigner.assignShard(job, shardCount);
+    }
+
+    /**
+     * Registers the node with the given id (typically the lock owner of the async executor) and determines its shards.
+     *
+     * @param jobExecutionScope the job execution scope of the async executor: only nodes acquiring jobs for the same scope share the shards
+     */
+    public synchronized void register(String nodeId, String jobExecutionScope, CommandExecutor commandExecutor) {
+        this.nodeGroupPrefix = NODE_NAME_PREFIX + (jobExecutionScope != null ? jobExecutionScope : "bpmn") + ".";
+        this.nodeName = createNodeName(nodeGroupPrefix, nodeId);
+        this.commandExecutor = commandExecutor;
+        heartbeat();
+    }
+
+    protected String createNodeName(String nodeGroupPrefix, String nodeId) {
+        String name = nodeGroupPrefix + nodeId;
+        if (name.length() > MAX_NODE_NAME_LENGTH) {
+            name = nodeGroupPrefix + UUID.nameUUIDFromBytes(nodeId.getBytes(StandardCharsets.UTF_8));
+        }
+        return name;
+    }
+
+    /**
+     * Sends a heartbeat when the last one is older than the heartbeat interval. Called by the acquisition threads.
+     */
+    public synchronized void heartbeatIfDue() {
+        if (nodeName != null && System.currentTimeMillis() - lastHeartbeatTime >= heartbeatIntervalInMillis) {
+            heartbeat();
+        }
+    }
+
+    protected void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            List<String> activeNodeNames = commandExecutor.execute(new JobShardNodeHeartbeatCmd(nodeGroupPrefix, nodeName, now, nodeExpirationTimeInMillis));
+            lastHeartbeatTime = now;
+            rebalance(activeNodeNames);
+
+        } catch (Throwable e) {
+            LOGGER.warn("Exception during job shard heartbeat of node {}, keeping shards {}", nodeName, ownedShards, e);
+        }
+    }
+
+    protected void rebalance(List<String> activeNodeNames) {
+        int nodeIndex = activeNodeNames.indexOf(nodeName);
+        int nodeCount = activeNodeNames.size();
+
+        List<Integer> shards = new ArrayList<>();
+        if (nodeIndex >= 0) {
+            for (int shard = nodeIndex; shard < shardCount; shard += nodeCount) {
+                shards.add(shard);
+            }
+        }
+
+        if (!shards.equals(ownedShards)) {
+            LOGGER.info("Node {} now owns job shards {} ({} active nodes)", nodeName, shards, nodeCount);
+        }
+        this.ownedShards = Collections.unmodifiableList(shards);
+        this.isOwningUnshardedJobs = shards.contains(0);
+        this.activeNodeCount = nodeCount;
+    }
+
+    /**
+     * Removes the node, so the other nodes take over its shards on their next heartbeat.
+     */
+    public synchronized void unregister() {
+        if (nodeName == null) {
+            return;
+        }
+
+        try {
+            commandExecutor.execute(new DeleteJobShardNodeCmd(nodeName));
+        } catch (Throwable e) {
+            LOGGER.warn("Exception while removing job shard node {}, the node will expire instead", nodeName, e);
+        }
+
+        ownedShards = Collections.emptyList();
+        isOwningUnshardedJobs = false;
+        nodeName = null;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @return the shards of which this node acquires jobs, empty when the node isn't registered (yet).
+     */
+    public List<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * @return whether this node also acquires the jobs that don't have a shard.
+     */
+    public boolean isOwningUnshardedJobs() {
+        return isOwningUnshardedJobs;
+    }
+
+    /**
+     * @return the number of nodes that were alive at the last heartbeat.
+     */
+    public int getActiveNodeCount() {
+        return activeNodeCount;
+    }
+
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    public JobShardAssigner getJobShardAssigner() {
+        return jobShardAssigner;
+    }
+
+    public void setJobShardAssigner(JobShardAssigner jobShardAssigner) {
+        this.jobShardAssigner = jobShardAssigner;
+    }
+
+    public long getHeartbeatIntervalInMillis() {
+        return heartbeatIntervalInMillis;
+    }
+
+    public void setHeartbeatIntervalInMillis(long heartbeatIntervalInMillis) {
+        this.heartbeatIntervalInMillis = heartbeatIntervalInMillis;
+    }
+
+    public long getNodeExpirationTimeInMillis() {
+        return nodeExpirationTimeInMillis;
+    }
+
+    public void setNodeExpirationTimeInMillis(long nodeExpirationTimeInMillis) {
+        this.nodeExpirationTimeInMillis = nodeExpirationTimeInMillis;
+    }
+
+}
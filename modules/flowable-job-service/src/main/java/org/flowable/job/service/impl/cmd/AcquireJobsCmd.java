@@ -32,23 +32,30 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
     private final int remainingCapacity;
+    private final int maxAcquisitionSize;
     private final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = Integer.MAX_VALUE;
+        this.maxAcquisitionSize = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
         this.jobEntityManager = asyncExecutor.getJobServiceConfiguration().getJobEntityManager(); // backwards compatibility
     }
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition(), jobEntityManager);
+    }
+
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, int maxAcquisitionSize, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = remainingCapacity;
+        this.maxAcquisitionSize = maxAcquisitionSize;
         this.jobEntityManager = jobEntityManager;
     }
 
     @Override
     public AcquiredJobEntities execute(CommandContext commandContext) {
-        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int maxResults = Math.min(remainingCapacity, maxAcquisitionSize);
 
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
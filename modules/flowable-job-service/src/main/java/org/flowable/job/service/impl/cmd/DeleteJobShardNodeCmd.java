@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Removes a node from the sharded job acquisition, so the other nodes take over its shards on their next heartbeat.
+ */
+public class DeleteJobShardNodeCmd implements Command<Void> {
+
+    protected final String nodeName;
+
+    public DeleteJobShardNodeCmd(String nodeName) {
+        this.nodeName = nodeName;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        CommandContextUtil.getDbSqlSession(commandContext).update("deleteJobShardNode", nodeName);
+        return null;
+    }
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Registers (or refreshes) the heartbeat of a node taking part in the sharded job acquisition,
+ * and returns the names of all nodes of the same group that are still alive, sorted by name.
+ * Nodes that haven't sent a heartbeat within the expiration time are removed.
+ */
+public class JobShardNodeHeartbeatCmd implements Command<List<String>> {
+
+    protected final String nodeGroupPrefix;
+    protected final String nodeName;
+    protected final long currentTime;
+    protected final long nodeExpirationTimeInMillis;
+
+    public JobShardNodeHeartbeatCmd(String nodeGroupPrefix, String nodeName, long currentTime, long nodeExpirationTimeInMillis) {
+        this.nodeGroupPrefix = nodeGroupPrefix;
+        this.nodeName = nodeName;
+        this.currentTime = currentTime;
+        this.nodeExpirationTimeInMillis = nodeExpirationTimeInMillis;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> execute(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", nodeName);
+        params.put("value", String.valueOf(currentTime));
+        if (dbSqlSession.update("updateJobShardNode", params) == 0) {
+            dbSqlSession.getSqlSession().insert(dbSqlSession.getDbSqlSessionFactory().mapStatement("insertJobShardNode"), params);
+        }
+
+        List<Map<String, String>> nodes = dbSqlSession.selectListWithRawParameterNoCacheCheck("selectJobShardNodes", nodeGroupPrefix + "%");
+        List<String> activeNodeNames = new ArrayList<>(nodes.size());
+        for (Map<String, String> node : nodes) {
+            String name = node.get("name");
+            if (isExpired(node.get("value")) && !nodeName.equals(name)) {
+                dbSqlSession.update("deleteJobShardNode", name);
+            } else {
+                activeNodeNames.add(name);
+            }
+        }
+        Collections.sort(activeNodeNames);
+        return activeNodeNames;
+    }
+
+    protected boolean isExpired(String heartbeatTime) {
+        try {
+            return Long.parseLong(heartbeatTime) < currentTime - nodeExpirationTimeInMillis;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Converts the history data of an async history job to the bytes that are stored with the job, and back.
+ *
+ * When no codec is configured, the history data is stored as JSON. Payloads for which {@link #canDecode(byte[])}
+ * returns false are read as JSON too, so history jobs created before a codec was configured can still be executed.
+ * Gzip compression, when enabled, is applied to the encoded bytes.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    byte[] encode(JsonNode historyData) throws IOException;
+
+    /**
+     * @return whether the payload was encoded by this codec, typically determined by looking at a header.
+     */
+    boolean canDecode(byte[] payload);
+
+    JsonNode decode(byte[] payload) throws IOException;
+
+}
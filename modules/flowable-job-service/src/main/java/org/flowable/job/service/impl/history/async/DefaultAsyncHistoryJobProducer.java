@@ -23,9 +23,9 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -80,12 +80,12 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
 
     protected void addJsonToJob(CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration, HistoryJobEntity jobEntity, JsonNode rootObjectNode, boolean applyCompression) {
         try {
-            byte[] bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(rootObjectNode);
+            byte[] bytes = AsyncHistoryJsonUtil.encodeHistoryData(jobServiceConfiguration, rootObjectNode);
             if (applyCompression) {
                 bytes = compress(bytes);
             }
             jobEntity.setAdvancedJobHandlerConfigurationBytes(bytes);
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             throw new FlowableException("Could not serialize historic data for async history", e);
         }
     }
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+
+/**
+ * Stores the history data in the binary Smile format, which is more compact and faster to write and read than JSON.
+ * Field names and short string values that occur more than once (such as the process instance id in every entry of a grouped job)
+ * are only written once and referenced afterwards.
+ *
+ * Needs the com.fasterxml.jackson.dataformat:jackson-dataformat-smile dependency on the classpath.
+ */
+public class SmileAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    protected ObjectMapper objectMapper;
+
+    public SmileAsyncHistoryPayloadCodec() {
+        SmileFactory smileFactory = new SmileFactory();
+        smileFactory.enable(SmileGenerator.Feature.WRITE_HEADER); // Needed to recognize the payload in canDecode
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES);
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        smileFactory.enable(SmileParser.Feature.REQUIRE_HEADER);
+        this.objectMapper = new ObjectMapper(smileFactory);
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyData) throws IOException {
+        return objectMapper.writeValueAsBytes(historyData);
+    }
+
+    @Override
+    public boolean canDecode(byte[] payload) {
+        return payload != null && payload.length >= 3
+                && payload[0] == SmileConstants.HEADER_BYTE_1
+                && payload[1] == SmileConstants.HEADER_BYTE_2
+                && payload[2] == SmileConstants.HEADER_BYTE_3;
+    }
+
+    @Override
+    public JsonNode decode(byte[] payload) throws IOException {
+        return objectMapper.readTree(payload);
+    }
+
+}
@@ -20,13 +20,14 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Experimental.
@@ -92,10 +93,10 @@ public class AsyncHistoryJobMessageReceiver {
     }
     
     protected JsonNode getHistoryJobData(CommandContext commandContext, HistoryJobEntity job) {
-        ObjectMapper objectMapper = CommandContextUtil.getJobServiceConfiguration(commandContext).getObjectMapper();
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+                return AsyncHistoryJsonUtil.decodeHistoryData(jobServiceConfiguration, job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
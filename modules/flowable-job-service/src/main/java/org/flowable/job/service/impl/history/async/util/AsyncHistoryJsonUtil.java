@@ -12,15 +12,19 @@
  */
 package org.flowable.job.service.impl.history.async.util;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
@@ -71,6 +75,25 @@ public class AsyncHistoryJsonUtil {
         }
     }
     
+    /**
+     * Converts the history data to the bytes stored with a history job, using the configured {@link AsyncHistoryPayloadCodec} or JSON when there is none.
+     */
+    public static byte[] encodeHistoryData(JobServiceConfiguration jobServiceConfiguration, JsonNode historyData) throws IOException {
+        AsyncHistoryPayloadCodec payloadCodec = jobServiceConfiguration.getAsyncHistoryPayloadCodec();
+        if (payloadCodec != null) {
+            return payloadCodec.encode(historyData);
+        }
+        return jobServiceConfiguration.getObjectMapper().writeValueAsBytes(historyData);
+    }
+
+    public static JsonNode decodeHistoryData(JobServiceConfiguration jobServiceConfiguration, byte[] payload) throws IOException {
+        AsyncHistoryPayloadCodec payloadCodec = jobServiceConfiguration.getAsyncHistoryPayloadCodec();
+        if (payloadCodec != null && payloadCodec.canDecode(payload)) {
+            return payloadCodec.decode(payload);
+        }
+        return jobServiceConfiguration.getObjectMapper().readTree(payload);
+    }
+
     public static String getStringFromJson(ObjectNode objectNode, String fieldName) {
         if (objectNode.has(fieldName)) {
             return objectNode.get(fieldName).asText();
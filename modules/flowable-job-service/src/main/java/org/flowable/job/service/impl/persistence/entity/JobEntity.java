@@ -20,4 +20,12 @@ package org.flowable.job.service.impl.persistence.entity;
  */
 public interface JobEntity extends JobInfoEntity, AbstractRuntimeJobEntity {
 
+    /**
+     * The shard of the job, used to partition the job acquisition over the nodes of a cluster.
+     * Null when job sharding is not enabled.
+     */
+    Integer getShard();
+
+    void setShard(Integer shard);
+
 }
@@ -29,4 +29,12 @@ public interface TimerJobEntity extends AbstractRuntimeJobEntity {
     Date getLockExpirationTime();
 
     void setLockExpirationTime(Date claimedUntil);
+
+    /**
+     * The shard of the timer job, used to partition the timer job acquisition over the nodes of a cluster.
+     * Null when job sharding is not enabled.
+     */
+    Integer getShard();
+
+    void setShard(Integer shard);
 }
@@ -26,6 +26,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     protected String lockOwner;
     protected Date lockExpirationTime;
+    protected Integer shard;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -59,6 +60,16 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
         this.lockExpirationTime = claimedUntil;
     }
 
+    @Override
+    public Integer getShard() {
+        return shard;
+    }
+
+    @Override
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
     @Override
     public String toString() {
         return "TimerJobEntity [id=" + id + "]";
@@ -25,6 +25,7 @@ import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
 import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager;
 import org.flowable.variable.api.delegate.VariableScope;
 import org.slf4j.Logger;
@@ -133,6 +134,10 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         }
 
         jobEntity.setCreateTime(getJobServiceConfiguration().getClock().getCurrentTime());
+        JobShardManager jobShardManager = getJobServiceConfiguration().getJobShardManager();
+        if (jobShardManager != null && jobEntity.getShard() == null) {
+            jobEntity.setShard(jobShardManager.assignShard(jobEntity));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +25,7 @@ import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
@@ -62,6 +64,16 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     public List<JobEntity> findJobsToExecute(Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+
+        JobShardManager jobShardManager = jobServiceConfiguration.getJobShardManager();
+        if (jobShardManager != null) {
+            List<Integer> ownedShards = jobShardManager.getOwnedShards();
+            if (ownedShards.isEmpty()) {
+                return Collections.emptyList();
+            }
+            params.put("shards", ownedShards);
+            params.put("includeUnshardedJobs", jobShardManager.isOwningUnshardedJobs());
+        }
         
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
@@ -71,7 +83,8 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If all jobs of the execution have been fetched before (e.g. when prefetching a process instance), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetchedScope(JobEntity.class, "execution", executionId)) {
             return getListFromCache(jobsByExecutionIdMatcher, executionId);
         }
         
@@ -59,7 +59,8 @@ public class MybatisSuspendedJobDataManager extends AbstractDataManager<Suspende
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If all jobs of the execution have been fetched before (e.g. when prefetching a process instance), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetchedScope(SuspendedJobEntity.class, "execution", executionId)) {
             return getListFromCache(suspendedJobsByExecutionIdMatcher, executionId);
         }
         
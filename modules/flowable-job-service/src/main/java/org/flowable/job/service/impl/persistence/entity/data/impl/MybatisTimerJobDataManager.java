@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +25,7 @@ import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.JobShardManager;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager;
@@ -72,12 +74,22 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findTimerJobsToExecute(Page page) {
-        Map<String, Object> params = new HashMap<>(2);
+        Map<String, Object> params = new HashMap<>();
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
         
         Date now = jobServiceConfiguration.getClock().getCurrentTime();
         params.put("now", now);
+
+        JobShardManager jobShardManager = jobServiceConfiguration.getJobShardManager();
+        if (jobShardManager != null) {
+            List<Integer> ownedShards = jobShardManager.getOwnedShards();
+            if (ownedShards.isEmpty()) {
+                return Collections.emptyList();
+            }
+            params.put("shards", ownedShards);
+            params.put("includeUnshardedJobs", jobShardManager.isOwningUnshardedJobs());
+        }
         
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
@@ -97,7 +109,8 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If all jobs of the execution have been fetched before (e.g. when prefetching a process instance), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetchedScope(TimerJobEntity.class, "execution", executionId)) {
             return getListFromCache(timerJobsByExecutionIdMatcher, executionId);
         }
         
@@ -12,17 +12,16 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<DeadLetterJobEntity> {
+public class DeadLetterJobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<DeadLetterJobEntity> {
 
-    @Override
-    public boolean isRetained(DeadLetterJobEntity jobEntity, Object param) {
-        return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param); // param = executionId
+    public DeadLetterJobsByExecutionIdMatcher() {
+        super("executionId", DeadLetterJobEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}
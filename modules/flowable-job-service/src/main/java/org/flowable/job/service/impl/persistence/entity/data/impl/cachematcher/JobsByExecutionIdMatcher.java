@@ -12,17 +12,16 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> {
+public class JobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<JobEntity> {
 
-    @Override
-    public boolean isRetained(JobEntity jobEntity, Object parameter) {
-        return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals((String) parameter);
+    public JobsByExecutionIdMatcher() {
+        super("executionId", JobEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}
@@ -12,17 +12,16 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class SuspendedJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<SuspendedJobEntity> {
+public class SuspendedJobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<SuspendedJobEntity> {
 
-    @Override
-    public boolean isRetained(SuspendedJobEntity jobEntity, Object param) {
-        return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param);
+    public SuspendedJobsByExecutionIdMatcher() {
+        super("executionId", SuspendedJobEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}
@@ -12,17 +12,16 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class TimerJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<TimerJobEntity> {
+public class TimerJobsByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<TimerJobEntity> {
 
-    @Override
-    public boolean isRetained(TimerJobEntity jobEntity, Object param) {
-        return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param); // param = executionId
+    public TimerJobsByExecutionIdMatcher() {
+        super("executionId", TimerJobEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}
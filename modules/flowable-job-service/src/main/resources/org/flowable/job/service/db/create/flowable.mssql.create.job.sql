@@ -21,6 +21,7 @@ create table ACT_RU_JOB (
     HANDLER_CFG_ nvarchar(4000),
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
+    SHARD_ int,
     TENANT_ID_ nvarchar(255) default '',
     primary key (ID_)
 );
@@ -48,6 +49,7 @@ create table ACT_RU_TIMER_JOB (
     HANDLER_CFG_ nvarchar(4000),
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
+    SHARD_ int,
     TENANT_ID_ nvarchar(255) default '',
     primary key (ID_)
 );
@@ -187,4 +189,4 @@ create index ACT_IDX_DJOB_SCOPE on ACT_RU_DEADLETTER_JOB(SCOPE_ID_, SCOPE_TYPE_)
 create index ACT_IDX_DJOB_SUB_SCOPE on ACT_RU_DEADLETTER_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_DJOB_SCOPE_DEF on ACT_RU_DEADLETTER_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_); 
 
-insert into ACT_GE_PROPERTY values ('job.schema.version', '6.4.1.3', 1);
\ No newline at end of file
+insert into ACT_GE_PROPERTY values ('job.schema.version', '6.4.1.4', 1);
\ No newline at end of file
@@ -0,0 +1,2 @@
+alter table ACT_RU_JOB add SHARD_ INTEGER;
+alter table ACT_RU_TIMER_JOB add SHARD_ INTEGER;
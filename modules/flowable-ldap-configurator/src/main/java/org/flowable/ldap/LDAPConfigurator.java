@@ -13,6 +13,9 @@
 package org.flowable.ldap;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.EngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -51,10 +54,15 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         if (ldapConfiguration.getGroupCacheSize() > 0) {
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(), 
                     ldapConfiguration.getGroupCacheExpirationTime(), engineConfiguration.getClock());
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getGroupCacheRefreshAheadTime());
             
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
             }
+
+            if (engineConfiguration.getEventDispatcher() != null) {
+                engineConfiguration.getEventDispatcher().addEventListener(new LDAPGroupCacheShutdownListener(ldapGroupCache), FlowableEngineEventType.ENGINE_CLOSED);
+            }
         }
         
         super.configure(engineConfiguration);
@@ -77,4 +85,27 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         return (IdmEngineConfiguration) engineConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
     }
 
+    /**
+     * Stops the background refresh of the {@link LDAPGroupCache} when the engine is closed.
+     */
+    protected static class LDAPGroupCacheShutdownListener extends AbstractFlowableEventListener {
+
+        protected LDAPGroupCache ldapGroupCache;
+
+        public LDAPGroupCacheShutdownListener(LDAPGroupCache ldapGroupCache) {
+            this.ldapGroupCache = ldapGroupCache;
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            ldapGroupCache.shutdown();
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+    }
+
 }
@@ -0,0 +1,205 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.ldap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.util.EngineServiceUtil;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
+import org.flowable.ldap.LDAPConfiguration;
+import org.flowable.ldap.LDAPConfigurator;
+import org.flowable.ldap.LDAPGroupCache;
+import org.flowable.ldap.LDAPIdentityServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LdapGroupCacheConcurrencyTest {
+
+    protected DefaultClockImpl clock;
+    protected LDAPGroupCache ldapGroupCache;
+    protected ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new DefaultClockImpl();
+        clock.setCurrentTime(new Date());
+        ldapGroupCache = new LDAPGroupCache(2, 30 * 60 * 1000L, clock);
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+        ldapGroupCache.shutdown();
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch finishLoad = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        List<Group> groups = createGroups("management");
+
+        List<Future<List<Group>>> results = new ArrayList<>();
+        results.add(executorService.submit(() -> ldapGroupCache.get("kermit", userId -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            await(finishLoad);
+            return groups;
+        })));
+        assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 3; i++) {
+            results.add(executorService.submit(() -> ldapGroupCache.get("kermit", userId -> {
+                loads.incrementAndGet();
+                return createGroups("other");
+            })));
+        }
+
+        // Wait until the other lookups are waiting for the load in progress
+        while (ldapGroupCache.getMissCount() < 4) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        finishLoad.countDown();
+
+        for (Future<List<Group>> result : results) {
+            assertSame(groups, result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, ldapGroupCache.getLoadCount());
+        assertSame(groups, ldapGroupCache.get("kermit"));
+        assertEquals(1, ldapGroupCache.getHitCount());
+    }
+
+    @Test
+    public void testLoadFailureIsNotCached() {
+        assertThrows(FlowableException.class, () -> ldapGroupCache.get("kermit", userId -> {
+            throw new FlowableException("LDAP not available");
+        }));
+        assertEquals(1, ldapGroupCache.getLoadFailureCount());
+        assertNull(ldapGroupCache.get("kermit"));
+
+        List<Group> groups = createGroups("management");
+        assertSame(groups, ldapGroupCache.get("kermit", userId -> groups));
+        assertEquals(1, ldapGroupCache.getLoadCount());
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+        ldapGroupCache.setRefreshAheadTime(5 * 60 * 1000L);
+        ldapGroupCache.setRefreshExecutorService(executorService);
+
+        List<Group> groups = createGroups("management");
+        List<Group> refreshedGroups = createGroups("sales");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        ldapGroupCache.get("kermit", userId -> groups);
+
+        // Within the refresh ahead time the cached groups are returned and the groups are reloaded in the background
+        clock.setCurrentTime(new Date(clock.getCurrentTime().getTime() + 26 * 60 * 1000L));
+        assertSame(groups, ldapGroupCache.get("kermit", userId -> {
+            loads.incrementAndGet();
+            refreshed.countDown();
+            return refreshedGroups;
+        }));
+        assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+        while (ldapGroupCache.getRefreshCount() < 1) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, loads.get());
+
+        // The refreshed entry doesn't expire at the original expiration time
+        clock.setCurrentTime(new Date(clock.getCurrentTime().getTime() + 10 * 60 * 1000L));
+        assertSame(refreshedGroups, ldapGroupCache.get("kermit"));
+        assertEquals(1, ldapGroupCache.getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        ldapGroupCache.add("kermit", Collections.emptyList());
+        ldapGroupCache.add("pepe", Collections.emptyList());
+        ldapGroupCache.get("kermit");
+        ldapGroupCache.add("fozzie", Collections.emptyList());
+
+        assertEquals(2, ldapGroupCache.getGroupCache().size());
+        assertNull(ldapGroupCache.get("pepe"));
+        assertEquals(Collections.emptyList(), ldapGroupCache.get("kermit"));
+        assertEquals(Collections.emptyList(), ldapGroupCache.get("fozzie"));
+    }
+
+    @Test
+    public void testRefreshExecutorIsShutDownWhenEngineCloses() {
+        LDAPConfiguration ldapConfiguration = new LDAPConfiguration();
+        ldapConfiguration.setGroupCacheSize(2);
+        ldapConfiguration.setGroupCacheRefreshAheadTime(ldapConfiguration.getGroupCacheExpirationTime());
+        LDAPConfigurator ldapConfigurator = new LDAPConfigurator();
+        ldapConfigurator.setLdapConfiguration(ldapConfiguration);
+
+        ProcessEngineConfiguration processEngineConfiguration = ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-ldap-group-cache-shutdown");
+        processEngineConfiguration.addConfigurator(ldapConfigurator);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        LDAPGroupCache engineGroupCache = ((LDAPIdentityServiceImpl) EngineServiceUtil
+                .getIdmIdentityService(processEngine.getProcessEngineConfiguration())).getLdapGroupCache();
+
+        // Every read is within the refresh ahead time, so this starts a background refresh
+        engineGroupCache.add("kermit", createGroups("muppets"));
+        engineGroupCache.get("kermit", userId -> createGroups("muppets"));
+        ExecutorService refreshExecutorService = engineGroupCache.getRefreshExecutorService();
+        assertNotNull(refreshExecutorService);
+
+        processEngine.close();
+
+        assertTrue(refreshExecutorService.isShutdown());
+        assertNull(engineGroupCache.getRefreshExecutorService());
+    }
+
+    protected List<Group> createGroups(String groupId) {
+        GroupEntityImpl group = new GroupEntityImpl();
+        group.setId(groupId);
+        return Collections.<Group>singletonList(group);
+    }
+
+    protected void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
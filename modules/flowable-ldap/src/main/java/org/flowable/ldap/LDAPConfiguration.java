@@ -76,6 +76,7 @@ public class LDAPConfiguration {
     // Group caching
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
+    protected long groupCacheRefreshAheadTime; // default: no background refresh
 
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
@@ -446,6 +447,21 @@ public class LDAPConfiguration {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public long getGroupCacheRefreshAheadTime() {
+        return groupCacheRefreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of a {@link LDAPGroupCache} entry during which the groups of the user are refreshed in the background
+     * when they are fetched. ie. when the expiration time is 30 mins and the refresh ahead time is 5 mins, a fetch of the groups of a user between 00:25 and 00:30
+     * returns the cached groups and reloads them from the LDAP system in the background, so that fetches after 00:30 don't need to wait for the LDAP system.
+     * <p>
+     * By default set to 0, so no background refresh is done.
+     */
+    public void setGroupCacheRefreshAheadTime(long groupCacheRefreshAheadTime) {
+        this.groupCacheRefreshAheadTime = groupCacheRefreshAheadTime;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
@@ -12,14 +12,30 @@
  */
 package org.flowable.ldap;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.flowable.common.engine.impl.runtime.ClockReader;
 import org.flowable.idm.api.Group;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
@@ -27,15 +43,34 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache can be used concurrently. When the groups are fetched through {@link #get(String, Function)}, concurrent fetches of the groups of the same user
+ * share one LDAP lookup. When a refresh ahead time is set, an entry that is read within that time before its expiration is reloaded in the background,
+ * so the readers keep getting the cached groups instead of waiting for the LDAP system. When the cache is full, the least recently used entry is evicted.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
 public class LDAPGroupCache {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPGroupCache.class);
+
     private final Supplier<ClockReader> clockReader;
     protected Map<String, LDAPGroupCacheEntry> groupCache;
+    protected int cacheSize;
     protected long expirationTime;
+    protected long refreshAheadTime;
+
+    protected ConcurrentMap<String, CompletableFuture<List<Group>>> loadingGroups = new ConcurrentHashMap<>();
+    protected ExecutorService refreshExecutorService;
+    protected boolean shutdownRefreshExecutorService;
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong loadCount = new AtomicLong();
+    protected AtomicLong loadFailureCount = new AtomicLong();
+    protected AtomicLong refreshCount = new AtomicLong();
+    protected AtomicLong totalLoadTime = new AtomicLong();
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
@@ -46,15 +81,14 @@ public class LDAPGroupCache {
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final Supplier<ClockReader> clockReader) {
         this.clockReader = clockReader;
 
-        // From
-        // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
+        // Access ordered, so the eldest entry is the least recently used one. Reads reorder the entries, hence the synchronization.
+        this.groupCache = Collections.synchronizedMap(new LinkedHashMap<String, LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
 
             private static final long serialVersionUID = 5207574193173514579L;
 
             @Override
             protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
-                boolean removeEldest = size() > cacheSize;
+                boolean removeEldest = size() > LDAPGroupCache.this.cacheSize;
 
                 if (removeEldest && ldapCacheListener != null) {
                     ldapCacheListener.cacheEviction(eldest.getKey());
@@ -63,56 +97,194 @@ public class LDAPGroupCache {
                 return removeEldest;
             }
 
-        };
+        });
+        this.cacheSize = cacheSize;
         this.expirationTime = expirationTime;
     }
 
     public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups));
+        groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups));
     }
 
     public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
+        LDAPGroupCacheEntry cacheEntry = getValidEntry(userId);
         if (cacheEntry != null) {
-            if ((clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
-
-                return cacheEntry.getGroups();
-
-            } else {
+            return cacheEntry.getGroups();
+        }
 
-                this.groupCache.remove(userId);
+        missCount.incrementAndGet();
+        if (ldapCacheListener != null) {
+            ldapCacheListener.cacheMiss(userId);
+        }
 
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
-                }
+        return null;
+    }
 
+    /**
+     * Returns the cached groups of the given user, or loads them with the given loader when they are not cached (or expired).
+     * Only one load per user is done at a time: concurrent callers for the same user wait for the load that is in progress.
+     * When the cached groups are about to expire (see {@link #setRefreshAheadTime(long)}), the cached groups are returned and
+     * the groups are reloaded in the background.
+     */
+    public List<Group> get(String userId, Function<String, List<Group>> loader) {
+        LDAPGroupCacheEntry cacheEntry = getValidEntry(userId);
+        if (cacheEntry != null) {
+            if (refreshAheadTime > 0 && getAge(cacheEntry) >= expirationTime - refreshAheadTime) {
+                refresh(userId, cacheEntry, loader);
             }
+            return cacheEntry.getGroups();
         }
 
+        missCount.incrementAndGet();
         if (ldapCacheListener != null) {
             ldapCacheListener.cacheMiss(userId);
         }
 
-        return null;
+        CompletableFuture<List<Group>> loadingFuture = new CompletableFuture<>();
+        CompletableFuture<List<Group>> existingLoadingFuture = loadingGroups.putIfAbsent(userId, loadingFuture);
+        if (existingLoadingFuture != null) {
+            return waitForLoad(existingLoadingFuture);
+        }
+
+        try {
+            List<Group> groups = load(userId, loader);
+            loadingFuture.complete(groups);
+            return groups;
+
+        } catch (RuntimeException e) {
+            loadingFuture.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            loadingGroups.remove(userId, loadingFuture);
+        }
     }
 
     public void clear() {
         groupCache.clear();
     }
 
+    /**
+     * Stops the executor service that refreshes entries in the background, if it was created by this cache.
+     */
+    public void shutdown() {
+        if (refreshExecutorService != null && shutdownRefreshExecutorService) {
+            refreshExecutorService.shutdown();
+            refreshExecutorService = null;
+        }
+    }
+
+    protected LDAPGroupCacheEntry getValidEntry(String userId) {
+        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        if (getAge(cacheEntry) < expirationTime) {
+            hitCount.incrementAndGet();
+            if (ldapCacheListener != null) {
+                ldapCacheListener.cacheHit(userId);
+            }
+            return cacheEntry;
+        }
+
+        if (groupCache.remove(userId, cacheEntry) && ldapCacheListener != null) {
+            ldapCacheListener.cacheExpired(userId);
+            ldapCacheListener.cacheEviction(userId);
+        }
+        return null;
+    }
+
+    protected List<Group> load(String userId, Function<String, List<Group>> loader) {
+        long start = System.nanoTime();
+        try {
+            List<Group> groups = loader.apply(userId);
+            loadCount.incrementAndGet();
+            add(userId, groups);
+            return groups;
+
+        } catch (RuntimeException e) {
+            loadFailureCount.incrementAndGet();
+            throw e;
+
+        } finally {
+            totalLoadTime.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    protected List<Group> waitForLoad(CompletableFuture<List<Group>> loadingFuture) {
+        try {
+            return loadingFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    protected void refresh(String userId, LDAPGroupCacheEntry cacheEntry, Function<String, List<Group>> loader) {
+        if (!cacheEntry.getRefreshing().compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            resolveRefreshExecutorService().execute(() -> {
+                try {
+                    load(userId, loader);
+                    refreshCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Could not refresh the cached groups of user {}", userId, e);
+                    cacheEntry.getRefreshing().set(false);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            // The entry will be refreshed by a later read, or loaded again when it is expired
+            LOGGER.debug("Refresh of the cached groups of user {} rejected", userId);
+            cacheEntry.getRefreshing().set(false);
+        }
+    }
+
+    protected long getAge(LDAPGroupCacheEntry cacheEntry) {
+        return clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime();
+    }
+
+    protected synchronized ExecutorService resolveRefreshExecutorService() {
+        if (refreshExecutorService == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(Math.max(cacheSize, 1)), runnable -> {
+                Thread thread = new Thread(runnable, "flowable-ldap-group-cache-refresh-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            refreshExecutorService = threadPoolExecutor;
+            shutdownRefreshExecutorService = true;
+        }
+        return refreshExecutorService;
+    }
+
     public Map<String, LDAPGroupCacheEntry> getGroupCache() {
         return groupCache;
     }
 
+    /**
+     * Sets the map that holds the cached entries. The map is used concurrently, so it needs to be thread safe.
+     * The size of the map is not limited by this cache, so it needs to evict entries itself.
+     */
     public void setGroupCache(Map<String, LDAPGroupCacheEntry> groupCache) {
         this.groupCache = groupCache;
     }
 
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
     public long getExpirationTime() {
         return expirationTime;
     }
@@ -121,6 +293,31 @@ public class LDAPGroupCache {
         this.expirationTime = expirationTime;
     }
 
+    public long getRefreshAheadTime() {
+        return refreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of an entry during which a read of the entry reloads the groups in the background.
+     * By default set to 0, which means that entries are only loaded again after they are expired.
+     */
+    public void setRefreshAheadTime(long refreshAheadTime) {
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    public ExecutorService getRefreshExecutorService() {
+        return refreshExecutorService;
+    }
+
+    /**
+     * Sets the executor service that is used to refresh entries in the background. When not set, a single daemon thread is used.
+     * An executor service set through this method is not shut down by {@link #shutdown()}.
+     */
+    public synchronized void setRefreshExecutorService(ExecutorService refreshExecutorService) {
+        this.refreshExecutorService = refreshExecutorService;
+        this.shutdownRefreshExecutorService = false;
+    }
+
     public LDAPGroupCacheListener getLdapCacheListener() {
         return ldapCacheListener;
     }
@@ -129,12 +326,62 @@ public class LDAPGroupCache {
         this.ldapCacheListener = ldapCacheListener;
     }
 
+    // Statistics ////////////////////////////////////////
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of successful loads from the LDAP system, including background refreshes.
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * @return the total time in nanoseconds spent loading groups from the LDAP system.
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime.get();
+    }
+
+    /**
+     * @return the average time in nanoseconds of a load from the LDAP system.
+     */
+    public double getAverageLoadTime() {
+        long loads = loadCount.get() + loadFailureCount.get();
+        return loads == 0 ? 0.0 : (double) totalLoadTime.get() / loads;
+    }
+
+    public void resetStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+        loadCount.set(0);
+        loadFailureCount.set(0);
+        refreshCount.set(0);
+        totalLoadTime.set(0);
+    }
+
     // Helper classes ////////////////////////////////////
 
     static class LDAPGroupCacheEntry {
 
         protected Date timestamp;
         protected List<Group> groups;
+        protected AtomicBoolean refreshing = new AtomicBoolean();
 
         public LDAPGroupCacheEntry() {
 
@@ -161,6 +408,10 @@ public class LDAPGroupCache {
             this.groups = groups;
         }
 
+        public AtomicBoolean getRefreshing() {
+            return refreshing;
+        }
+
     }
 
     // Cache listeners. Currently not yet exposed (only programmatically for the
@@ -66,23 +66,17 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     protected List<Group> findGroupsByUser(String userId) {
 
-        // First try the cache (if one is defined)
+        // Use the cache (if one is defined), which loads and caches the groups when needed
         if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
-            if (groups != null) {
-                return groups;
-            }
+            return ldapGroupCache.get(userId, this::loadGroupsByUser);
         }
 
-        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
-        List<Group> groups = executeGroupQuery(searchExpression);
-
-        // Cache results for later
-        if (ldapGroupCache != null) {
-            ldapGroupCache.add(userId, groups);
-        }
+        return loadGroupsByUser(userId);
+    }
 
-        return groups;
+    protected List<Group> loadGroupsByUser(String userId) {
+        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
+        return executeGroupQuery(searchExpression);
     }
 
     protected List<Group> findGroupsById(String id) {
@@ -411,4 +411,53 @@ public class TaskCollectionResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting a list of tasks with keyset pagination. GET runtime/tasks?continuationToken=
+     */
+    @Test
+    public void testGetTasksWithContinuationToken() throws Exception {
+        try {
+            for (int i = 0; i < 5; i++) {
+                Task task = taskService.newTask();
+                task.setPriority(i % 2);
+                taskService.saveTask(task);
+            }
+            List<Task> expectedTasks = taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().desc().list();
+
+            String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?sort=priority&order=desc&size=2&continuationToken=";
+            CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+            JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+            closeResponse(response);
+            assertEquals(2, responseNode.get("data").size());
+            assertEquals(expectedTasks.get(0).getId(), responseNode.get("data").get(0).get("id").asText());
+            assertEquals(expectedTasks.get(1).getId(), responseNode.get("data").get(1).get("id").asText());
+            assertEquals(-1, responseNode.get("total").asLong());
+
+            url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?sort=priority&order=desc&size=2&continuationToken="
+                    + encode(responseNode.get("continuationToken").asText());
+            response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+            responseNode = objectMapper.readTree(response.getEntity().getContent());
+            closeResponse(response);
+            assertEquals(2, responseNode.get("data").size());
+            assertEquals(expectedTasks.get(2).getId(), responseNode.get("data").get(0).get("id").asText());
+            assertEquals(expectedTasks.get(3).getId(), responseNode.get("data").get(1).get("id").asText());
+
+            url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?sort=priority&order=desc&size=2&continuationToken="
+                    + encode(responseNode.get("continuationToken").asText());
+            response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+            responseNode = objectMapper.readTree(response.getEntity().getContent());
+            closeResponse(response);
+            assertEquals(1, responseNode.get("data").size());
+            assertEquals(expectedTasks.get(4).getId(), responseNode.get("data").get(0).get("id").asText());
+            Assert.assertNull(responseNode.get("continuationToken"));
+
+        } finally {
+            // Clean adhoc-tasks even if test fails
+            List<Task> tasks = taskService.createTaskQuery().list();
+            for (Task task : tasks) {
+                taskService.deleteTask(task.getId(), true);
+            }
+        }
+    }
 }
@@ -99,6 +99,7 @@ public class FlowableLdapAutoConfiguration {
             // We need to use a supplier for the clock as the clock would be created later
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(),
                 ldapConfiguration.getGroupCacheExpirationTime(), engineConfiguration::getClock);
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getGroupCacheRefreshAheadTime());
 
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
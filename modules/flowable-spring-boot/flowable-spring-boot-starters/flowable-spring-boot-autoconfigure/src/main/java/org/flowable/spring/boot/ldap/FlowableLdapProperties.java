@@ -509,6 +509,14 @@ public class FlowableLdapProperties {
         //TODO once we move to Boot 2.0 we can use Duration as a parameter’
         private long groupExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
 
+        /**
+         * Sets the time in milliseconds before the expiration of a {@link org.flowable.ldap.LDAPGroupCache} entry during which the groups of the user are
+         * refreshed in the background when they are fetched, so that the fetches don't need to wait for the LDAP system when the entry expires.
+         * <p>
+         * By default set to 0, so no background refresh is done.
+         */
+        private long groupRefreshAhead;
+
         public int getGroupSize() {
             return groupSize;
         }
@@ -525,9 +533,18 @@ public class FlowableLdapProperties {
             this.groupExpiration = groupExpiration;
         }
 
+        public long getGroupRefreshAhead() {
+            return groupRefreshAhead;
+        }
+
+        public void setGroupRefreshAhead(long groupRefreshAhead) {
+            this.groupRefreshAhead = groupRefreshAhead;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setGroupCacheSize(getGroupSize());
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
+            configuration.setGroupCacheRefreshAheadTime(getGroupRefreshAhead());
         }
     }
 }
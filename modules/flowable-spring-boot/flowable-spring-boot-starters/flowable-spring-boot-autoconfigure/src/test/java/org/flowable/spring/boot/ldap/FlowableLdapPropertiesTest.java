@@ -61,6 +61,7 @@ public class FlowableLdapPropertiesTest {
         FlowableLdapProperties.Cache cache = properties.getCache();
         cache.setGroupSize(400);
         cache.setGroupExpiration(5000);
+        cache.setGroupRefreshAhead(1000);
 
         LDAPConfiguration ldapConfiguration = new LDAPConfiguration();
         properties.customize(ldapConfiguration);
@@ -83,6 +84,7 @@ public class FlowableLdapPropertiesTest {
                 "groupTypeAttribute",
                 "groupCacheSize",
                 "groupCacheExpirationTime",
+                "groupCacheRefreshAheadTime",
                 "ldapQueryBuilder",
                 "groupCacheListener"
             );
@@ -126,10 +128,12 @@ public class FlowableLdapPropertiesTest {
         assertThat(ldapConfiguration)
             .as("Cache properties")
             .extracting("groupCacheSize",
-                "groupCacheExpirationTime")
+                "groupCacheExpirationTime",
+                "groupCacheRefreshAheadTime")
             .containsExactly(
                 cache.getGroupSize(),
-                cache.getGroupExpiration()
+                cache.getGroupExpiration(),
+                cache.getGroupRefreshAhead()
             );
     }
 }
\ No newline at end of file
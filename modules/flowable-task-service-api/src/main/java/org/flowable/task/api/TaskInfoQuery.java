@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPaginationQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
@@ -27,7 +28,7 @@ import org.flowable.task.api.history.HistoricTaskInstanceQuery;
  * 
  * @author Joram Barrez
  */
-public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo> extends Query<T, V> {
+public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo> extends Query<T, V>, KeysetPaginationQuery<T, V> {
 
     /**
      * Only select tasks with the given task id (in practice, there will be maximum one of this kind)
@@ -656,6 +657,16 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
 
     T endOr();
 
+    // KEYSET PAGINATION
+
+    /**
+     * Keyset pagination, see {@link KeysetPaginationQuery#continueAfter(String)}. The query must be ordered by the task id,
+     * or by the task create time or priority, optionally followed by the task id in the same direction.
+     * The task id is added as last order column if needed.
+     */
+    @Override
+    T continueAfter(String continuationToken);
+
     // ORDERING
 
     /**
@@ -15,8 +15,11 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -25,6 +28,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.task.api.TaskInfo;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -40,6 +44,13 @@ import org.flowable.variable.service.impl.QueryVariableValue;
 public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<HistoricTaskInstanceQuery, HistoricTaskInstance> implements HistoricTaskInstanceQuery {
 
     private static final long serialVersionUID = 1L;
+
+    protected static final Map<String, Function<TaskInfo, Object>> KEYSET_PAGINATION_COLUMNS = new HashMap<>();
+
+    static {
+        KEYSET_PAGINATION_COLUMNS.put(HistoricTaskInstanceQueryProperty.START.getName(), TaskInfo::getCreateTime);
+        KEYSET_PAGINATION_COLUMNS.put(HistoricTaskInstanceQueryProperty.TASK_PRIORITY.getName(), TaskInfo::getPriority);
+    }
     protected String taskDefinitionId;
     protected String processDefinitionId;
     protected String processDefinitionKey;
@@ -125,6 +136,9 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected HistoricTaskInstanceQueryImpl currentOrQueryObject;
 
     protected boolean inOrStatement;
+    protected boolean keysetPaginationEnabled;
+    protected String continuationToken;
+    protected TaskKeysetPagination keysetPagination;
 
     public HistoricTaskInstanceQueryImpl() {
     }
@@ -1570,6 +1584,19 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery continueAfter(String continuationToken) {
+        this.keysetPaginationEnabled = true;
+        this.continuationToken = continuationToken;
+        return this;
+    }
+
+    @Override
+    public String createContinuationToken(HistoricTaskInstance lastResult) {
+        return TaskKeysetPagination.forOrder(orderByColumns, nullHandlingColumn, KEYSET_PAGINATION_COLUMNS)
+                .createContinuationToken(lastResult, KEYSET_PAGINATION_COLUMNS);
+    }
+
     @Override
     protected void checkQueryOk() {
         super.checkQueryOk();
@@ -1579,6 +1606,14 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         if (includeProcessVariables || includeTaskLocalVariables) {
             this.orderBy(HistoricTaskInstanceQueryProperty.INCLUDED_VARIABLE_TIME).asc();
         }
+
+        if (keysetPaginationEnabled) {
+            keysetPagination = TaskKeysetPagination.forOrder(orderByColumns, nullHandlingColumn, KEYSET_PAGINATION_COLUMNS);
+            if (!keysetPagination.isOrderedById()) {
+                addOrder(HistoricTaskInstanceQueryProperty.HISTORIC_TASK_INSTANCE_ID.getName(), keysetPagination.isDescending() ? SORTORDER_DESC : SORTORDER_ASC, null);
+            }
+            keysetPagination.readContinuationToken(continuationToken);
+        }
     }
 
     public String getMssqlOrDB2OrderBy() {
@@ -1620,6 +1655,10 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     // getters and setters
     // //////////////////////////////////////////////////////
 
+    public TaskKeysetPagination getKeysetPagination() {
+        return keysetPagination;
+    }
+
     public String getProcessInstanceId() {
         return processInstanceId;
     }
@@ -0,0 +1,187 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.task.service.impl;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.task.api.TaskInfo;
+
+/**
+ * Keyset pagination of the task queries (see {@link org.flowable.common.engine.api.query.KeysetPaginationQuery}).
+ *
+ * The query is ordered by one order column followed by the task id, or only by the task id. The next page then consists of the tasks
+ * with a bigger value for the order column than the last task of the previous page (smaller for a descending order), or the same value and a bigger id.
+ * The continuation token contains the order column, the direction and the values of the last task for the order column and the id.
+ */
+public class TaskKeysetPagination implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final String ID_COLUMN = "RES.ID_";
+    protected static final String TOKEN_SEPARATOR = "\n";
+
+    protected String column; // the order column before the id, null when only ordered by id
+    protected boolean descending;
+    protected boolean orderedById;
+    protected Object value;
+    protected String id;
+
+    /**
+     * Determines the keyset pagination order from the order by columns of a query.
+     *
+     * @param keysetColumns
+     *            the order columns, besides the id, supported for keyset pagination, mapped to the function giving the value of a task for the column
+     */
+    public static TaskKeysetPagination forOrder(String orderByColumns, String nullHandlingColumn, Map<String, Function<TaskInfo, Object>> keysetColumns) {
+        TaskKeysetPagination keysetPagination = new TaskKeysetPagination();
+        if (orderByColumns == null) {
+            // default order of the queries
+            keysetPagination.orderedById = true;
+            return keysetPagination;
+        }
+
+        String[] orderParts = orderByColumns.split(", ");
+        if (nullHandlingColumn != null || orderParts.length > 2) {
+            throw new FlowableIllegalArgumentException("Order by " + orderByColumns + " is not supported for keyset pagination");
+        }
+
+        Boolean firstDescending = null;
+        for (int i = 0; i < orderParts.length; i++) {
+            String[] columnAndDirection = orderParts[i].split(" ");
+            if (columnAndDirection.length != 2) {
+                throw new FlowableIllegalArgumentException("Order by " + orderByColumns + " is not supported for keyset pagination");
+            }
+
+            String orderColumn = columnAndDirection[0];
+            boolean orderDescending = ListQueryParameterObject.SORTORDER_DESC.equals(columnAndDirection[1]);
+            if (firstDescending != null && firstDescending != orderDescending) {
+                throw new FlowableIllegalArgumentException("Keyset pagination needs the same direction for all order columns: " + orderByColumns);
+            }
+            firstDescending = orderDescending;
+
+            if (ID_COLUMN.equals(orderColumn)) {
+                if (i != orderParts.length - 1) {
+                    throw new FlowableIllegalArgumentException("Keyset pagination needs the task id as last order column: " + orderByColumns);
+                }
+                keysetPagination.orderedById = true;
+
+            } else if (i == 0 && keysetColumns.containsKey(orderColumn)) {
+                keysetPagination.column = orderColumn;
+
+            } else {
+                throw new FlowableIllegalArgumentException("Order by " + orderColumn + " is not supported for keyset pagination");
+            }
+        }
+
+        keysetPagination.descending = firstDescending;
+        return keysetPagination;
+    }
+
+    public String createContinuationToken(TaskInfo task, Map<String, Function<TaskInfo, Object>> keysetColumns) {
+        StringBuilder token = new StringBuilder();
+        token.append(column != null ? column : ID_COLUMN).append(TOKEN_SEPARATOR);
+        token.append(descending ? ListQueryParameterObject.SORTORDER_DESC : ListQueryParameterObject.SORTORDER_ASC).append(TOKEN_SEPARATOR);
+        if (column != null) {
+            token.append(encodeValue(keysetColumns.get(column).apply(task)));
+        }
+        token.append(TOKEN_SEPARATOR).append(task.getId());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the values of the last task of the previous page from the given continuation token. A null or empty token means the first page.
+     */
+    public void readContinuationToken(String continuationToken) {
+        if (continuationToken == null || continuationToken.isEmpty()) {
+            return;
+        }
+
+        String[] tokenParts;
+        try {
+            tokenParts = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8).split(TOKEN_SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Invalid continuation token " + continuationToken, e);
+        }
+
+        if (tokenParts.length != 4) {
+            throw new FlowableIllegalArgumentException("Invalid continuation token " + continuationToken);
+        }
+
+        String tokenColumn = column != null ? column : ID_COLUMN;
+        String tokenDirection = descending ? ListQueryParameterObject.SORTORDER_DESC : ListQueryParameterObject.SORTORDER_ASC;
+        if (!tokenColumn.equals(tokenParts[0]) || !tokenDirection.equals(tokenParts[1])) {
+            throw new FlowableIllegalArgumentException("Continuation token was created for order by " + tokenParts[0] + " " + tokenParts[1]
+                    + " instead of " + tokenColumn + " " + tokenDirection);
+        }
+
+        if (column != null) {
+            value = decodeValue(tokenParts[2], continuationToken);
+        }
+        id = tokenParts[3];
+    }
+
+    protected String encodeValue(Object value) {
+        if (value instanceof Date) {
+            return "d" + ((Date) value).getTime();
+        } else if (value instanceof Integer) {
+            return "i" + value;
+        } else {
+            throw new FlowableIllegalArgumentException("Value " + value + " of order column " + column + " is not supported for keyset pagination");
+        }
+    }
+
+    protected Object decodeValue(String encodedValue, String continuationToken) {
+        try {
+            if (encodedValue.startsWith("d")) {
+                return new Date(Long.parseLong(encodedValue.substring(1)));
+            } else if (encodedValue.startsWith("i")) {
+                return Integer.valueOf(encodedValue.substring(1));
+            }
+        } catch (NumberFormatException e) {
+            throw new FlowableIllegalArgumentException("Invalid continuation token " + continuationToken, e);
+        }
+        throw new FlowableIllegalArgumentException("Invalid continuation token " + continuationToken);
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public boolean isOrderedById() {
+        return orderedById;
+    }
+
+    public String getOperator() {
+        return descending ? "<" : ">";
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+}
@@ -14,8 +14,12 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -27,6 +31,7 @@ import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.DelegationState;
+import org.flowable.task.api.TaskInfo;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -45,6 +50,13 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
     private static final long serialVersionUID = 1L;
 
+    protected static final Map<String, Function<TaskInfo, Object>> KEYSET_PAGINATION_COLUMNS = new HashMap<>();
+
+    static {
+        KEYSET_PAGINATION_COLUMNS.put(TaskQueryProperty.CREATE_TIME.getName(), TaskInfo::getCreateTime);
+        KEYSET_PAGINATION_COLUMNS.put(TaskQueryProperty.PRIORITY.getName(), TaskInfo::getPriority);
+    }
+
     protected String taskId;
     protected String name;
     protected String nameLike;
@@ -124,6 +136,9 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected String locale;
     protected boolean withLocalizationFallback;
     protected boolean orActive;
+    protected boolean keysetPaginationEnabled;
+    protected String continuationToken;
+    protected TaskKeysetPagination keysetPagination;
     protected List<TaskQueryImpl> orQueryObjects = new ArrayList<>();
     protected TaskQueryImpl currentOrQueryObject;
 
@@ -1590,6 +1605,33 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return orderBy(TaskQueryProperty.TENANT_ID);
     }
 
+    // keyset pagination ////////////////////////////////////////////////////
+
+    @Override
+    public TaskQuery continueAfter(String continuationToken) {
+        this.keysetPaginationEnabled = true;
+        this.continuationToken = continuationToken;
+        return this;
+    }
+
+    @Override
+    public String createContinuationToken(Task lastResult) {
+        return TaskKeysetPagination.forOrder(orderByColumns, nullHandlingColumn, KEYSET_PAGINATION_COLUMNS)
+                .createContinuationToken(lastResult, KEYSET_PAGINATION_COLUMNS);
+    }
+
+    @Override
+    protected void checkQueryOk() {
+        super.checkQueryOk();
+        if (keysetPaginationEnabled) {
+            keysetPagination = TaskKeysetPagination.forOrder(orderByColumns, nullHandlingColumn, KEYSET_PAGINATION_COLUMNS);
+            if (!keysetPagination.isOrderedById()) {
+                addOrder(TaskQueryProperty.TASK_ID.getName(), keysetPagination.isDescending() ? SORTORDER_DESC : SORTORDER_ASC, null);
+            }
+            keysetPagination.readContinuationToken(continuationToken);
+        }
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -1629,6 +1671,30 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    public void executeStream(CommandContext commandContext, Consumer<? super Task> consumer) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            // the related entities are joined in, which needs all results in memory to be grouped per task
+            super.executeStream(commandContext, consumer);
+            return;
+        }
+
+        ensureVariablesInitialized();
+        checkQueryOk();
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
+        }
+
+        boolean localize = taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization();
+        CommandContextUtil.getTaskEntityManager(commandContext).streamTasksByQueryCriteria(this, task -> {
+            if (localize) {
+                taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+            }
+            consumer.accept(task);
+        });
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -1692,6 +1758,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return ignoreAssigneeValue;
     }
 
+    public TaskKeysetPagination getKeysetPagination() {
+        return keysetPagination;
+    }
+
     public String getProcessInstanceId() {
         return processInstanceId;
     }
@@ -15,6 +15,7 @@ package org.flowable.task.service.impl.persistence.entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -159,6 +160,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
         return taskDataManager.findTasksByQueryCriteria(taskQuery);
     }
 
+    @Override
+    public void streamTasksByQueryCriteria(TaskQueryImpl taskQuery, Consumer<? super Task> consumer) {
+        taskDataManager.streamTasksByQueryCriteria(taskQuery, consumer);
+    }
+
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
         return taskDataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
@@ -14,6 +14,7 @@ package org.flowable.task.service.impl.persistence.entity.data;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.task.api.Task;
@@ -35,6 +36,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     List<Task> findTasksByQueryCriteria(TaskQueryImpl taskQuery);
 
+    void streamTasksByQueryCriteria(TaskQueryImpl taskQuery, Consumer<? super Task> consumer);
+
     List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery);
 
     long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
@@ -59,7 +60,8 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If all tasks of the execution have been fetched before (e.g. when prefetching a process instance), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetchedScope(TaskEntity.class, "execution", executionId)) {
             return getListFromCache(tasksByExecutionIdMatcher, executionId);
         }
         
@@ -72,7 +74,8 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         DbSqlSession dbSqlSession = getDbSqlSession();
 
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+        // If all tasks of the process instance have been fetched before (e.g. when prefetching it), they are all in the cache
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId) || isFetchedScope(TaskEntity.class, "processInstance", processInstanceId)) {
             return getListFromCache(tasksByProcessInstanceIdMatcher, processInstanceId);
         }
 
@@ -102,6 +105,11 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getDbSqlSession().selectList(query, taskQuery);
     }
 
+    @Override
+    public void streamTasksByQueryCriteria(TaskQueryImpl taskQuery, Consumer<? super Task> consumer) {
+        getDbSqlSession().selectWithCursor("selectTaskByQueryCriteria", taskQuery, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
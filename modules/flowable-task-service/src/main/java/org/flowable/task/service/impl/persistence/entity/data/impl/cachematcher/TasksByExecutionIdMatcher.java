@@ -12,17 +12,16 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Joram Barrez
  */
-public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<TaskEntity> {
 
-    @Override
-    public boolean isRetained(TaskEntity taskEntity, Object parameter) {
-        return taskEntity.getExecutionId() != null && parameter.equals(taskEntity.getExecutionId());
+    public TasksByExecutionIdMatcher() {
+        super("executionId", TaskEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}
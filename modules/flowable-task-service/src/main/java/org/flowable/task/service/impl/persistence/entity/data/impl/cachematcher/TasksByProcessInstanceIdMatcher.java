@@ -12,17 +12,16 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Filip Hrisafov
  */
-public class TasksByProcessInstanceIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByProcessInstanceIdMatcher extends IndexedCachedEntityMatcherAdapter<TaskEntity> {
 
-    @Override
-    public boolean isRetained(TaskEntity taskEntity, Object parameter) {
-        return taskEntity.getProcessInstanceId() != null && parameter.equals(taskEntity.getProcessInstanceId());
+    public TasksByProcessInstanceIdMatcher() {
+        super("processInstanceId", TaskEntity::getProcessInstanceId);
     }
 
 }
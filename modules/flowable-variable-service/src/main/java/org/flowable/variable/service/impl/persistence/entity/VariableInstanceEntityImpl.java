@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -25,7 +26,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -81,11 +82,13 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void forceUpdate() {
+        markDirty(forcedUpdate, true);
         forcedUpdate = true;
     }
     
     @Override
     public void setExecutionId(String executionId) {
+        markDirty(this.executionId, executionId);
         this.executionId = executionId;
     }
 
@@ -110,6 +113,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        if (byteArrayRef.getId() == null && bytes != null) {
+            markDirty(); // a new byte array will be referenced
+        }
         byteArrayRef.setValue("var-" + name, bytes);
     }
 
@@ -145,6 +151,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty(this.name, name);
         this.name = name;
     }
 
@@ -176,6 +183,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        markDirty(this.type, type);
         this.type = type;
     }
 
@@ -211,6 +219,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty(this.scopeId, scopeId);
         this.scopeId = scopeId;
     }
     
@@ -221,6 +230,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty(this.subScopeId, subScopeId);
         this.subScopeId = subScopeId;
     }
 
@@ -231,6 +241,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty(this.scopeType, scopeType);
         this.scopeType = scopeType;
     }
 
@@ -241,6 +252,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty(this.longValue, longValue);
         this.longValue = longValue;
     }
 
@@ -251,6 +263,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty(this.doubleValue, doubleValue);
         this.doubleValue = doubleValue;
     }
 
@@ -261,6 +274,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty(this.textValue, textValue);
         this.textValue = textValue;
     }
 
@@ -271,6 +285,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty(this.textValue2, textValue2);
         this.textValue2 = textValue2;
     }
 
@@ -12,7 +12,9 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +75,10 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     @Override
     public List<VariableInstanceEntity> findVariableInstancesByTaskId(String taskId) {
+        // If all variables of the task have been fetched before (e.g. when prefetching a process instance), they are all in the cache
+        if (isFetchedScope(VariableInstanceEntity.class, "task", taskId)) {
+            return getListFromCache(variableInstanceByTaskIdMatcher, taskId);
+        }
         return getList("selectVariablesByTaskId", taskId, variableInstanceByTaskIdMatcher, true);
     }
 
@@ -84,6 +90,9 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     @Override
     public List<VariableInstanceEntity> findVariableInstancesByExecutionId(final String executionId) {
+        if (isFetchedScope(VariableInstanceEntity.class, "execution", executionId)) {
+            return findCachedExecutionVariableInstances(executionId, null);
+        }
         return getList("selectVariablesByExecutionId", executionId, variableInstanceByExecutionIdMatcher, true);
     }
 
@@ -95,6 +104,11 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
+        if (isFetchedScope(VariableInstanceEntity.class, "execution", executionId)) {
+            List<VariableInstanceEntity> variableInstances = findCachedExecutionVariableInstances(executionId, Collections.singleton(variableName));
+            return !variableInstances.isEmpty() ? variableInstances.get(0) : null;
+        }
+
         Map<String, String> params = new HashMap<>(2);
         params.put("executionId", executionId);
         params.put("name", variableName);
@@ -104,6 +118,10 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     @Override
     @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names) {
+        if (isFetchedScope(VariableInstanceEntity.class, "execution", executionId)) {
+            return findCachedExecutionVariableInstances(executionId, names);
+        }
+
         Map<String, Object> params = new HashMap<>(2);
         params.put("executionId", executionId);
         params.put("names", names);
@@ -127,6 +145,17 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariableInstancesByTaskAndNames", params);
     }
     
+    protected List<VariableInstanceEntity> findCachedExecutionVariableInstances(String executionId, Collection<String> names) {
+        List<VariableInstanceEntity> variableInstances = new ArrayList<>();
+        for (VariableInstanceEntity variableInstance : getListFromCache(variableInstanceByExecutionIdMatcher, executionId)) {
+            // Same as the queries: task local variables are not execution variables
+            if (variableInstance.getTaskId() == null && (names == null || names.isEmpty() || names.contains(variableInstance.getName()))) {
+                variableInstances.add(variableInstance);
+            }
+        }
+        return variableInstances;
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
         Map<String, Object> params = new HashMap<>(2);
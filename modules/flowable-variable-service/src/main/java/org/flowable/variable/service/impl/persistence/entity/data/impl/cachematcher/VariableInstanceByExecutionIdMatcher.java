@@ -12,18 +12,16 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByExecutionIdMatcher extends IndexedCachedEntityMatcherAdapter<VariableInstanceEntity> {
 
-    @Override
-    public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
-        return variableInstanceEntity.getExecutionId() != null
-                && variableInstanceEntity.getExecutionId().equals((String) parameter);
+    public VariableInstanceByExecutionIdMatcher() {
+        super("executionId", VariableInstanceEntity::getExecutionId);
     }
 
-}
\ No newline at end of file
+}